@@ -8,6 +8,7 @@ import com.luminary.backpacks.data.PlayerDataManager;
 import com.luminary.backpacks.gui.BackpackGUI;
 import com.luminary.backpacks.hook.EconomyHook;
 import com.luminary.backpacks.listener.BackpackListener;
+import com.luminary.backpacks.listener.EnchantBreakListener;
 import com.luminary.backpacks.listener.InventoryListener;
 import com.luminary.backpacks.listener.MiningListener;
 import org.bukkit.Bukkit;
@@ -47,6 +48,10 @@ public class LuminaryBackpacks extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new BackpackListener(this), this);
         getServer().getPluginManager().registerEvents(new InventoryListener(this), this);
         getServer().getPluginManager().registerEvents(new MiningListener(this), this);
+        if (getServer().getPluginManager().isPluginEnabled("LuminaryEnchants")) {
+            // Picks up drops from enchant area breaks (Thor, Laser, ...)
+            getServer().getPluginManager().registerEvents(new EnchantBreakListener(this), this);
+        }
 
         // Register commands
         BackpackCommand bpCommand = new BackpackCommand(this);
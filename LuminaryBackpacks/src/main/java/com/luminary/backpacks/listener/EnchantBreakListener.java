@@ -0,0 +1,91 @@
+package com.luminary.backpacks.listener;
+
+import com.luminary.backpacks.LuminaryBackpacks;
+import com.luminary.backpacks.data.PlayerBackpackData;
+import com.luminary.enchants.api.events.PickEnchantMassBreakEvent;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Iterator;
+
+/**
+ * Auto-pickup for blocks broken by LuminaryEnchants area enchants.
+ * One call per proc, whatever the number of blocks.
+ * Runs at MONITOR so items are only stored once no other listener can cancel the break.
+ * Only registered when LuminaryEnchants is installed.
+ */
+public class EnchantBreakListener implements Listener {
+
+    private final LuminaryBackpacks plugin;
+
+    public EnchantBreakListener(LuminaryBackpacks plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMassBreak(PickEnchantMassBreakEvent event) {
+        Player player = event.getPlayer();
+
+        // Same checks as MiningListener
+        if (player.getGameMode() == GameMode.CREATIVE) {
+            return;
+        }
+        if (!plugin.getConfigManager().isAutoPickupEnabled()) {
+            return;
+        }
+        if (!player.hasPermission("luminarybackpacks.autopickup")) {
+            return;
+        }
+
+        PlayerBackpackData data = plugin.getPlayerDataManager().getPlayerData(player.getUniqueId());
+        if (data == null || !data.isAutoPickupEnabled()) {
+            return;
+        }
+
+        boolean sellableOnly = plugin.getConfigManager().isSellableOnly();
+
+        // Take what fits; the rest stays in the event for the enchant to hand out
+        Iterator<ItemStack> it = event.getDrops().iterator();
+        while (it.hasNext()) {
+            ItemStack drop = it.next();
+            if (sellableOnly && !plugin.getConfigManager().isSellable(drop.getType())) {
+                continue;
+            }
+
+            int amount = drop.getAmount();
+            int maxStack = Math.max(1, drop.getMaxStackSize());
+            int remaining = 0;
+            while (amount > 0) {
+                int stack = Math.min(maxStack, amount);
+                // Copy of the dropped item, so its meta is kept
+                int left = plugin.getBackpackManager().addItem(player, drop.asQuantity(stack));
+                amount -= stack;
+                if (left > 0) {
+                    // Backpack is full, keep the rest
+                    remaining = left + amount;
+                    break;
+                }
+            }
+
+            if (remaining > 0) {
+                drop.setAmount(remaining);
+            } else {
+                it.remove();
+            }
+        }
+
+        // Notify if backpack is full
+        if (!plugin.getBackpackManager().hasSpace(player)) {
+            // Only notify occasionally to avoid spam
+            if (System.currentTimeMillis() % 5000 < 100) {
+                player.sendMessage(LegacyComponentSerializer.legacyAmpersand()
+                        .deserialize(plugin.getConfigManager().getMessage("backpack-full")));
+            }
+        }
+    }
+}
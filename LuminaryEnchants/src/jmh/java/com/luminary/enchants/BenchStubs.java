@@ -0,0 +1,387 @@
+package com.luminary.enchants;
+
+import com.luminary.enchants.api.BeaconEffectProvider;
+import com.luminary.enchants.core.ConfigManager;
+import com.luminary.enchants.core.HookManager;
+import com.luminary.enchants.core.hooks.DefaultBeaconProvider;
+import com.luminary.enchants.item.PickaxeDataManager;
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.pickaxe.PickEnchantRegistry;
+import com.luminary.enchants.trigger.FeedbackAggregator;
+import com.luminary.enchants.trigger.ProcTelemetry;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.implementation.StubMethod;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stand-ins for the Bukkit objects the hot path touches, so benchmarks run
+ * without a server.
+ * <p>
+ * The methods the enchant code calls are written out below as plain Java, so
+ * calling them costs what a field read costs and allocates only where the
+ * server would too (a new Location, a new Block). The Bukkit interfaces have
+ * hundreds of other methods; ByteBuddy generates those once per stub class
+ * and they return null, 0 or false.
+ */
+public final class BenchStubs {
+
+    private static final Logger LOGGER = Logger.getLogger("Bench");
+    private static final Map<Class<?>, Class<?>> CONCRETE = new ConcurrentHashMap<>();
+    private static final MethodHandle NEW_BLOCK = constructor(StubBlock.class,
+            World.class, int.class, int.class, int.class).asType(
+            MethodType.methodType(Block.class, World.class, int.class, int.class, int.class));
+
+    private BenchStubs() {
+    }
+
+    /**
+     * A survival player with every permission, standing at 0, 64, 0.
+     */
+    public static Player player(UUID id, World world) {
+        return create(StubPlayer.class, new Class<?>[]{UUID.class, World.class}, id, world);
+    }
+
+    /**
+     * A flat, fully loaded world: {@code fill} up to and including {@code surfaceY}, air above.
+     */
+    public static World flatWorld(Material fill, int surfaceY) {
+        return create(StubWorld.class, new Class<?>[]{Material.class, int.class}, fill, surfaceY);
+    }
+
+    /**
+     * A block that reads its type from its world.
+     */
+    public static Block block(World world, int x, int y, int z) {
+        try {
+            return (Block) NEW_BLOCK.invokeExact(world, x, y, z);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * An item whose meta and persistent data live in memory. The server hands
+     * out a copy of the meta on every {@code getItemMeta}; this returns the same one.
+     */
+    public static ItemStack item(Material type) {
+        return new StubItem(type, create(StubMeta.class, new Class<?>[]{PersistentDataContainer.class},
+                create(StubDataContainer.class, new Class<?>[0])));
+    }
+
+    /**
+     * A plugin over the given enchants, with the real data manager, telemetry
+     * (left disabled) and feedback aggregator behind it, and the default beacon
+     * provider. The plugin object itself is a mock: the engine reads its getters
+     * when it is created, never while it runs.
+     */
+    public static LuminaryEnchants plugin(List<EnchantDefinition> definitions) {
+        installServer();
+
+        LuminaryEnchants plugin = mock(LuminaryEnchants.class);
+        ConfigManager config = mock(ConfigManager.class);
+        when(config.getMainConfig()).thenReturn(new YamlConfiguration());
+        when(config.getProfileCacheSize()).thenReturn(1024);
+        when(plugin.getName()).thenReturn("LuminaryEnchants");
+        when(plugin.getLogger()).thenReturn(LOGGER);
+        when(plugin.getConfigManager()).thenReturn(config);
+        when(plugin.getEnchantRegistry()).thenReturn(PickEnchantRegistry.of(definitions));
+        when(plugin.getHookManager()).thenReturn(new StubHooks(plugin));
+
+        PickaxeDataManager dataManager = new PickaxeDataManager(plugin);
+        ProcTelemetry telemetry = new ProcTelemetry(plugin);
+        FeedbackAggregator feedback = new FeedbackAggregator(plugin);
+        when(plugin.getPickaxeDataManager()).thenReturn(dataManager);
+        when(plugin.getProcTelemetry()).thenReturn(telemetry);
+        when(plugin.getFeedbackAggregator()).thenReturn(feedback);
+        return plugin;
+    }
+
+    private static synchronized void installServer() {
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(create(StubServer.class, new Class<?>[0]));
+        }
+    }
+
+    private static <T> T create(Class<T> type, Class<?>[] parameterTypes, Object... args) {
+        try {
+            return type.cast(concrete(type).getConstructor(parameterTypes).newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getSimpleName(), e);
+        }
+    }
+
+    private static MethodHandle constructor(Class<?> type, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(concrete(type),
+                    MethodType.methodType(void.class, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create " + type.getSimpleName(), e);
+        }
+    }
+
+    // The stub class with every method it leaves out generated as a no-op
+    private static Class<?> concrete(Class<?> type) {
+        return CONCRETE.computeIfAbsent(type, stub -> new ByteBuddy()
+                .subclass(stub)
+                .method(ElementMatchers.isAbstract())
+                .intercept(StubMethod.INSTANCE)
+                .make()
+                .load(stub.getClassLoader())
+                .getLoaded());
+    }
+
+    public abstract static class StubPlayer implements Player {
+        private final UUID id;
+        private final World world;
+
+        public StubPlayer(UUID id, World world) {
+            this.id = id;
+            this.world = world;
+        }
+
+        @Override
+        public UUID getUniqueId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return "Bench";
+        }
+
+        @Override
+        public GameMode getGameMode() {
+            return GameMode.SURVIVAL;
+        }
+
+        @Override
+        public boolean hasPermission(String name) {
+            return true;
+        }
+
+        @Override
+        public boolean isOnline() {
+            return true;
+        }
+
+        @Override
+        public World getWorld() {
+            return world;
+        }
+
+        @Override
+        public Location getLocation() {
+            return new Location(world, 0.5, 64, 0.5);
+        }
+    }
+
+    public abstract static class StubWorld implements World {
+        private final Material fill;
+        private final int surfaceY;
+
+        public StubWorld(Material fill, int surfaceY) {
+            this.fill = fill;
+            this.surfaceY = surfaceY;
+        }
+
+        @Override
+        public String getName() {
+            return "bench";
+        }
+
+        @Override
+        public int getMinHeight() {
+            return -64;
+        }
+
+        @Override
+        public int getMaxHeight() {
+            return 320;
+        }
+
+        @Override
+        public boolean isChunkLoaded(int x, int z) {
+            return true;
+        }
+
+        @Override
+        public Material getType(int x, int y, int z) {
+            return y <= surfaceY ? fill : Material.AIR;
+        }
+
+        @Override
+        public Block getBlockAt(int x, int y, int z) {
+            return block(this, x, y, z);
+        }
+    }
+
+    public abstract static class StubBlock implements Block {
+        private final World world;
+        private final int x, y, z;
+
+        public StubBlock(World world, int x, int y, int z) {
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        @Override
+        public int getX() {
+            return x;
+        }
+
+        @Override
+        public int getY() {
+            return y;
+        }
+
+        @Override
+        public int getZ() {
+            return z;
+        }
+
+        @Override
+        public World getWorld() {
+            return world;
+        }
+
+        @Override
+        public Material getType() {
+            return world.getType(x, y, z);
+        }
+
+        @Override
+        public Location getLocation() {
+            return new Location(world, x, y, z);
+        }
+    }
+
+    public abstract static class StubDataContainer implements PersistentDataContainer {
+        private final Map<NamespacedKey, Object> values = new HashMap<>();
+
+        @Override
+        public <T, Z> void set(NamespacedKey key, PersistentDataType<T, Z> type, Z value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public <T, Z> Z get(NamespacedKey key, PersistentDataType<T, Z> type) {
+            Object value = values.get(key);
+            return type.getComplexType().isInstance(value) ? type.getComplexType().cast(value) : null;
+        }
+
+        @Override
+        public void remove(NamespacedKey key) {
+            values.remove(key);
+        }
+    }
+
+    public abstract static class StubMeta implements ItemMeta {
+        private final PersistentDataContainer container;
+
+        public StubMeta(PersistentDataContainer container) {
+            this.container = container;
+        }
+
+        @Override
+        public PersistentDataContainer getPersistentDataContainer() {
+            return container;
+        }
+    }
+
+    public abstract static class StubServer implements Server {
+        @Override
+        public Logger getLogger() {
+            return LOGGER;
+        }
+
+        @Override
+        public String getName() {
+            return "Bench";
+        }
+
+        @Override
+        public String getVersion() {
+            return "bench";
+        }
+
+        @Override
+        public String getBukkitVersion() {
+            return "1.20.1-R0.1-SNAPSHOT";
+        }
+
+        @Override
+        public Collection<? extends Player> getOnlinePlayers() {
+            return Collections.emptyList();
+        }
+    }
+
+    // ItemStack is a class, so this one is complete as written
+    private static final class StubItem extends ItemStack {
+        private ItemMeta meta;
+
+        private StubItem(Material type, ItemMeta meta) {
+            super(type);
+            this.meta = meta;
+        }
+
+        @Override
+        public ItemMeta getItemMeta() {
+            return meta;
+        }
+
+        @Override
+        public boolean hasItemMeta() {
+            return meta != null;
+        }
+
+        @Override
+        public boolean setItemMeta(ItemMeta itemMeta) {
+            this.meta = itemMeta;
+            return true;
+        }
+    }
+
+    private static final class StubHooks extends HookManager {
+        private final BeaconEffectProvider beaconProvider = new DefaultBeaconProvider();
+
+        private StubHooks(LuminaryEnchants plugin) {
+            super(plugin);
+        }
+
+        @Override
+        public BeaconEffectProvider getBeaconProvider() {
+            return beaconProvider;
+        }
+    }
+}
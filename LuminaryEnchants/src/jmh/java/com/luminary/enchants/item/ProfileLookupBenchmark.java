@@ -0,0 +1,77 @@
+package com.luminary.enchants.item;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.luminary.enchants.BenchStubs;
+import com.luminary.enchants.LuminaryEnchants;
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.pickaxe.EnchantFixtures;
+import com.luminary.enchants.pickaxe.EnchantTrigger;
+import com.luminary.enchants.pickaxe.PickEnchantRegistry;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@link PickaxeDataManager#getProfile} costs on each path:
+ * {@code cacheHit} is the normal case (hash stored on the item, profile cached),
+ * {@code cacheMiss} decodes and compiles the binary format after the cache was
+ * cleared, and {@code legacyJsonParse} is the old JSON format the binary one replaced.
+ * The item's meta and persistent data are in-memory stubs, so the server's
+ * meta copy is not part of the numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProfileLookupBenchmark {
+
+    private static final Type ENCHANT_MAP_TYPE = new TypeToken<Map<String, Integer>>() {}.getType();
+
+    @Param({"3", "10", "30"})
+    public int enchantCount;
+
+    private final Gson gson = new Gson();
+    private PickaxeDataManager dataManager;
+    private PickEnchantRegistry registry;
+    private ItemStack pickaxe;
+    private String json;
+
+    @Setup
+    public void setup() {
+        List<EnchantDefinition> definitions = EnchantFixtures.definitions(30);
+        LuminaryEnchants plugin = BenchStubs.plugin(definitions);
+        dataManager = plugin.getPickaxeDataManager();
+        registry = plugin.getEnchantRegistry();
+
+        Random random = new Random(42);
+        Map<String, Integer> enchants = new HashMap<>();
+        pickaxe = BenchStubs.item(Material.DIAMOND_PICKAXE);
+        for (int i = 0; i < enchantCount; i++) {
+            int level = 1 + random.nextInt(1000);
+            enchants.put(definitions.get(i).getId(), level);
+            dataManager.setEnchant(pickaxe, definitions.get(i).getId(), level);
+        }
+        json = gson.toJson(enchants);
+    }
+
+    @Benchmark
+    public PickaxeProfile cacheHit() {
+        return dataManager.getProfile(pickaxe);
+    }
+
+    @Benchmark
+    public PickaxeProfile cacheMiss() {
+        dataManager.clearCache();
+        return dataManager.getProfile(pickaxe);
+    }
+
+    @Benchmark
+    public Object legacyJsonParse() {
+        Map<String, Integer> enchants = gson.fromJson(json, ENCHANT_MAP_TYPE);
+        return new PickaxeProfile(0L, enchants, registry).getEnchants(EnchantTrigger.BLOCK_BREAK);
+    }
+}
@@ -0,0 +1,48 @@
+package com.luminary.enchants.pickaxe;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upgrade pricing for a growing number of levels.
+ * {@code loop} is the old per-level sum, kept here as the baseline;
+ * {@code closedForm} and {@code affordableLevels} are what the menus use now.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UpgradeCostBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int levels;
+
+    @Param({"1.0", "1.01"})
+    public double exponentialFactor;
+
+    private EnchantDefinition definition;
+    private int currentLevel;
+    private long balance;
+
+    @Setup
+    public void setup() {
+        definition = EnchantFixtures.definition("bench", 1000, 150, exponentialFactor);
+        currentLevel = 50;
+        balance = definition.calculateUpgradeCost(currentLevel, levels);
+    }
+
+    @Benchmark
+    public long loop() {
+        return EnchantFixtures.loopCost(definition, currentLevel, levels);
+    }
+
+    @Benchmark
+    public long closedForm() {
+        return definition.calculateUpgradeCost(currentLevel, levels);
+    }
+
+    @Benchmark
+    public int affordableLevels() {
+        return definition.calculateAffordableLevels(currentLevel, definition.getMaxLevel() - currentLevel, balance);
+    }
+}
@@ -0,0 +1,67 @@
+package com.luminary.enchants.trigger;
+
+import com.luminary.enchants.BenchStubs;
+import com.luminary.enchants.LuminaryEnchants;
+import com.luminary.enchants.item.PickaxeDataManager;
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.pickaxe.EnchantFixtures;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One block break through {@link ProcEngine#processBlockBreak}: the profile
+ * lookup in {@code PickaxeDataManager}, the session, and for each enchant the
+ * anti-abuse and block checks, cooldown and rate limit, the chance roll and
+ * recording the procs that hit. The benchmark enchants have no effect class,
+ * so effects are left out; they are measured on their own.
+ * <p>
+ * The registry holds {@link #REGISTERED} enchants; {@code enchantCount} is how
+ * many of them the pickaxe has.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProcBreakBenchmark {
+
+    private static final int REGISTERED = 30;
+
+    @Param({"1", "3", "10", "30"})
+    public int enchantCount;
+
+    private ProcEngine engine;
+    private Player player;
+    private ItemStack pickaxe;
+    private Block block;
+
+    @Setup
+    public void setup() {
+        List<EnchantDefinition> definitions = EnchantFixtures.definitions(REGISTERED);
+        LuminaryEnchants plugin = BenchStubs.plugin(definitions);
+        engine = new ProcEngine(plugin);
+
+        World world = BenchStubs.flatWorld(Material.STONE, 63);
+        player = BenchStubs.player(UUID.randomUUID(), world);
+        block = BenchStubs.block(world, 0, 63, 0);
+
+        Random random = new Random(42);
+        List<EnchantDefinition> shuffled = new ArrayList<>(definitions);
+        Collections.shuffle(shuffled, random);
+        PickaxeDataManager dataManager = plugin.getPickaxeDataManager();
+        pickaxe = BenchStubs.item(Material.DIAMOND_PICKAXE);
+        for (int i = 0; i < enchantCount; i++) {
+            dataManager.setEnchant(pickaxe, shuffled.get(i).getId(), 1 + random.nextInt(100));
+        }
+    }
+
+    @Benchmark
+    public void processBlockBreak() {
+        engine.processBlockBreak(player, pickaxe, block, ProcEngine.ProcContext.BLOCK_BREAK);
+    }
+}
@@ -0,0 +1,78 @@
+package com.luminary.enchants.trigger;
+
+import com.luminary.enchants.pickaxe.CompiledEnchant;
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.pickaxe.EnchantFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-break cost of walking a pickaxe's BLOCK_BREAK enchants.
+ * <p>
+ * {@code registryScan} is the old dispatch: every registered enchant, with a
+ * map lookup for the level and the proc chance worked out each time.
+ * {@code compiledArray} walks the profile's precompiled array instead.
+ * The registry always holds {@link #REGISTERED} enchants; {@code enchantCount}
+ * is how many of them the pickaxe has.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProcDispatchBenchmark {
+
+    private static final int REGISTERED = 30;
+
+    @Param({"1", "3", "10", "30"})
+    public int enchantCount;
+
+    private List<EnchantDefinition> registry;
+    private Map<String, Integer> enchants;
+    private CompiledEnchant[] compiled;
+    private double multiplier;
+
+    @Setup
+    public void setup() {
+        registry = EnchantFixtures.definitions(REGISTERED);
+
+        // Spread the pickaxe's enchants across the registry
+        Random random = new Random(42);
+        List<EnchantDefinition> shuffled = new ArrayList<>(registry);
+        Collections.shuffle(shuffled, random);
+
+        enchants = new HashMap<>();
+        for (int i = 0; i < enchantCount; i++) {
+            enchants.put(shuffled.get(i).getId(), 1 + random.nextInt(100));
+        }
+
+        List<CompiledEnchant> list = new ArrayList<>();
+        for (int i = 0; i < registry.size(); i++) {
+            EnchantDefinition definition = registry.get(i);
+            Integer level = enchants.get(definition.getId());
+            if (level != null) {
+                list.add(new CompiledEnchant(definition, i, level));
+            }
+        }
+        compiled = list.toArray(new CompiledEnchant[0]);
+        multiplier = 1.0;
+    }
+
+    @Benchmark
+    public void registryScan(Blackhole blackhole) {
+        for (EnchantDefinition definition : registry) {
+            int level = enchants.getOrDefault(definition.getId(), 0);
+            if (level <= 0) continue;
+
+            blackhole.consume(definition.calculateProcChance(level, multiplier));
+        }
+    }
+
+    @Benchmark
+    public void compiledArray(Blackhole blackhole) {
+        for (CompiledEnchant enchant : compiled) {
+            blackhole.consume(enchant.getProcChance(multiplier));
+        }
+    }
+}
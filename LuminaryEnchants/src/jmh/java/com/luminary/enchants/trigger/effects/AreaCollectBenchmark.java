@@ -0,0 +1,78 @@
+package com.luminary.enchants.trigger.effects;
+
+import com.luminary.enchants.BenchStubs;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collecting the blocks of an area proc, up to the point where they would be broken.
+ * {@code blockList} is the old approach (a Block object per position in the cube);
+ * {@code massBreak} walks the cached shape kernel into a {@link MassBreak}.
+ * The center sits on the surface of a flat stone world, so about half the cube is air.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AreaCollectBenchmark {
+
+    @Param({"1", "2", "4"})
+    public int radius;
+
+    @Param({"CUBE", "SPHERE"})
+    public String shape;
+
+    private World world;
+    private Player player;
+    private Block center;
+    private ItemStack pickaxe;
+    private ShapeKernel kernel;
+    private int maxBlocks;
+
+    @Setup
+    public void setup() {
+        world = BenchStubs.flatWorld(Material.STONE, 63);
+        player = BenchStubs.player(UUID.randomUUID(), world);
+        center = BenchStubs.block(world, 8, 63, 8);
+        pickaxe = new ItemStack(Material.DIAMOND_PICKAXE);
+        kernel = ShapeKernel.of(ShapeKernel.Shape.valueOf(shape), radius);
+        maxBlocks = Integer.MAX_VALUE;
+    }
+
+    @Benchmark
+    public int blockList() {
+        List<Block> blocks = new ArrayList<>();
+        int cx = center.getX(), cy = center.getY(), cz = center.getZ();
+        for (int x = -radius; x <= radius; x++) {
+            for (int y = -radius; y <= radius; y++) {
+                for (int z = -radius; z <= radius; z++) {
+                    if (x == 0 && y == 0 && z == 0) continue;
+                    Block block = world.getBlockAt(cx + x, cy + y, cz + z);
+                    Material type = block.getType();
+                    if (!type.isAir() && type.getHardness() >= 0) {
+                        blocks.add(block);
+                    }
+                }
+            }
+        }
+        return blocks.size();
+    }
+
+    @Benchmark
+    public int massBreak() {
+        MassBreak massBreak = new MassBreak(player, "bench", center, pickaxe, null, maxBlocks);
+        int cx = center.getX(), cy = center.getY(), cz = center.getZ();
+        for (int i = 0; i < kernel.size() && !massBreak.isFull(); i++) {
+            massBreak.add(cx + kernel.dx(i), cy + kernel.dy(i), cz + kernel.dz(i));
+        }
+        return massBreak.size();
+    }
+}
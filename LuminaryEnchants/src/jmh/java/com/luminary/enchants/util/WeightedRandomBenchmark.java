@@ -0,0 +1,44 @@
+package com.luminary.enchants.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted selection as Rainbow uses it ({@code select} on a built table),
+ * and the {@code selectFromMap} helper, which rebuilds the table on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WeightedRandomBenchmark {
+
+    @Param({"4", "16", "64"})
+    public int entries;
+
+    private WeightedRandom<Integer> table;
+    private Map<Integer, Double> weights;
+
+    @Setup
+    public void setup() {
+        table = new WeightedRandom<>();
+        weights = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            double weight = 1.0 + i % 5;
+            table.add(i, weight);
+            weights.put(i, weight);
+        }
+    }
+
+    @Benchmark
+    public Integer select() {
+        return table.select();
+    }
+
+    @Benchmark
+    public Integer selectFromMap() {
+        return WeightedRandom.selectFromMap(weights);
+    }
+}
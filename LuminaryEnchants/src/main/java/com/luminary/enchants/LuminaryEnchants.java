@@ -6,7 +6,10 @@ import com.luminary.enchants.core.ServiceRegistry;
 import com.luminary.enchants.gui.MenuManager;
 import com.luminary.enchants.item.PickaxeDataManager;
 import com.luminary.enchants.pickaxe.PickEnchantRegistry;
+import com.luminary.enchants.trigger.EffectScheduler;
+import com.luminary.enchants.trigger.FeedbackAggregator;
 import com.luminary.enchants.trigger.ProcEngine;
+import com.luminary.enchants.trigger.ProcTelemetry;
 import com.luminary.enchants.trigger.PickaxeListener;
 import com.luminary.enchants.command.PickEnchantsCommand;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -20,8 +23,12 @@ public class LuminaryEnchants extends JavaPlugin {
     private PickEnchantRegistry enchantRegistry;
     private PickaxeDataManager pickaxeDataManager;
     private ProcEngine procEngine;
+    private EffectScheduler effectScheduler;
+    private FeedbackAggregator feedbackAggregator;
+    private ProcTelemetry procTelemetry;
     private MenuManager menuManager;
     private ServiceRegistry serviceRegistry;
+    private PickEnchantsCommand commandExecutor;
 
     @Override
     public void onEnable() {
@@ -38,6 +45,12 @@ public class LuminaryEnchants extends JavaPlugin {
         this.enchantRegistry = new PickEnchantRegistry(this);
         this.enchantRegistry.loadEnchants();
 
+        this.effectScheduler = new EffectScheduler(this);
+        this.effectScheduler.start();
+        this.feedbackAggregator = new FeedbackAggregator(this);
+        this.feedbackAggregator.start();
+        this.procTelemetry = new ProcTelemetry(this);
+        this.procTelemetry.start();
         this.procEngine = new ProcEngine(this);
         this.menuManager = new MenuManager(this);
 
@@ -47,7 +60,7 @@ public class LuminaryEnchants extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new PickaxeListener(this), this);
 
         // Register commands
-        PickEnchantsCommand commandExecutor = new PickEnchantsCommand(this);
+        commandExecutor = new PickEnchantsCommand(this);
         getCommand("pickenchants").setExecutor(commandExecutor);
         getCommand("pickenchants").setTabCompleter(commandExecutor);
 
@@ -72,12 +85,28 @@ public class LuminaryEnchants extends JavaPlugin {
         if (menuManager != null) {
             menuManager.closeAll();
         }
+        if (commandExecutor != null) {
+            commandExecutor.cancelSimulation();
+        }
+        if (effectScheduler != null) {
+            effectScheduler.stop();
+        }
+        if (feedbackAggregator != null) {
+            feedbackAggregator.stop();
+        }
+        if (procTelemetry != null) {
+            procTelemetry.stop();
+        }
         getLogger().info("LuminaryEnchants has been disabled!");
     }
 
     public void reload() {
         configManager.loadAll();
         enchantRegistry.loadEnchants();
+        pickaxeDataManager.clearCache();
+        effectScheduler.loadSettings();
+        feedbackAggregator.loadSettings();
+        procTelemetry.loadSettings();
         hookManager.initialize();
         getLogger().info("LuminaryEnchants configuration reloaded!");
     }
@@ -106,6 +135,18 @@ public class LuminaryEnchants extends JavaPlugin {
         return procEngine;
     }
 
+    public EffectScheduler getEffectScheduler() {
+        return effectScheduler;
+    }
+
+    public FeedbackAggregator getFeedbackAggregator() {
+        return feedbackAggregator;
+    }
+
+    public ProcTelemetry getProcTelemetry() {
+        return procTelemetry;
+    }
+
     public MenuManager getMenuManager() {
         return menuManager;
     }
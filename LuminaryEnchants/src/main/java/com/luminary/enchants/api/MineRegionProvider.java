@@ -1,6 +1,7 @@
 package com.luminary.enchants.api;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
 /**
@@ -27,6 +28,43 @@ public interface MineRegionProvider {
      */
     boolean canPlayerBreakAt(Player player, Location location);
 
+    /**
+     * Called after an enchant has broken a block, so the mine plugin can
+     * keep its block counters in sync without rescanning the mine.
+     *
+     * @param location The location of the broken block
+     */
+    default void onBlockBroken(Location location) {
+    }
+
+    /**
+     * Resolve where a player may break around a point, so an area effect can
+     * check every block without going back to the provider each time.
+     * The default checks {@link #canPlayerBreakAt} per block.
+     *
+     * @param player The player
+     * @param origin The block the effect started from
+     * @return the region the player may break in
+     */
+    default BreakRegion resolveBreakRegion(Player player, Location origin) {
+        World world = origin.getWorld();
+        return (x, y, z) -> canPlayerBreakAt(player, new Location(world, x, y, z));
+    }
+
+    /**
+     * Called after an enchant has broken many blocks at once.
+     * The default calls {@link #onBlockBroken} for each block.
+     *
+     * @param world The world the blocks were in
+     * @param coords Block coordinates as x, y, z triples
+     * @param count The number of blocks
+     */
+    default void onBlocksBroken(World world, int[] coords, int count) {
+        for (int i = 0; i < count; i++) {
+            onBlockBroken(new Location(world, coords[i * 3], coords[i * 3 + 1], coords[i * 3 + 2]));
+        }
+    }
+
     /**
      * Check if this provider is available.
      */
@@ -36,4 +74,16 @@ public interface MineRegionProvider {
      * Get the provider name.
      */
     String getProviderName();
+
+    /**
+     * Blocks a player may break, resolved once per area effect.
+     */
+    @FunctionalInterface
+    interface BreakRegion {
+
+        BreakRegion ANYWHERE = (x, y, z) -> true;
+        BreakRegion NOWHERE = (x, y, z) -> false;
+
+        boolean contains(int x, int y, int z);
+    }
 }
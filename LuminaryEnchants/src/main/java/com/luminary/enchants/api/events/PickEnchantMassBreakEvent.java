@@ -0,0 +1,122 @@
+package com.luminary.enchants.api.events;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Called once when an enchant proc is about to break a batch of blocks
+ * (Thor, Laser, Tower, etc.), instead of a BlockBreakEvent per block.
+ * <p>
+ * The blocks are still in place when this fires. Drops are the aggregated
+ * totals the player will get, similar items merged into one stack whose amount
+ * may go past the max stack size. Listeners may take items out of (or add to)
+ * the list, e.g. to store them in a backpack, and only what is left is handed
+ * out. A listener that keeps the items it takes should run at MONITOR with
+ * ignoreCancelled, so the break can no longer be cancelled once they are stored.
+ */
+public class PickEnchantMassBreakEvent extends Event implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Player player;
+    private final String enchantId;
+    private final ItemStack pickaxe;
+    private final World world;
+    private final int[] coords;
+    private final int blockCount;
+    private final List<ItemStack> drops;
+    private boolean cancelled;
+
+    public PickEnchantMassBreakEvent(Player player, String enchantId, ItemStack pickaxe, World world,
+                                     int[] coords, int blockCount, List<ItemStack> drops) {
+        this.player = player;
+        this.enchantId = enchantId;
+        this.pickaxe = pickaxe;
+        this.world = world;
+        this.coords = coords;
+        this.blockCount = blockCount;
+        this.drops = drops;
+        this.cancelled = false;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public String getEnchantId() {
+        return enchantId;
+    }
+
+    public ItemStack getPickaxe() {
+        return pickaxe;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Get the number of blocks being broken.
+     */
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    public int getX(int index) {
+        return coords[index * 3];
+    }
+
+    public int getY(int index) {
+        return coords[index * 3 + 1];
+    }
+
+    public int getZ(int index) {
+        return coords[index * 3 + 2];
+    }
+
+    /**
+     * Get the blocks as Block objects. Prefer the index getters in hot listeners.
+     */
+    public List<Block> getBlocks() {
+        List<Block> blocks = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            blocks.add(world.getBlockAt(getX(i), getY(i), getZ(i)));
+        }
+        return blocks;
+    }
+
+    /**
+     * Get the aggregated drops. This list and its stacks are live and may be modified.
+     */
+    public List<ItemStack> getDrops() {
+        return drops;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancel) {
+        this.cancelled = cancel;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,98 @@
+package com.luminary.enchants.api.events;
+
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Called once after a block break (or interact) with every enchant that procced
+ * for it, including Second Hand re-rolls. Fires after the effects have run, so
+ * it can't be cancelled; use {@link PickEnchantProcEvent} to stop a single proc.
+ * <p>
+ * Only built when something listens to it.
+ */
+public class PickEnchantProcBatchEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Player player;
+    private final ItemStack pickaxe;
+    private final Block block;
+    private final PickEnchantProcEvent.ProcContext context;
+    private final String[] enchantIds;
+    private final int[] levels;
+
+    public PickEnchantProcBatchEvent(Player player, ItemStack pickaxe, @Nullable Block block,
+                                     PickEnchantProcEvent.ProcContext context,
+                                     String[] enchantIds, int[] levels) {
+        this.player = player;
+        this.pickaxe = pickaxe;
+        this.block = block;
+        this.context = context;
+        this.enchantIds = enchantIds;
+        this.levels = levels;
+    }
+
+    /**
+     * Check if anything listens to this event, so callers can skip building it.
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public ItemStack getPickaxe() {
+        return pickaxe;
+    }
+
+    @Nullable
+    public Block getBlock() {
+        return block;
+    }
+
+    public PickEnchantProcEvent.ProcContext getContext() {
+        return context;
+    }
+
+    /**
+     * Get the number of procs in this batch.
+     */
+    public int getProcCount() {
+        return enchantIds.length;
+    }
+
+    public String getEnchantId(int index) {
+        return enchantIds[index];
+    }
+
+    public int getLevel(int index) {
+        return levels[index];
+    }
+
+    /**
+     * Get the ids of the enchants that procced, in proc order. An enchant appears twice if Second Hand re-rolled it.
+     */
+    public List<String> getEnchantIds() {
+        return Collections.unmodifiableList(Arrays.asList(enchantIds));
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
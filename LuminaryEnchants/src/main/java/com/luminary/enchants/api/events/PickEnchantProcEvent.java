@@ -35,6 +35,13 @@ public class PickEnchantProcEvent extends Event implements Cancellable {
         this.cancelled = false;
     }
 
+    /**
+     * Check if anything listens to this event, so callers can skip building it.
+     */
+    public static boolean hasListeners() {
+        return HANDLERS.getRegisteredListeners().length > 0;
+    }
+
     public Player getPlayer() {
         return player;
     }
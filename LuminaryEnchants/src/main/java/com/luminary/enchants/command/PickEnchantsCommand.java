@@ -2,7 +2,14 @@ package com.luminary.enchants.command;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.pickaxe.EnchantTrigger;
+import com.luminary.enchants.sim.EnchantSimulator;
+import com.luminary.enchants.sim.LevelDistribution;
+import com.luminary.enchants.sim.SimulationResult;
+import com.luminary.enchants.trigger.EffectScheduler;
+import com.luminary.enchants.trigger.ProcTelemetry;
 import com.luminary.enchants.util.TextUtil;
+import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -14,7 +21,10 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +34,12 @@ public class PickEnchantsCommand implements CommandExecutor, TabCompleter {
 
     private final LuminaryEnchants plugin;
 
+    // Cap on players x swings/s x seconds x trials for one simulation, a few minutes of work at most
+    private static final double MAX_SIMULATED_SWINGS = 500_000_000.0;
+
+    // One simulation at a time, on all cores but one; null when none is running
+    private EnchantSimulator runningSimulation;
+
     public PickEnchantsCommand(LuminaryEnchants plugin) {
         this.plugin = plugin;
     }
@@ -56,6 +72,10 @@ public class PickEnchantsCommand implements CommandExecutor, TabCompleter {
             case "clear" -> handleClear(sender);
             case "list" -> handleList(sender);
             case "info" -> handleInfo(sender, args);
+            case "queue" -> handleQueue(sender);
+            case "stats" -> handleStats(sender, args);
+            case "simulate" -> handleSimulate(sender, args);
+            case "upgrade" -> handleUpgrade(sender, args);
             default -> {
                 sender.sendMessage(TextUtil.colorize("&cUnknown subcommand: " + subCommand));
                 sendHelp(sender);
@@ -194,11 +214,334 @@ public class PickEnchantsCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(TextUtil.colorize("&7Base Proc Chance: &f" + TextUtil.formatPercent(def.getProcChanceBase())));
     }
 
+    private void handleUpgrade(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(TextUtil.colorize("&cThis command can only be used by players!"));
+            return;
+        }
+
+        if (!player.hasPermission("luminaryenchants.use")) {
+            player.sendMessage(TextUtil.colorize("&cYou don't have permission to use this!"));
+            return;
+        }
+
+        if (args.length < 2) {
+            sender.sendMessage(TextUtil.colorize("&cUsage: /pickenchants upgrade <enchant> [levels|max]"));
+            return;
+        }
+
+        String enchantId = args[1].toLowerCase();
+        EnchantDefinition definition = plugin.getEnchantRegistry().getEnchant(enchantId);
+        if (definition == null) {
+            sender.sendMessage(TextUtil.colorize("&cUnknown enchant: " + enchantId));
+            return;
+        }
+
+        ItemStack pickaxe = player.getInventory().getItemInMainHand();
+        if (!plugin.getPickaxeDataManager().isPickaxe(pickaxe)) {
+            sender.sendMessage(TextUtil.colorize("&cYou must hold a pickaxe!"));
+            return;
+        }
+
+        int currentLevel = plugin.getPickaxeDataManager().getEnchantLevel(pickaxe, enchantId);
+        int levelsRemaining = definition.getMaxLevel() - currentLevel;
+        if (levelsRemaining <= 0) {
+            sender.sendMessage(TextUtil.colorize("&cThis enchant is already at max level!"));
+            return;
+        }
+
+        int levels;
+        if (args.length < 3 || args[2].equalsIgnoreCase("max")) {
+            // As many levels as the balance covers
+            if (!plugin.getHookManager().isTokenEconomyAvailable()) {
+                sender.sendMessage(TextUtil.colorize("&cToken economy is unavailable!"));
+                return;
+            }
+            long balance = plugin.getHookManager().getTokenEconomy().get(player.getUniqueId());
+            levels = definition.calculateAffordableLevels(currentLevel, levelsRemaining, balance);
+            if (levels <= 0) {
+                sender.sendMessage(TextUtil.colorize("&cInsufficient tokens! Next level costs " +
+                        TextUtil.formatNumber(definition.calculateUpgradeCost(currentLevel, 1)) + " tokens."));
+                return;
+            }
+        } else {
+            try {
+                levels = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(TextUtil.colorize("&cInvalid levels: " + args[2]));
+                return;
+            }
+            if (levels <= 0) {
+                sender.sendMessage(TextUtil.colorize("&cLevels must be at least 1"));
+                return;
+            }
+            levels = Math.min(levels, levelsRemaining);
+        }
+
+        plugin.getMenuManager().openUpgradeConfirmMenu(player, enchantId, levels);
+    }
+
+    private void handleQueue(CommandSender sender) {
+        if (!sender.hasPermission("luminaryenchants.admin")) {
+            sender.sendMessage(TextUtil.colorize("&cYou don't have permission to use this!"));
+            return;
+        }
+
+        EffectScheduler scheduler = plugin.getEffectScheduler();
+        sender.sendMessage(TextUtil.colorize("&5&l=== Effect Queue ==="));
+        sender.sendMessage(TextUtil.colorize("&7Backlog: &f" + scheduler.getReadyCount() + " due &7(" +
+                scheduler.getQueuedPlayerCount() + " players), &f" + scheduler.getDelayedCount() + " waiting"));
+        sender.sendMessage(TextUtil.colorize("&7Last tick: &f" + scheduler.getLastTickRun() + " units, " +
+                scheduler.getLastTickBlocks() + " blocks, " +
+                String.format("%.2f", scheduler.getLastTickNanos() / 1_000_000.0) + "ms"));
+        sender.sendMessage(TextUtil.colorize("&7Budget: &f" +
+                String.format("%.2f", scheduler.getMaxNanosPerTick() / 1_000_000.0) + "ms, " +
+                (scheduler.getMaxBlocksPerTick() > 0 ? scheduler.getMaxBlocksPerTick() + " blocks" : "no block limit") +
+                " &7per tick"));
+        sender.sendMessage(TextUtil.colorize("&7Total run: &f" + scheduler.getTotalRun()));
+        sender.sendMessage(TextUtil.colorize("&7Deferred: &f" + scheduler.getTotalDeferred() +
+                " &7(max lag &f" + scheduler.getMaxLagTicks() + " ticks&7)"));
+        sender.sendMessage(TextUtil.colorize("&7Dropped: &f" + scheduler.getTotalDropped()));
+    }
+
+    private void handleStats(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("luminaryenchants.admin")) {
+            sender.sendMessage(TextUtil.colorize("&cYou don't have permission to use this!"));
+            return;
+        }
+
+        ProcTelemetry telemetry = plugin.getProcTelemetry();
+        if (!telemetry.isEnabled()) {
+            sender.sendMessage(TextUtil.colorize("&cTelemetry is disabled in config.yml"));
+            return;
+        }
+
+        String arg = args.length > 1 ? args[1].toLowerCase() : "1m";
+        if (!arg.equals("1m") && !arg.equals("15m")) {
+            handleEnchantStats(sender, telemetry, arg);
+            return;
+        }
+
+        int minutes = arg.equals("15m") ? 15 : 1;
+        List<String> ids = new ArrayList<>();
+        List<ProcTelemetry.Window> windows = new ArrayList<>();
+        for (String id : plugin.getEnchantRegistry().getEnchantIds()) {
+            ProcTelemetry.Window window = telemetry.window(plugin.getEnchantRegistry().getOrdinal(id), minutes);
+            if (!window.isEmpty()) {
+                ids.add(id);
+                windows.add(window);
+            }
+        }
+
+        sender.sendMessage(TextUtil.colorize("&5&l=== Enchant Stats (last " + arg + ") ==="));
+        if (ids.isEmpty()) {
+            sender.sendMessage(TextUtil.colorize("&7No enchant activity yet."));
+            return;
+        }
+
+        // Most main thread time first
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong((Integer i) -> windows.get(i).getTotalNanos()).reversed());
+
+        for (int i = 0; i < Math.min(10, order.size()); i++) {
+            ProcTelemetry.Window window = windows.get(order.get(i));
+            sender.sendMessage(TextUtil.colorize("&f" + ids.get(order.get(i)) +
+                    " &7time &f" + TextUtil.formatPercent(window.getTickShare()) +
+                    " &7| procs &f" + TextUtil.formatNumber(window.getRolls()) +
+                    "&7/" + TextUtil.formatNumber(window.getAttempts()) +
+                    " &7| blocks &f" + TextUtil.formatNumber(window.getBlocks()) +
+                    " &7| p99 &f" + formatMillis(window.percentileNanos(0.99))));
+        }
+        if (order.size() > 10) {
+            sender.sendMessage(TextUtil.colorize("&7...and " + (order.size() - 10) + " more"));
+        }
+        sender.sendMessage(TextUtil.colorize("&7Use &f/pickenchants stats <enchant> &7for details"));
+    }
+
+    private void handleEnchantStats(CommandSender sender, ProcTelemetry telemetry, String enchantId) {
+        if (!plugin.getEnchantRegistry().hasEnchant(enchantId)) {
+            sender.sendMessage(TextUtil.colorize("&cUnknown enchant: " + enchantId));
+            return;
+        }
+
+        int ordinal = plugin.getEnchantRegistry().getOrdinal(enchantId);
+        sender.sendMessage(TextUtil.colorize("&5&l=== " + enchantId + " Stats ==="));
+        for (int minutes : new int[]{1, 15}) {
+            ProcTelemetry.Window window = telemetry.window(ordinal, minutes);
+            double seconds = window.getSeconds();
+
+            sender.sendMessage(TextUtil.colorize("&d&lLast " + minutes + "m &7(" +
+                    TextUtil.formatDuration((long) (seconds * 1000)) + ")"));
+            sender.sendMessage(TextUtil.colorize("&7Attempts: &f" + TextUtil.formatNumber(window.getAttempts()) +
+                    " &7Procs: &f" + TextUtil.formatNumber(window.getRolls()) +
+                    " &7(" + TextUtil.formatDecimal(window.getRolls() / seconds) + "/s)" +
+                    " &7Cancelled: &f" + TextUtil.formatNumber(window.getCancelled())));
+            sender.sendMessage(TextUtil.colorize("&7Effects: &f" + TextUtil.formatNumber(window.getExecuted()) +
+                    " &7run, &f" + TextUtil.formatNumber(window.getErrors()) + " &7errors, &f" +
+                    TextUtil.formatPercent(window.getTickShare()) + " &7of main thread time"));
+            long executed = window.getExecuted();
+            sender.sendMessage(TextUtil.colorize("&7Effect time: avg &f" +
+                    formatMillis(executed > 0 ? window.getExecNanos() / executed : 0) +
+                    " &7p50 &f" + formatMillis(window.percentileNanos(0.5)) +
+                    " &7p99 &f" + formatMillis(window.percentileNanos(0.99)) +
+                    " &7max &f" + formatMillis(window.getMaxNanos())));
+            long queued = window.getQueuedRuns();
+            if (queued > 0) {
+                sender.sendMessage(TextUtil.colorize("&7Queued work: &f" + TextUtil.formatNumber(queued) +
+                        " &7runs, avg &f" + formatMillis(window.getQueuedNanos() / queued) +
+                        " &7total &f" + formatMillis(window.getQueuedNanos())));
+            }
+            sender.sendMessage(TextUtil.colorize("&7Blocks: &f" + TextUtil.formatNumber(window.getBlocks()) +
+                    " &7(" + TextUtil.formatDecimal(window.getBlocks() / seconds) + "/s)"));
+        }
+    }
+
+    private void handleSimulate(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("luminaryenchants.admin")) {
+            sender.sendMessage(TextUtil.colorize("&cYou don't have permission to use this!"));
+            return;
+        }
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("cancel")) {
+            if (runningSimulation == null) {
+                sender.sendMessage(TextUtil.colorize("&cNo simulation is running."));
+                return;
+            }
+            cancelSimulation();
+            sender.sendMessage(TextUtil.colorize("&aSimulation cancelled."));
+            return;
+        }
+
+        if (args.length < 4) {
+            sender.sendMessage(TextUtil.colorize(
+                    "&cUsage: /pickenchants simulate <players> <swings/s> <hours> [levels] [trials]"));
+            sender.sendMessage(TextUtil.colorize("&7Levels: &f250&7, &f1-500&7, &f50% &7or &f10-100% &7of max level"));
+            return;
+        }
+
+        if (runningSimulation != null) {
+            sender.sendMessage(TextUtil.colorize("&cA simulation is already running! &7(/pickenchants simulate cancel)"));
+            return;
+        }
+
+        EnchantSimulator.Settings settings;
+        try {
+            int players = Integer.parseInt(args[1]);
+            double swingsPerSecond = Double.parseDouble(args[2]);
+            double hours = Double.parseDouble(args[3]);
+            LevelDistribution levels = LevelDistribution.parse(args.length > 4 ? args[4] : "10-100%");
+            int trials = args.length > 5 ? Integer.parseInt(args[5]) : 8;
+
+            settings = new EnchantSimulator.Settings(players, swingsPerSecond, hours * 3600.0, levels)
+                    .trials(trials);
+            if (settings.getTotalSwings() > MAX_SIMULATED_SWINGS) {
+                sender.sendMessage(TextUtil.colorize("&cToo much work: players x swings/s x seconds x trials is &f" +
+                        TextUtil.formatNumber((long) settings.getTotalSwings()) + "&c, the limit is &f" +
+                        TextUtil.formatNumber((long) MAX_SIMULATED_SWINGS) + "&c."));
+                return;
+            }
+        } catch (NumberFormatException e) {
+            sender.sendMessage(TextUtil.colorize("&cInvalid number: " + e.getMessage()));
+            return;
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(TextUtil.colorize("&c" + e.getMessage()));
+            return;
+        }
+
+        EnchantSimulator simulator = new EnchantSimulator(
+                plugin.getEnchantRegistry().getEnchantsByTrigger(EnchantTrigger.BLOCK_BREAK),
+                plugin.getConfigManager().getMaxBlocksPerProc());
+
+        runningSimulation = simulator;
+        sender.sendMessage(TextUtil.colorize("&7Simulating " + settings.getTrials() + " trials..."));
+
+        // Off the main thread, on a pool of its own that leaves a core for the server; results come back to the main thread
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+            SimulationResult result = null;
+            try {
+                result = simulator.run(settings, pool);
+            } catch (CancellationException e) {
+                return; // already reported by cancel
+            } catch (Exception e) {
+                plugin.getLogger().warning("Simulation failed: " + e.getMessage());
+            } finally {
+                pool.shutdownNow();
+            }
+
+            SimulationResult finished = result;
+            if (!plugin.isEnabled()) {
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (runningSimulation != simulator) {
+                    return; // cancelled while the result was on its way
+                }
+                runningSimulation = null;
+                if (finished == null) {
+                    sender.sendMessage(TextUtil.colorize("&cSimulation failed, see console."));
+                } else {
+                    sendSimulationResult(sender, finished);
+                }
+            });
+        });
+    }
+
+    /**
+     * Stop the running simulation, if any. Its workers stop within a few thousand swings.
+     */
+    public void cancelSimulation() {
+        if (runningSimulation != null) {
+            runningSimulation.cancel();
+            runningSimulation = null;
+        }
+    }
+
+    private void sendSimulationResult(CommandSender sender, SimulationResult result) {
+        EnchantSimulator.Settings settings = result.getSettings();
+        sender.sendMessage(TextUtil.colorize("&5&l=== Simulation ==="));
+        sender.sendMessage(TextUtil.colorize("&f" + settings.getPlayers() + " &7players, &f" +
+                TextUtil.formatDecimal(settings.getSwingsPerSecond()) + " &7swings/s, &f" +
+                TextUtil.formatDecimal(settings.getDurationSeconds() / 3600.0) + "h&7, " + settings.getLevels()));
+
+        List<SimulationResult.Row> rows = result.getRows();
+        for (int i = 0; i < Math.min(10, rows.size()); i++) {
+            SimulationResult.Row row = rows.get(i);
+            sender.sendMessage(TextUtil.colorize("&f" + row.getId() +
+                    " &7procs/s &f" + formatRate(row.getProcsPerSecond()) +
+                    " &7| blocks/s &f" + formatRate(row.getBlocksPerSecond()) +
+                    " &7| tokens/h &f" + formatRate(row.getTokensPerHour())));
+        }
+        if (rows.size() > 10) {
+            sender.sendMessage(TextUtil.colorize("&7...and " + (rows.size() - 10) + " more"));
+        }
+
+        sender.sendMessage(TextUtil.colorize("&7Total: &f" + formatRate(result.getTotalProcsPerSecond()) +
+                " &7procs/s, &f" + formatRate(result.getTotalBlocksPerSecond()) + " &7enchant blocks/s (+&f" +
+                formatRate(result.getHandBlocksPerSecond()) + " &7by hand), &f" +
+                formatRate(result.getTotalTokensPerHour()) + " &7tokens/h"));
+        sender.sendMessage(TextUtil.colorize("&7Simulated &f" +
+                TextUtil.formatNumber((long) result.getSimulatedPlayerHours()) + " &7player-hours in &f" +
+                TextUtil.formatDecimal(result.getWallMillis() / 1000.0) + "s"));
+    }
+
+    private static String formatRate(SimulationResult.Rate rate) {
+        return TextUtil.formatDecimal(rate.getMean()) + "±" + TextUtil.formatDecimal(rate.getMargin());
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0) + "ms";
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(TextUtil.colorize("&5&l=== LuminaryEnchants Help ==="));
         sender.sendMessage(TextUtil.colorize("&7/pickenchants &f- Open the enchant menu"));
         sender.sendMessage(TextUtil.colorize("&7/pickenchants list &f- List all enchants"));
         sender.sendMessage(TextUtil.colorize("&7/pickenchants info <enchant> &f- View enchant details"));
+        sender.sendMessage(TextUtil.colorize("&7/pickenchants upgrade <enchant> [levels|max] &f- Upgrade an enchant"));
 
         if (sender.hasPermission("luminaryenchants.reload")) {
             sender.sendMessage(TextUtil.colorize("&7/pickenchants reload &f- Reload configuration"));
@@ -207,6 +550,10 @@ public class PickEnchantsCommand implements CommandExecutor, TabCompleter {
         if (sender.hasPermission("luminaryenchants.admin")) {
             sender.sendMessage(TextUtil.colorize("&7/pickenchants apply <enchant> <level> &f- Apply enchant"));
             sender.sendMessage(TextUtil.colorize("&7/pickenchants clear &f- Clear all enchants"));
+            sender.sendMessage(TextUtil.colorize("&7/pickenchants queue &f- Show effect queue stats"));
+            sender.sendMessage(TextUtil.colorize("&7/pickenchants stats [1m|15m|enchant] &f- Show per-enchant proc stats"));
+            sender.sendMessage(TextUtil.colorize("&7/pickenchants simulate <players> <swings/s> <hours> [levels] [trials] &f- Estimate enchant load and token output"));
+            sender.sendMessage(TextUtil.colorize("&7/pickenchants simulate cancel &f- Stop the running simulation"));
         }
     }
 
@@ -217,13 +564,13 @@ public class PickEnchantsCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
 
         if (args.length == 1) {
-            List<String> subCommands = new ArrayList<>(Arrays.asList("list", "info"));
+            List<String> subCommands = new ArrayList<>(Arrays.asList("list", "info", "upgrade"));
 
             if (sender.hasPermission("luminaryenchants.reload")) {
                 subCommands.add("reload");
             }
             if (sender.hasPermission("luminaryenchants.admin")) {
-                subCommands.addAll(Arrays.asList("apply", "clear"));
+                subCommands.addAll(Arrays.asList("apply", "clear", "queue", "stats", "simulate"));
             }
 
             String partial = args[0].toLowerCase();
@@ -234,11 +581,20 @@ public class PickEnchantsCommand implements CommandExecutor, TabCompleter {
         } else if (args.length == 2) {
             String subCommand = args[0].toLowerCase();
 
-            if (subCommand.equals("apply") || subCommand.equals("info")) {
+            if (subCommand.equals("apply") || subCommand.equals("info") || subCommand.equals("upgrade")) {
                 String partial = args[1].toLowerCase();
                 completions = plugin.getEnchantRegistry().getEnchantIds().stream()
                         .filter(id -> id.startsWith(partial))
                         .collect(Collectors.toList());
+            } else if (subCommand.equals("simulate")) {
+                completions = Arrays.asList("50", "100", "500", "cancel");
+            } else if (subCommand.equals("stats") && sender.hasPermission("luminaryenchants.admin")) {
+                String partial = args[1].toLowerCase();
+                List<String> options = new ArrayList<>(Arrays.asList("1m", "15m"));
+                options.addAll(plugin.getEnchantRegistry().getEnchantIds());
+                completions = options.stream()
+                        .filter(option -> option.startsWith(partial))
+                        .collect(Collectors.toList());
             }
 
         } else if (args.length == 3) {
@@ -248,7 +604,16 @@ public class PickEnchantsCommand implements CommandExecutor, TabCompleter {
                     // Suggest some level values
                     completions = Arrays.asList("1", "10", "50", "100", String.valueOf(def.getMaxLevel()));
                 }
+            } else if (args[0].equalsIgnoreCase("upgrade")) {
+                completions = Arrays.asList("1", "5", "10", "max");
+            } else if (args[0].equalsIgnoreCase("simulate")) {
+                completions = Arrays.asList("2", "4", "6");
             }
+
+        } else if (args.length == 4 && args[0].equalsIgnoreCase("simulate")) {
+            completions = Arrays.asList("0.5", "1", "8");
+        } else if (args.length == 5 && args[0].equalsIgnoreCase("simulate")) {
+            completions = Arrays.asList("10-100%", "50%", "1-100");
         }
 
         return completions;
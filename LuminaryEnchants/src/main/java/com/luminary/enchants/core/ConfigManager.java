@@ -22,6 +22,7 @@ public class ConfigManager {
     private FileConfiguration enchantsConfig;
     private FileConfiguration messagesConfig;
     private FileConfiguration guiConfig;
+    private FileConfiguration enchantIdsConfig;
 
     public ConfigManager(LuminaryEnchants plugin) {
         this.plugin = plugin;
@@ -34,6 +35,7 @@ public class ConfigManager {
         enchantsConfig = coreAPI.getPluginConfig(PLUGIN_NAME, "enchants.yml");
         messagesConfig = coreAPI.getPluginConfig(PLUGIN_NAME, "messages.yml");
         guiConfig = coreAPI.getPluginConfig(PLUGIN_NAME, "gui.yml");
+        enchantIdsConfig = coreAPI.getPluginConfig(PLUGIN_NAME, "enchant-ids.yml");
         plugin.getLogger().info("Configs loaded from: LuminaryCore/configs/" + PLUGIN_NAME + "/");
     }
 
@@ -60,6 +62,10 @@ public class ConfigManager {
         coreAPI.savePluginConfig(PLUGIN_NAME, "enchants.yml");
     }
 
+    public void saveEnchantIdsConfig() {
+        coreAPI.savePluginConfig(PLUGIN_NAME, "enchant-ids.yml");
+    }
+
     public FileConfiguration getMainConfig() {
         return mainConfig;
     }
@@ -76,6 +82,13 @@ public class ConfigManager {
         return guiConfig;
     }
 
+    /**
+     * Get the stored enchant ID to ordinal assignments (used by the pickaxe data format).
+     */
+    public FileConfiguration getEnchantIdsConfig() {
+        return enchantIdsConfig;
+    }
+
     // Convenience methods for common config values
     public String getMessage(String key) {
         return messagesConfig.getString("messages." + key, "&cMissing message: " + key);
@@ -93,8 +106,56 @@ public class ConfigManager {
         return mainConfig.getInt("performance.max-search-nodes", 256);
     }
 
-    public int getCacheTtlMs() {
-        return mainConfig.getInt("performance.cache-ttl-ms", 250);
+    public int getProfileCacheSize() {
+        return mainConfig.getInt("performance.profile-cache-size", 4096);
+    }
+
+    public double getEffectQueueMaxMsPerTick() {
+        return mainConfig.getDouble("performance.effect-queue.max-ms-per-tick", 2.0);
+    }
+
+    public int getEffectQueueMaxBlocksPerTick() {
+        return mainConfig.getInt("performance.effect-queue.max-blocks-per-tick", 512);
+    }
+
+    public int getFeedbackMaxActionBarParts() {
+        return mainConfig.getInt("feedback.max-action-bar-parts", 3);
+    }
+
+    public long getFeedbackSoundMinIntervalMs() {
+        return mainConfig.getLong("feedback.sound-min-interval-ms", 150);
+    }
+
+    public int getFeedbackMaxSoundsPerTick() {
+        return mainConfig.getInt("feedback.max-sounds-per-tick", 3);
+    }
+
+    public int getFeedbackMaxParticlesPerPlayer() {
+        return mainConfig.getInt("feedback.max-particles-per-player", 300);
+    }
+
+    public int getFeedbackMaxParticlesPerChunk() {
+        return mainConfig.getInt("feedback.max-particles-per-chunk", 600);
+    }
+
+    public double getFeedbackParticleNearDistance() {
+        return mainConfig.getDouble("feedback.particle-near-distance", 16.0);
+    }
+
+    public double getFeedbackParticleFarDistance() {
+        return mainConfig.getDouble("feedback.particle-far-distance", 48.0);
+    }
+
+    public boolean isTelemetryEnabled() {
+        return mainConfig.getBoolean("telemetry.enabled", true);
+    }
+
+    public String getTelemetryExportFile() {
+        return mainConfig.getString("telemetry.export-file", "telemetry.prom");
+    }
+
+    public int getTelemetryExportIntervalSeconds() {
+        return mainConfig.getInt("telemetry.export-interval-seconds", 30);
     }
 
     public boolean isDebugMode() {
@@ -20,6 +20,11 @@ public class DefaultMineRegionProvider implements MineRegionProvider {
         return true; // Allow everywhere when no mine plugin
     }
 
+    @Override
+    public BreakRegion resolveBreakRegion(Player player, Location origin) {
+        return BreakRegion.ANYWHERE;
+    }
+
     @Override
     public boolean isAvailable() {
         return false;
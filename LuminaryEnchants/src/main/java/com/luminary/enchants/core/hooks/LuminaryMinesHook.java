@@ -3,9 +3,9 @@ package com.luminary.enchants.core.hooks;
 import com.luminary.enchants.api.MineRegionProvider;
 import com.luminary.mines.LuminaryMines;
 import com.luminary.mines.mine.Mine;
-import com.luminary.mines.schematic.MineSchematic;
-import com.luminary.mines.schematic.SchematicManager;
+import com.luminary.mines.mine.MineIndex;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
 /**
@@ -34,14 +34,14 @@ public class LuminaryMinesHook implements MineRegionProvider {
         }
 
         // In mine world - check if in a mine's interior region
-        Mine mine = minesPlugin.getMineManager().getMineAt(location);
-        if (mine == null) {
+        MineIndex.Entry entry = minesPlugin.getMineManager().getIndexEntryAt(location);
+        if (entry == null) {
             // Not in any mine bounds - don't allow (could be outside structure)
             return false;
         }
 
         // Check if in the interior (fillable) region of the mine
-        return isInMineInterior(mine, location);
+        return isInMineInterior(entry, location);
     }
 
     @Override
@@ -58,11 +58,12 @@ public class LuminaryMinesHook implements MineRegionProvider {
         }
 
         // In mine world - check mine ownership/whitelist AND region
-        Mine mine = minesPlugin.getMineManager().getMineAt(location);
-        if (mine == null) {
+        MineIndex.Entry entry = minesPlugin.getMineManager().getIndexEntryAt(location);
+        if (entry == null) {
             // Not in any mine - don't allow breaking random stuff
             return false;
         }
+        Mine mine = entry.getMine();
 
         // Check if player is owner or whitelisted
         if (!mine.isWhitelisted(player.getUniqueId()) &&
@@ -71,23 +72,64 @@ public class LuminaryMinesHook implements MineRegionProvider {
         }
 
         // Check if in the interior region
-        return isInMineInterior(mine, location);
+        return isInMineInterior(entry, location);
+    }
+
+    @Override
+    public void onBlockBroken(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return;
+        }
+
+        MineIndex.Entry entry = minesPlugin.getMineManager().getIndexEntryAt(location);
+        if (entry != null && isInMineInterior(entry, location)) {
+            minesPlugin.getResetTask().trackBlockBreak(entry.getMine(),
+                    location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
+    }
+
+    @Override
+    public BreakRegion resolveBreakRegion(Player player, Location origin) {
+        if (origin == null || origin.getWorld() == null) {
+            return BreakRegion.NOWHERE;
+        }
+
+        String mineWorld = minesPlugin.getConfigManager().getMineWorld();
+        if (!origin.getWorld().getName().equals(mineWorld)) {
+            return BreakRegion.ANYWHERE;
+        }
+
+        // Same rules as canPlayerBreakAt, checked once for the mine the effect started in
+        MineIndex.Entry entry = minesPlugin.getMineManager().getIndexEntryAt(origin);
+        if (entry == null) {
+            return BreakRegion.NOWHERE;
+        }
+        if (!entry.getMine().isWhitelisted(player.getUniqueId()) &&
+            !player.hasPermission("luminarymines.bypass")) {
+            return BreakRegion.NOWHERE;
+        }
+
+        return entry::isInInterior;
+    }
+
+    @Override
+    public void onBlocksBroken(World world, int[] coords, int count) {
+        if (world == null || count == 0) {
+            return;
+        }
+
+        MineIndex.Entry entry = minesPlugin.getMineManager().getIndexEntryAt(
+                new Location(world, coords[0], coords[1], coords[2]));
+        if (entry != null) {
+            minesPlugin.getResetTask().trackBlockBreaks(entry, coords, count);
+        }
     }
 
     /**
      * Check if a location is within the mine's interior (fillable) region.
      */
-    private boolean isInMineInterior(Mine mine, Location location) {
-        SchematicManager schematicManager = minesPlugin.getSchematicManager();
-        SchematicManager.MineRegion region = schematicManager.getMineRegion(mine);
-
-        int x = location.getBlockX();
-        int y = location.getBlockY();
-        int z = location.getBlockZ();
-
-        return x >= region.minX && x <= region.maxX &&
-               y >= region.minY && y <= region.maxY &&
-               z >= region.minZ && z <= region.maxZ;
+    private boolean isInMineInterior(MineIndex.Entry entry, Location location) {
+        return entry.isInInterior(location.getBlockX(), location.getBlockY(), location.getBlockZ());
     }
 
     @Override
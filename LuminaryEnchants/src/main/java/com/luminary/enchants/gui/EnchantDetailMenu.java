@@ -21,6 +21,7 @@ public class EnchantDetailMenu extends AbstractMenu {
     private static final int SLOT_INFO = 13;
     private static final int SLOT_UPGRADE_1 = 29;
     private static final int SLOT_UPGRADE_5 = 30;
+    private static final int SLOT_UPGRADE_MAX = 31;
     private static final int SLOT_UPGRADE_10 = 32;
     private static final int SLOT_UPGRADE_20 = 33;
     private static final int SLOT_BACK = 45;
@@ -65,6 +66,7 @@ public class EnchantDetailMenu extends AbstractMenu {
         inventory.setItem(SLOT_UPGRADE_5, createUpgradeButton(5, currentLevel, maxLevel, balance, economyAvailable));
         inventory.setItem(SLOT_UPGRADE_10, createUpgradeButton(10, currentLevel, maxLevel, balance, economyAvailable));
         inventory.setItem(SLOT_UPGRADE_20, createUpgradeButton(20, currentLevel, maxLevel, balance, economyAvailable));
+        inventory.setItem(SLOT_UPGRADE_MAX, createMaxUpgradeButton(currentLevel, maxLevel, balance, economyAvailable));
 
         // Token balance
         if (economyAvailable) {
@@ -163,6 +165,31 @@ public class EnchantDetailMenu extends AbstractMenu {
         return createItem(material, title, lore);
     }
 
+    private ItemStack createMaxUpgradeButton(int currentLevel, int maxLevel, long balance, boolean economyAvailable) {
+        if (currentLevel >= maxLevel) {
+            return createItem(Material.GRAY_DYE, "&7Max Upgrade", "&cAlready at max level!");
+        }
+        if (!economyAvailable) {
+            return createItem(Material.RED_DYE, "&cMax Upgrade", "&cEconomy unavailable!");
+        }
+
+        int affordable = definition.calculateAffordableLevels(currentLevel, maxLevel - currentLevel, balance);
+        if (affordable <= 0) {
+            return createItem(Material.RED_DYE, "&cMax Upgrade",
+                    "&7Next level costs &c" + TextUtil.formatNumber(definition.calculateUpgradeCost(currentLevel, 1)) + " tokens",
+                    "",
+                    "&cInsufficient tokens!");
+        }
+
+        long cost = definition.calculateUpgradeCost(currentLevel, affordable);
+        return createItem(Material.EMERALD, "&a+" + affordable + " Level" + (affordable > 1 ? "s" : "") + " &7(Max)",
+                "&7Upgrade from level &f" + currentLevel + " &7to &f" + (currentLevel + affordable),
+                "",
+                "&fCost: &a" + TextUtil.formatNumber(cost) + " tokens",
+                "",
+                "&aClick to upgrade!");
+    }
+
     private Material getMaterialForRarity(EnchantRarity rarity) {
         return switch (rarity) {
             case COMMON -> Material.BOOK;
@@ -195,6 +222,7 @@ public class EnchantDetailMenu extends AbstractMenu {
             case SLOT_UPGRADE_5 -> 5;
             case SLOT_UPGRADE_10 -> 10;
             case SLOT_UPGRADE_20 -> 20;
+            case SLOT_UPGRADE_MAX -> Integer.MAX_VALUE;
             default -> 0;
         };
 
@@ -214,6 +242,19 @@ public class EnchantDetailMenu extends AbstractMenu {
                 return;
             }
 
+            if (slot == SLOT_UPGRADE_MAX) {
+                if (!plugin.getHookManager().isTokenEconomyAvailable()) {
+                    player.sendMessage(TextUtil.colorize("&cToken economy is unavailable!"));
+                    return;
+                }
+                long balance = plugin.getHookManager().getTokenEconomy().get(player.getUniqueId());
+                actualLevels = definition.calculateAffordableLevels(currentLevel, actualLevels, balance);
+                if (actualLevels <= 0) {
+                    player.sendMessage(TextUtil.colorize("&cInsufficient tokens!"));
+                    return;
+                }
+            }
+
             plugin.getMenuManager().openUpgradeConfirmMenu(player, enchantId, actualLevels);
         }
     }
@@ -62,6 +62,10 @@ public class UpgradeConfirmMenu extends AbstractMenu {
         infoLore.add("");
         infoLore.add("&7Cost: " + (canAfford ? "&a" : "&c") + TextUtil.formatNumber(cost) + " tokens");
         infoLore.add("&7Balance: &e" + TextUtil.formatNumber(balance) + " tokens");
+        if (economyAvailable && !canAfford) {
+            int affordable = definition.calculateAffordableLevels(currentLevel, levelsToAdd, balance);
+            infoLore.add("&7You can afford: &e+" + affordable + " level" + (affordable == 1 ? "" : "s"));
+        }
 
         if (definition.isSuccessChanceEnabled()) {
             double successChance = definition.calculateSuccessChance(targetLevel);
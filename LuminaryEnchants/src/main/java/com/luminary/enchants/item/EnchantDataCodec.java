@@ -0,0 +1,117 @@
+package com.luminary.enchants.item;
+
+import com.luminary.enchants.pickaxe.PickEnchantRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binary encoding of a pickaxe's enchants for the PDC.
+ * <p>
+ * Layout: a version byte, a varint entry count, then one (ordinal, level)
+ * varint pair per enchant. Ordinals come from {@link PickEnchantRegistry}
+ * and stay the same across restarts and config edits.
+ */
+public final class EnchantDataCodec {
+
+    public static final int VERSION = 1;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private EnchantDataCodec() {
+    }
+
+    /**
+     * Encode enchants. Levels of 0 or less and IDs without an ordinal (never
+     * registered) are left out.
+     * Entries are written in ordinal order, so equal enchants always give equal bytes.
+     */
+    public static byte[] encode(Map<String, Integer> enchants, PickEnchantRegistry registry) {
+        long[] entries = new long[enchants.size()];
+        int count = 0;
+        for (Map.Entry<String, Integer> entry : enchants.entrySet()) {
+            Integer level = entry.getValue();
+            int ordinal = registry.getOrdinal(entry.getKey());
+            if (level != null && level > 0 && ordinal >= 0) {
+                // Ordinal in the high half so sorting orders by ordinal
+                entries[count++] = ((long) ordinal << 32) | level;
+            }
+        }
+        Arrays.sort(entries, 0, count);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(2 + count * 3);
+        out.write(VERSION);
+        writeVarInt(out, count);
+        for (int i = 0; i < count; i++) {
+            writeVarInt(out, (int) (entries[i] >>> 32));
+            writeVarInt(out, (int) entries[i]);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode enchants.
+     *
+     * @throws IllegalArgumentException if the data is truncated or from an unknown version
+     */
+    public static Map<String, Integer> decode(byte[] data, PickEnchantRegistry registry) {
+        if (data.length == 0 || data[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported enchant data version");
+        }
+
+        int[] pos = {1};
+        int count = readVarInt(data, pos);
+        Map<String, Integer> enchants = new LinkedHashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            int ordinal = readVarInt(data, pos);
+            int level = readVarInt(data, pos);
+            String id = registry.getIdByOrdinal(ordinal);
+            if (id != null && level > 0) {
+                enchants.put(id, level);
+            }
+        }
+
+        return enchants;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of encoded data, used as the profile cache key.
+     */
+    public static long hash(byte[] data) {
+        long hash = FNV_OFFSET;
+        for (byte b : data) {
+            hash ^= (b & 0xFF);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= data.length || shift > 28) {
+                throw new IllegalArgumentException("Malformed enchant data");
+            }
+            byte b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -13,7 +13,6 @@ import org.bukkit.persistence.PersistentDataType;
 
 import java.lang.reflect.Type;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages pickaxe enchant data storage using PersistentDataContainer.
@@ -30,19 +29,31 @@ public class PickaxeDataManager {
     );
 
     private final LuminaryEnchants plugin;
-    private final NamespacedKey enchantsKey;
+    private final NamespacedKey legacyEnchantsKey; // JSON, read for migration only
+    private final NamespacedKey unknownEnchantsKey; // JSON, enchants migration couldn't map
+    private final NamespacedKey enchantDataKey;
+    private final NamespacedKey enchantHashKey;
     private final NamespacedKey metaKey;
     private final Gson gson;
     private final LoreRenderer loreRenderer;
 
-    // Cache for parsed enchant data (TTL-based)
-    private final Map<Integer, CachedEnchantData> enchantCache = new ConcurrentHashMap<>();
+    // Parsed profiles by content hash, least recently used dropped first; entries never go stale since the key is the content
+    private final Map<Long, PickaxeProfile> profileCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, PickaxeProfile> eldest) {
+                    return size() > plugin.getConfigManager().getProfileCacheSize();
+                }
+            });
 
     private static final Type ENCHANT_MAP_TYPE = new TypeToken<Map<String, Integer>>() {}.getType();
 
     public PickaxeDataManager(LuminaryEnchants plugin) {
         this.plugin = plugin;
-        this.enchantsKey = new NamespacedKey(plugin, "pick_enchants");
+        this.legacyEnchantsKey = new NamespacedKey(plugin, "pick_enchants");
+        this.unknownEnchantsKey = new NamespacedKey(plugin, "pick_enchants_unknown");
+        this.enchantDataKey = new NamespacedKey(plugin, "pick_enchant_data");
+        this.enchantHashKey = new NamespacedKey(plugin, "pick_enchant_hash");
         this.metaKey = new NamespacedKey(plugin, "pick_meta");
         this.gson = new GsonBuilder().create();
         this.loreRenderer = new LoreRenderer(plugin);
@@ -56,56 +67,142 @@ public class PickaxeDataManager {
     }
 
     /**
-     * Get all enchants on a pickaxe.
-     * Uses caching for performance.
+     * Get the parsed enchant profile of a pickaxe.
+     * Items carry a hash of their enchant data, so repeat lookups (including
+     * on copies of the same item) are a cache hit and never parse anything.
+     * Never writes to the item; old JSON data is converted by {@link #migrate}.
      */
-    public Map<String, Integer> getEnchants(ItemStack item) {
+    public PickaxeProfile getProfile(ItemStack item) {
         if (!isPickaxe(item)) {
-            return Collections.emptyMap();
+            return PickaxeProfile.EMPTY;
         }
 
         ItemMeta meta = item.getItemMeta();
         if (meta == null) {
-            return Collections.emptyMap();
+            return PickaxeProfile.EMPTY;
         }
 
-        // Check cache
-        int itemHash = System.identityHashCode(item);
-        CachedEnchantData cached = enchantCache.get(itemHash);
-        int ttl = plugin.getConfigManager().getCacheTtlMs();
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
 
-        if (cached != null && (System.currentTimeMillis() - cached.timestamp) < ttl) {
-            return cached.enchants;
+        // Fast path: cached by stored content hash
+        Long hash = pdc.get(enchantHashKey, PersistentDataType.LONG);
+        if (hash != null) {
+            PickaxeProfile cached = profileCache.get(hash);
+            if (cached != null) {
+                return cached;
+            }
         }
 
-        // Parse from PDC
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
-        String json = pdc.get(enchantsKey, PersistentDataType.STRING);
-
-        Map<String, Integer> enchants;
-        if (json == null || json.isEmpty()) {
-            enchants = new HashMap<>();
-        } else {
+        byte[] data = pdc.get(enchantDataKey, PersistentDataType.BYTE_ARRAY);
+        if (data != null) {
             try {
-                enchants = gson.fromJson(json, ENCHANT_MAP_TYPE);
-                if (enchants == null) enchants = new HashMap<>();
-            } catch (Exception e) {
+                return cacheProfile(EnchantDataCodec.hash(data), EnchantDataCodec.decode(data, plugin.getEnchantRegistry()));
+            } catch (IllegalArgumentException e) {
                 plugin.getLogger().warning("Failed to parse enchant data: " + e.getMessage());
-                enchants = new HashMap<>();
+                return PickaxeProfile.EMPTY;
             }
         }
 
-        // Cache result
-        enchantCache.put(itemHash, new CachedEnchantData(enchants, System.currentTimeMillis()));
+        String json = pdc.get(legacyEnchantsKey, PersistentDataType.STRING);
+        if (json == null || json.isEmpty()) {
+            return PickaxeProfile.EMPTY;
+        }
+
+        // Old JSON format not migrated yet - read it without touching the item
+        Map<String, Integer> enchants = parseLegacy(json, new HashMap<>());
+        if (enchants == null || enchants.isEmpty()) {
+            return PickaxeProfile.EMPTY;
+        }
+        byte[] encoded = EnchantDataCodec.encode(enchants, plugin.getEnchantRegistry());
+        long legacyHash = EnchantDataCodec.hash(encoded);
+        PickaxeProfile cached = profileCache.get(legacyHash);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheProfile(legacyHash, EnchantDataCodec.decode(encoded, plugin.getEnchantRegistry()));
+    }
+
+    /**
+     * Rewrite a pickaxe still in the old JSON format in the binary format.
+     * Lookups never write, so this runs where the item is written anyway:
+     * on join, when a pickaxe is held and before any enchant change.
+     *
+     * @return true if the item was rewritten
+     */
+    public boolean migrate(ItemStack item) {
+        if (!isPickaxe(item)) {
+            return false;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return false;
+        }
 
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        String json = pdc.get(legacyEnchantsKey, PersistentDataType.STRING);
+        if (json == null || pdc.has(enchantDataKey, PersistentDataType.BYTE_ARRAY)) {
+            return false;
+        }
+
+        Map<String, Integer> unknown = new HashMap<>();
+        Map<String, Integer> enchants = parseLegacy(json, unknown);
+        if (enchants == null) {
+            // Leave data we can't read on the item
+            return false;
+        }
+        if (!unknown.isEmpty()) {
+            plugin.getLogger().warning("Pickaxe has unknown enchants " + unknown.keySet() + " - kept aside, not applied");
+            pdc.set(unknownEnchantsKey, PersistentDataType.STRING, gson.toJson(unknown));
+        }
+
+        writeEnchantData(item, meta, enchants);
+        return true;
+    }
+
+    /**
+     * Parse old JSON enchant data. Only enchants the registry knows are returned;
+     * anything else goes into {@code unknown} rather than being given a new
+     * ordinal, so stray IDs don't grow enchant-ids.yml. Null if it can't be parsed.
+     */
+    private Map<String, Integer> parseLegacy(String json, Map<String, Integer> unknown) {
+        Map<String, Integer> enchants;
+        try {
+            enchants = gson.fromJson(json, ENCHANT_MAP_TYPE);
+            if (enchants == null) enchants = new HashMap<>();
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to parse enchant data: " + e.getMessage());
+            return null;
+        }
+
+        enchants.entrySet().removeIf(entry -> {
+            if (plugin.getEnchantRegistry().getOrdinal(entry.getKey()) >= 0) {
+                return false;
+            }
+            unknown.put(entry.getKey(), entry.getValue());
+            return true;
+        });
         return enchants;
     }
 
+    private PickaxeProfile cacheProfile(long hash, Map<String, Integer> enchants) {
+        PickaxeProfile profile = new PickaxeProfile(hash, enchants, plugin.getEnchantRegistry());
+        profileCache.put(hash, profile);
+        return profile;
+    }
+
+    /**
+     * Get all enchants on a pickaxe (read-only).
+     */
+    public Map<String, Integer> getEnchants(ItemStack item) {
+        return getProfile(item).getEnchants();
+    }
+
     /**
      * Get the level of a specific enchant on a pickaxe.
      */
     public int getEnchantLevel(ItemStack item, String enchantId) {
-        return getEnchants(item).getOrDefault(enchantId, 0);
+        return getProfile(item).getLevel(enchantId);
     }
 
     /**
@@ -165,30 +262,43 @@ public class PickaxeDataManager {
      * Save enchants to PDC and update lore.
      */
     private ItemStack saveEnchants(ItemStack item, Map<String, Integer> enchants) {
+        // Keeps unknown enchants from old JSON data aside before it's replaced
+        migrate(item);
+
         ItemMeta meta = item.getItemMeta();
         if (meta == null) {
             return item;
         }
 
+        // Update lore
+        loreRenderer.updateLore(meta, enchants);
+
+        writeEnchantData(item, meta, enchants);
+        return item;
+    }
+
+    /**
+     * Write enchants in the binary format, drop any old JSON data and apply the meta.
+     */
+    private PickaxeProfile writeEnchantData(ItemStack item, ItemMeta meta, Map<String, Integer> enchants) {
         PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        pdc.remove(legacyEnchantsKey);
 
-        // Save to PDC
+        PickaxeProfile profile;
         if (enchants.isEmpty()) {
-            pdc.remove(enchantsKey);
+            pdc.remove(enchantDataKey);
+            pdc.remove(enchantHashKey);
+            profile = PickaxeProfile.EMPTY;
         } else {
-            String json = gson.toJson(enchants);
-            pdc.set(enchantsKey, PersistentDataType.STRING, json);
+            byte[] data = EnchantDataCodec.encode(enchants, plugin.getEnchantRegistry());
+            long hash = EnchantDataCodec.hash(data);
+            pdc.set(enchantDataKey, PersistentDataType.BYTE_ARRAY, data);
+            pdc.set(enchantHashKey, PersistentDataType.LONG, hash);
+            profile = cacheProfile(hash, EnchantDataCodec.decode(data, plugin.getEnchantRegistry()));
         }
 
-        // Update lore
-        loreRenderer.updateLore(meta, enchants);
-
         item.setItemMeta(meta);
-
-        // Invalidate cache
-        enchantCache.remove(System.identityHashCode(item));
-
-        return item;
+        return profile;
     }
 
     /**
@@ -258,22 +368,9 @@ public class PickaxeDataManager {
     }
 
     /**
-     * Clear expired cache entries.
+     * Drop all cached profiles (e.g. after enchants were reloaded).
      */
-    public void cleanupCache() {
-        long now = System.currentTimeMillis();
-        int ttl = plugin.getConfigManager().getCacheTtlMs();
-        enchantCache.entrySet().removeIf(entry ->
-                (now - entry.getValue().timestamp) > ttl * 2);
-    }
-
-    private static class CachedEnchantData {
-        final Map<String, Integer> enchants;
-        final long timestamp;
-
-        CachedEnchantData(Map<String, Integer> enchants, long timestamp) {
-            this.enchants = enchants;
-            this.timestamp = timestamp;
-        }
+    public void clearCache() {
+        profileCache.clear();
     }
 }
@@ -0,0 +1,84 @@
+package com.luminary.enchants.item;
+
+import com.luminary.enchants.pickaxe.CompiledEnchant;
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.pickaxe.EnchantTrigger;
+import com.luminary.enchants.pickaxe.PickEnchantRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, parsed view of a pickaxe's enchants.
+ * Profiles are cached by the content hash stored on the item, so every copy
+ * of the same pickaxe shares one instance.
+ * <p>
+ * Enchants are also compiled per trigger, in registry order, so proc
+ * dispatch only walks the enchants the pickaxe actually has.
+ */
+public final class PickaxeProfile {
+
+    private static final CompiledEnchant[] NONE = new CompiledEnchant[0];
+    private static final EnchantTrigger[] TRIGGERS = EnchantTrigger.values();
+
+    public static final PickaxeProfile EMPTY = new PickaxeProfile(0L, Collections.emptyMap(), null);
+
+    private final long contentHash;
+    private final Map<String, Integer> enchants;
+    private final CompiledEnchant[][] byTrigger;
+
+    PickaxeProfile(long contentHash, Map<String, Integer> enchants, PickEnchantRegistry registry) {
+        this.contentHash = contentHash;
+        this.enchants = Collections.unmodifiableMap(enchants);
+        this.byTrigger = new CompiledEnchant[TRIGGERS.length][];
+
+        for (EnchantTrigger trigger : TRIGGERS) {
+            byTrigger[trigger.ordinal()] = enchants.isEmpty() || registry == null
+                    ? NONE : compile(trigger, enchants, registry);
+        }
+    }
+
+    private static CompiledEnchant[] compile(EnchantTrigger trigger, Map<String, Integer> enchants,
+                                             PickEnchantRegistry registry) {
+        List<CompiledEnchant> compiled = new ArrayList<>();
+        for (EnchantDefinition definition : registry.getEnchantsByTrigger(trigger)) {
+            int level = enchants.getOrDefault(definition.getId(), 0);
+            if (level > 0) {
+                compiled.add(new CompiledEnchant(definition, registry.getOrdinal(definition.getId()), level));
+            }
+        }
+        return compiled.isEmpty() ? NONE : compiled.toArray(NONE);
+    }
+
+    /**
+     * Get the hash of the encoded enchant data this profile was built from.
+     */
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Get all enchants (read-only).
+     */
+    public Map<String, Integer> getEnchants() {
+        return enchants;
+    }
+
+    /**
+     * Get the enchants on this pickaxe that fire on a trigger.
+     * The returned array is shared and must not be modified.
+     */
+    public CompiledEnchant[] getEnchants(EnchantTrigger trigger) {
+        return byTrigger[trigger.ordinal()];
+    }
+
+    public int getLevel(String enchantId) {
+        return enchants.getOrDefault(enchantId, 0);
+    }
+
+    public boolean isEmpty() {
+        return enchants.isEmpty();
+    }
+}
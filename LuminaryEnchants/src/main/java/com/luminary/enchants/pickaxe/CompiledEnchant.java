@@ -0,0 +1,52 @@
+package com.luminary.enchants.pickaxe;
+
+/**
+ * An enchant at a specific level, with its level-dependent values computed
+ * once when a pickaxe profile is built rather than on every proc attempt.
+ */
+public final class CompiledEnchant {
+
+    private final EnchantDefinition definition;
+    private final int ordinal;
+    private final int level;
+    private final double rawProcChance; // before multiplier and cap
+    private final double procChance;    // at a multiplier of 1.0
+
+    public CompiledEnchant(EnchantDefinition definition, int ordinal, int level) {
+        this.definition = definition;
+        this.ordinal = ordinal;
+        this.level = level;
+        this.rawProcChance = definition.getProcChanceBase() + (definition.getProcChancePerLevel() * level);
+        this.procChance = definition.calculateProcChance(level, 1.0);
+    }
+
+    public EnchantDefinition getDefinition() {
+        return definition;
+    }
+
+    public String getId() {
+        return definition.getId();
+    }
+
+    /**
+     * Get the enchant's stable ordinal (see {@link PickEnchantRegistry#getOrdinal(String)}).
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Get the proc chance with a multiplier applied, same as
+     * {@link EnchantDefinition#calculateProcChance(int, double)}.
+     */
+    public double getProcChance(double multiplier) {
+        if (multiplier == 1.0) {
+            return procChance;
+        }
+        return Math.min(rawProcChance * multiplier, definition.getProcChanceCap());
+    }
+}
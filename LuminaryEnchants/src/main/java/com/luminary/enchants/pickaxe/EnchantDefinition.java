@@ -354,20 +354,70 @@ public class EnchantDefinition {
 
     /**
      * Calculate the total cost to upgrade from currentLevel by levelsToAdd levels.
+     * Uses the closed-form sum, so the cost is the same work for 1 level or 100,000.
+     * Saturates at Long.MAX_VALUE instead of overflowing.
      */
     public long calculateUpgradeCost(int currentLevel, int levelsToAdd) {
-        long totalCost = 0;
-        for (int i = 1; i <= levelsToAdd; i++) {
-            int targetLevel = currentLevel + i;
-            long levelCost;
-            if (upgradeCostExponentialFactor != 1.0) {
-                levelCost = (long) (upgradeCostBase * Math.pow(upgradeCostExponentialFactor, targetLevel - 1));
+        if (levelsToAdd <= 0) {
+            return 0;
+        }
+        long n = levelsToAdd;
+
+        if (upgradeCostExponentialFactor != 1.0) {
+            if (upgradeCostBase == 0) {
+                return 0; // 0 * Infinity below would be NaN, not free
+            }
+            // base * f^c + ... + base * f^(c+n-1) = base * f^c * (f^n - 1) / (f - 1)
+            double f = upgradeCostExponentialFactor;
+            double total = upgradeCostBase * Math.pow(f, currentLevel) * (Math.pow(f, n) - 1) / (f - 1);
+            if (Double.isNaN(total) || total >= Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            return (long) total;
+        }
+
+        // n * base + perLevel * (c + (c+1) + ... + (c+n-1)) = n * base + perLevel * n * (2c + n - 1) / 2
+        long levelSum = (n % 2 == 0)
+                ? saturatedMultiply(n / 2, 2L * currentLevel + n - 1)
+                : saturatedMultiply(n, currentLevel + (n - 1) / 2);
+        return saturatedAdd(saturatedMultiply(n, upgradeCostBase), saturatedMultiply(upgradeCostPerLevel, levelSum));
+    }
+
+    /**
+     * Get how many levels (up to maxLevelsToAdd) can be bought from currentLevel with a token balance.
+     * Binary search over the closed-form cost, so O(log maxLevelsToAdd).
+     * A saturated cost is never affordable, even with a balance of Long.MAX_VALUE.
+     */
+    public int calculateAffordableLevels(int currentLevel, int maxLevelsToAdd, long balance) {
+        int low = 0;
+        int high = Math.max(0, maxLevelsToAdd);
+        while (low < high) {
+            int mid = (int) (((long) low + high + 1) >>> 1);
+            long cost = calculateUpgradeCost(currentLevel, mid);
+            if (cost != Long.MAX_VALUE && cost <= balance) {
+                low = mid;
             } else {
-                levelCost = upgradeCostBase + (upgradeCostPerLevel * (targetLevel - 1));
+                high = mid - 1;
             }
-            totalCost += levelCost;
         }
-        return totalCost;
+        return low;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return low;
+        }
+        return (a ^ b) < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        if (((a ^ sum) & (b ^ sum)) < 0) {
+            return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        return sum;
     }
 
     /**
@@ -16,16 +16,42 @@ public class PickEnchantRegistry {
     private final Map<String, EnchantDefinition> enchants = new LinkedHashMap<>();
     private final Map<EnchantTrigger, List<EnchantDefinition>> enchantsByTrigger = new EnumMap<>(EnchantTrigger.class);
 
+    // Stable enchant ordinals, persisted in enchant-ids.yml and never reused
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> idsByOrdinal = new ArrayList<>();
+
     public PickEnchantRegistry(LuminaryEnchants plugin) {
         this.plugin = plugin;
     }
 
+    /**
+     * Build a registry over a fixed list of definitions, with ordinals in list order.
+     * Nothing is read from or saved to config, so this works without the plugin
+     * (benchmarks, tools).
+     */
+    public static PickEnchantRegistry of(List<EnchantDefinition> definitions) {
+        PickEnchantRegistry registry = new PickEnchantRegistry(null);
+        for (EnchantTrigger trigger : EnchantTrigger.values()) {
+            registry.enchantsByTrigger.put(trigger, new ArrayList<>());
+        }
+        for (EnchantDefinition definition : definitions) {
+            registry.enchants.put(definition.getId(), definition);
+            registry.assignOrdinal(definition.getId());
+            for (EnchantTrigger trigger : definition.getTriggers()) {
+                registry.enchantsByTrigger.get(trigger).add(definition);
+            }
+        }
+        return registry;
+    }
+
     /**
      * Load all enchants from the enchants.yml configuration.
      */
     public void loadEnchants() {
         enchants.clear();
         enchantsByTrigger.clear();
+        loadOrdinals();
+        boolean newOrdinals = false;
 
         // Initialize trigger map
         for (EnchantTrigger trigger : EnchantTrigger.values()) {
@@ -47,6 +73,10 @@ public class PickEnchantRegistry {
             try {
                 EnchantDefinition definition = new EnchantDefinition(enchantSection);
                 enchants.put(definition.getId(), definition);
+                if (!ordinals.containsKey(definition.getId())) {
+                    assignOrdinal(definition.getId());
+                    newOrdinals = true;
+                }
 
                 // Index by trigger
                 for (EnchantTrigger trigger : definition.getTriggers()) {
@@ -62,9 +92,68 @@ public class PickEnchantRegistry {
             }
         }
 
+        if (newOrdinals) {
+            plugin.getConfigManager().saveEnchantIdsConfig();
+        }
+
         plugin.getLogger().info("Loaded " + enchants.size() + " pickaxe enchants.");
     }
 
+    private void loadOrdinals() {
+        ordinals.clear();
+        idsByOrdinal.clear();
+
+        ConfigurationSection section = plugin.getConfigManager().getEnchantIdsConfig().getConfigurationSection("ordinals");
+        if (section == null) {
+            return;
+        }
+
+        for (String id : section.getKeys(false)) {
+            int ordinal = section.getInt(id, -1);
+            if (ordinal < 0) continue;
+
+            while (idsByOrdinal.size() <= ordinal) {
+                idsByOrdinal.add(null);
+            }
+            idsByOrdinal.set(ordinal, id);
+            ordinals.put(id, ordinal);
+        }
+    }
+
+    private int assignOrdinal(String id) {
+        int assigned = idsByOrdinal.size();
+        idsByOrdinal.add(id);
+        ordinals.put(id, assigned);
+        if (plugin != null) {
+            plugin.getConfigManager().getEnchantIdsConfig().set("ordinals." + id, assigned);
+        }
+        return assigned;
+    }
+
+    /**
+     * Get the stable ordinal of an enchant ID, or -1 if it has none.
+     * Every loaded enchant gets one in {@link #loadEnchants()}, and ordinals are
+     * kept for removed enchants so existing pickaxes still decode.
+     */
+    public int getOrdinal(String id) {
+        Integer ordinal = ordinals.get(id);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * Get the enchant ID for an ordinal, or null if unknown.
+     */
+    public String getIdByOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < idsByOrdinal.size() ? idsByOrdinal.get(ordinal) : null;
+    }
+
+    /**
+     * Get the number of ordinals assigned so far (one past the highest ordinal).
+     */
+    public int getOrdinalCount() {
+        return idsByOrdinal.size();
+    }
+
     /**
      * Get an enchant definition by ID.
      */
@@ -0,0 +1,203 @@
+package com.luminary.enchants.sim;
+
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.effects.AbstractEnchantEffect.AreaParams;
+import com.luminary.enchants.trigger.effects.impl.*;
+
+import java.util.Map;
+
+/**
+ * What each enchant's proc produces in the simulator: blocks broken, tokens
+ * deposited, and the state other procs depend on (Enhancer, Pause, Second Hand,
+ * Overload and Piggy Bank charge). Params, defaults and level scaling come from
+ * each effect class's {@code Params}, so they can't drift from the effects.
+ * <p>
+ * Area counts assume a solid mine, where every block a shape or line reaches
+ * can be broken (Quicksand counts as if the mine were all loose blocks, Laser
+ * as if it were toggled on). Enchants that only change drops, durability or
+ * potion effects have no model; their procs are still counted.
+ */
+final class EffectModels {
+
+    private EffectModels() {
+    }
+
+    /**
+     * The unit of work one proc of a simulated enchant does.
+     */
+    @FunctionalInterface
+    interface EffectModel {
+        void proc(SimulatedPlayer player, int index, int level, long now, boolean secondary);
+    }
+
+    /**
+     * Get the model for an enchant, or null if its procs only need counting.
+     *
+     * @param indexById simulator index of every simulated enchant
+     */
+    static EffectModel create(EnchantDefinition definition, int maxBlocksPerProc, Map<String, Integer> indexById) {
+        return switch (definition.getId()) {
+            case "thor" -> area(ThorEffect.params(definition, maxBlocksPerProc));
+            case "storm_cloud" -> area(StormCloudEffect.params(definition, maxBlocksPerProc));
+            case "flash" -> area(FlashEffect.params(definition, maxBlocksPerProc));
+            case "quicksand" -> area(QuicksandEffect.params(definition, maxBlocksPerProc));
+            case "tower" -> tower(TowerEffect.Params.of(definition, maxBlocksPerProc));
+            case "sonic" -> sonic(SonicEffect.Params.of(definition, maxBlocksPerProc));
+            case "laser" -> laser(LaserEffect.Params.of(definition, maxBlocksPerProc));
+            case "ghostrider" -> ghostrider(GhostriderEffect.Params.of(definition), maxBlocksPerProc);
+            case "meteor_shower" -> meteorShower(MeteorShowerEffect.Params.of(definition, maxBlocksPerProc));
+            case "overload" -> overload(OverloadEffect.Params.of(definition, maxBlocksPerProc));
+            case "angel" -> angel(AngelEffect.Params.of(definition));
+            case "golden" -> golden(GoldenEffect.Params.of(definition));
+            case "keyfinder" -> keyfinder(KeyfinderEffect.Params.of(definition));
+            case "piggy_bank" -> piggyBank(PiggyBankEffect.Params.of(definition));
+            case "rainbow" -> rainbow(RainbowEffect.Params.of(definition));
+            case "enhancer" -> enhancer(EnhancerEffect.Params.of(definition));
+            case "pause" -> pause(PauseEffect.Params.of(definition), indexById);
+            case "second_hand" -> secondHand(SecondHandEffect.Params.of(definition));
+            default -> null;
+        };
+    }
+
+    // ==================== Blocks ====================
+
+    private static EffectModel area(AreaParams params) {
+        int blocks = params.solidBlocks();
+        return (player, index, level, now, secondary) -> player.addBlocks(index, blocks);
+    }
+
+    private static EffectModel tower(TowerEffect.Params params) {
+        if (params.requiresSneak()) {
+            return null;
+        }
+        return (player, index, level, now, secondary) ->
+                player.addBlocks(index, Math.min(params.scaledHeight(level), params.maxBlocks()));
+    }
+
+    private static EffectModel sonic(SonicEffect.Params params) {
+        return (player, index, level, now, secondary) ->
+                player.addBlocks(index, Math.min(params.scaledRange(level), params.maxBlocks()));
+    }
+
+    private static EffectModel laser(LaserEffect.Params params) {
+        return (player, index, level, now, secondary) ->
+                player.addBlocks(index, Math.min(params.scaledRange(level), params.maxBlocks()));
+    }
+
+    private static EffectModel ghostrider(GhostriderEffect.Params params, int maxBlocksPerProc) {
+        return (player, index, level, now, secondary) ->
+                player.addBlocks(index, params.maxBlocks(level, maxBlocksPerProc));
+    }
+
+    private static EffectModel meteorShower(MeteorShowerEffect.Params params) {
+        int perMeteor = params.solidBlocksPerMeteor();
+        return (player, index, level, now, secondary) ->
+                player.addBlocks(index, params.scaledMeteors(level) * perMeteor);
+    }
+
+    private static EffectModel overload(OverloadEffect.Params params) {
+        int burstBlocks = params.solidBurstBlocks();
+        return (player, index, level, now, secondary) -> {
+            int charge = player.getOverloadCharge() + params.chargePerBlock();
+            if (charge >= params.chargeMax()) {
+                player.setOverloadCharge(0);
+                player.addBlocks(index, burstBlocks);
+                player.deposit(index, params.scaledBonusTokens(level));
+            } else {
+                player.setOverloadCharge(charge);
+            }
+        };
+    }
+
+    // ==================== Tokens ====================
+
+    private static EffectModel angel(AngelEffect.Params params) {
+        return (player, index, level, now, secondary) -> {
+            long tokenBonus = params.tokenBonus(level);
+            if (tokenBonus > 0) {
+                player.deposit(index, tokenBonus);
+            }
+        };
+    }
+
+    private static EffectModel golden(GoldenEffect.Params params) {
+        return (player, index, level, now, secondary) -> {
+            if (player.roll(params.scaledChance(level))) {
+                player.deposit(index, params.scaledBonus(level));
+            }
+        };
+    }
+
+    private static EffectModel keyfinder(KeyfinderEffect.Params params) {
+        if (!params.convertToTokens()) {
+            return null;
+        }
+        return (player, index, level, now, secondary) -> {
+            int keys = params.keys(level, player.getKeyMultiplier());
+            if (keys > 0) {
+                player.deposit(index, keys * params.tokensPerKey());
+            }
+        };
+    }
+
+    private static EffectModel piggyBank(PiggyBankEffect.Params params) {
+        return (player, index, level, now, secondary) -> {
+            long toStore = params.toStore(level);
+            if (toStore <= 0) return;
+
+            long stored = player.getPiggyBankStored() + toStore;
+            if (stored >= params.payoutThreshold()) {
+                player.deposit(index, stored + params.payoutBonus(stored));
+                player.setPiggyBankStored(0L);
+            } else {
+                player.setPiggyBankStored(stored);
+            }
+        };
+    }
+
+    private static EffectModel rainbow(RainbowEffect.Params params) {
+        double tokenShare = params.tokenShare();
+        return (player, index, level, now, secondary) -> {
+            if (player.roll(tokenShare)) {
+                player.deposit(index, params.scaledTokenBonus(level));
+            }
+        };
+    }
+
+    // ==================== Other procs ====================
+
+    private static EffectModel enhancer(EnhancerEffect.Params params) {
+        return (player, index, level, now, secondary) ->
+                player.applyEnhancerBuff(now + params.durationMs(), params.scaledBonus(level), now);
+    }
+
+    private static EffectModel pause(PauseEffect.Params params, Map<String, Integer> indexById) {
+        int[] affected = params.affectedEnchantIds().stream()
+                .filter(id -> !id.equals("pause"))
+                .map(indexById::get)
+                .filter(i -> i != null)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        Integer self = indexById.get("pause");
+        return (player, index, level, now, secondary) -> {
+            long reduction = params.scaledReduction(level);
+            if (params.affectedEnchantIds().isEmpty()) {
+                // Everything on the pickaxe
+                player.reduceCooldowns(reduction, self != null ? self : -1);
+            } else {
+                for (int target : affected) {
+                    player.reduceCooldown(target, reduction);
+                }
+            }
+        };
+    }
+
+    private static EffectModel secondHand(SecondHandEffect.Params params) {
+        return (player, index, level, now, secondary) -> {
+            if (secondary) return;
+            if (player.roll(params.rollChance(level))) {
+                player.trySecondaryRoll(now);
+            }
+        };
+    }
+}
@@ -0,0 +1,294 @@
+package com.luminary.enchants.sim;
+
+import com.luminary.enchants.pickaxe.CompiledEnchant;
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.pickaxe.EnchantTrigger;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Monte Carlo estimate of the block break load and token inflow an enchant
+ * config produces, without a server.
+ * <p>
+ * Each trial mines with every simulated player for the full duration on a
+ * simulated clock, through the same proc chance, cooldown and rate limit code
+ * as {@code ProcEngine}. Proc outcomes come from {@link EffectModels}.
+ * Trials and players are split across a fork-join pool; every player gets its
+ * own random stream from the seed, so results don't depend on how work is split.
+ * A run can be stopped from another thread with {@link #cancel()}.
+ */
+public final class EnchantSimulator {
+
+    private final EnchantDefinition[] definitions;
+    private final EffectModels.EffectModel[] models;
+    private final int secondHandIndex;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    /**
+     * @param definitions      the loaded enchants; only BLOCK_BREAK ones are simulated, in this order
+     * @param maxBlocksPerProc the {@code performance.max-blocks-per-proc} cap
+     */
+    public EnchantSimulator(Collection<EnchantDefinition> definitions, int maxBlocksPerProc) {
+        List<EnchantDefinition> simulated = new ArrayList<>();
+        for (EnchantDefinition definition : definitions) {
+            if (definition.hasTrigger(EnchantTrigger.BLOCK_BREAK)) {
+                simulated.add(definition);
+            }
+        }
+        this.definitions = simulated.toArray(new EnchantDefinition[0]);
+
+        Map<String, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < this.definitions.length; i++) {
+            indexById.put(this.definitions[i].getId(), i);
+        }
+
+        this.models = new EffectModels.EffectModel[this.definitions.length];
+        for (int i = 0; i < this.definitions.length; i++) {
+            models[i] = EffectModels.create(this.definitions[i], maxBlocksPerProc, indexById);
+        }
+        this.secondHandIndex = indexById.getOrDefault("second_hand", -1);
+    }
+
+    /**
+     * Run on the common fork-join pool. Meant for the command line; on a server,
+     * pass a pool of its own so the run can't take over the common pool.
+     */
+    public SimulationResult run(Settings settings) {
+        return run(settings, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Run on the given pool.
+     *
+     * @throws CancellationException if {@link #cancel()} was called before or during the run
+     */
+    public SimulationResult run(Settings settings, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        int grain = Math.max(1, settings.getPlayers() / (pool.getParallelism() * 4));
+
+        List<PlayerRangeTask> trials = new ArrayList<>(settings.getTrials());
+        for (int trial = 0; trial < settings.getTrials(); trial++) {
+            trials.add(new PlayerRangeTask(settings, trial, 0, settings.getPlayers(), grain));
+        }
+        Totals[] perTrial = pool.invoke(new RecursiveTask<Totals[]>() {
+            @Override
+            protected Totals[] compute() {
+                invokeAll(trials);
+                Totals[] results = new Totals[trials.size()];
+                for (int i = 0; i < results.length; i++) {
+                    results[i] = trials.get(i).join();
+                }
+                return results;
+            }
+        });
+        if (cancelled.get()) {
+            throw new CancellationException("Simulation cancelled");
+        }
+
+        String[] ids = new String[definitions.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = definitions[i].getId();
+        }
+        return new SimulationResult(settings, ids, perTrial, System.nanoTime() - start);
+    }
+
+    /**
+     * Stop the current run as soon as every worker notices; simulated players
+     * check between swings. A cancelled simulator stays cancelled.
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Simulate one player: roll their pickaxe, then mine.
+     */
+    private void simulatePlayer(Settings settings, long unit, Totals totals) {
+        // Seed from the player's position in the run only, so any split gives the same result
+        SplittableRandom random = new SplittableRandom(settings.getSeed() + unit * 0x9E3779B97F4A7C15L);
+
+        List<CompiledEnchant> pickaxe = new ArrayList<>(definitions.length);
+        for (int i = 0; i < definitions.length; i++) {
+            if (random.nextDouble() >= settings.getOwnChance()) continue;
+            int level = settings.getLevels().sample(definitions[i].getMaxLevel(), random);
+            pickaxe.add(new CompiledEnchant(definitions[i], i, level));
+        }
+        if (pickaxe.isEmpty()) {
+            // Still mines by hand
+            totals.handBlocks += (long) (settings.getDurationSeconds() * settings.getSwingsPerSecond());
+            return;
+        }
+
+        new SimulatedPlayer(pickaxe.toArray(new CompiledEnchant[0]), models, secondHandIndex,
+                settings, totals, random, cancelled).run();
+    }
+
+    private final class PlayerRangeTask extends RecursiveTask<Totals> {
+        private final Settings settings;
+        private final int trial;
+        private final int from, to;
+        private final int grain;
+
+        PlayerRangeTask(Settings settings, int trial, int from, int to, int grain) {
+            this.settings = settings;
+            this.trial = trial;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= grain) {
+                Totals totals = new Totals(definitions.length);
+                for (int player = from; player < to && !cancelled.get(); player++) {
+                    simulatePlayer(settings, (long) trial * settings.getPlayers() + player, totals);
+                }
+                return totals;
+            }
+
+            int mid = (from + to) >>> 1;
+            PlayerRangeTask left = new PlayerRangeTask(settings, trial, from, mid, grain);
+            left.fork();
+            Totals right = new PlayerRangeTask(settings, trial, mid, to, grain).compute();
+            return right.add(left.join());
+        }
+    }
+
+    /**
+     * Counts summed over some players of one trial, indexed like the simulated enchants.
+     */
+    static final class Totals {
+        final long[] procs;
+        final long[] blocks;
+        final long[] tokens;
+        long handBlocks;
+
+        Totals(int enchants) {
+            this.procs = new long[enchants];
+            this.blocks = new long[enchants];
+            this.tokens = new long[enchants];
+        }
+
+        Totals add(Totals other) {
+            for (int i = 0; i < procs.length; i++) {
+                procs[i] += other.procs[i];
+                blocks[i] += other.blocks[i];
+                tokens[i] += other.tokens[i];
+            }
+            handBlocks += other.handBlocks;
+            return this;
+        }
+    }
+
+    /**
+     * What to simulate. Players, swing rate, duration and levels are required;
+     * the rest default to one owner per enchant, 8 trials and no beacon boosts.
+     */
+    public static final class Settings {
+        private final int players;
+        private final double swingsPerSecond;
+        private final double durationSeconds;
+        private final LevelDistribution levels;
+
+        private double ownChance = 1.0;
+        private int trials = 8;
+        private long seed = 42L;
+        private double beaconProcMultiplier = 1.0;
+        private double tokenMultiplier = 1.0;
+        private double keyMultiplier = 1.0;
+
+        public Settings(int players, double swingsPerSecond, double durationSeconds, LevelDistribution levels) {
+            if (players <= 0 || swingsPerSecond <= 0 || durationSeconds <= 0) {
+                throw new IllegalArgumentException("Players, swing rate and duration must be positive");
+            }
+            this.players = players;
+            this.swingsPerSecond = swingsPerSecond;
+            this.durationSeconds = durationSeconds;
+            this.levels = levels;
+        }
+
+        /**
+         * Set the chance each player has each enchant at all (0-1).
+         */
+        public Settings ownChance(double ownChance) {
+            this.ownChance = Math.max(0.0, Math.min(1.0, ownChance));
+            return this;
+        }
+
+        public Settings trials(int trials) {
+            this.trials = Math.max(1, trials);
+            return this;
+        }
+
+        public Settings seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Set the beacon multipliers applied to proc chance, token deposits and Keyfinder keys.
+         */
+        public Settings beacon(double procMultiplier, double tokenMultiplier, double keyMultiplier) {
+            this.beaconProcMultiplier = procMultiplier;
+            this.tokenMultiplier = tokenMultiplier;
+            this.keyMultiplier = keyMultiplier;
+            return this;
+        }
+
+        public int getPlayers() {
+            return players;
+        }
+
+        public double getSwingsPerSecond() {
+            return swingsPerSecond;
+        }
+
+        public double getDurationSeconds() {
+            return durationSeconds;
+        }
+
+        /**
+         * Get the total number of swings simulated across all players and trials, the measure of a run's cost.
+         */
+        public double getTotalSwings() {
+            return players * swingsPerSecond * durationSeconds * trials;
+        }
+
+        public LevelDistribution getLevels() {
+            return levels;
+        }
+
+        public double getOwnChance() {
+            return ownChance;
+        }
+
+        public int getTrials() {
+            return trials;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public double getBeaconProcMultiplier() {
+            return beaconProcMultiplier;
+        }
+
+        public double getTokenMultiplier() {
+            return tokenMultiplier;
+        }
+
+        public double getKeyMultiplier() {
+            return keyMultiplier;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.luminary.enchants.sim;
+
+import java.util.SplittableRandom;
+
+/**
+ * How enchant levels are spread across simulated players.
+ * <p>
+ * Written as a fixed level ({@code 250}), a uniform level range ({@code 1-500}),
+ * or the same as a share of each enchant's max level ({@code 50%}, {@code 10-100%}).
+ * Levels are always clamped to 1..maxLevel.
+ */
+public final class LevelDistribution {
+
+    private final double min;
+    private final double max;
+    private final boolean ofMaxLevel;
+
+    private LevelDistribution(double min, double max, boolean ofMaxLevel) {
+        this.min = min;
+        this.max = max;
+        this.ofMaxLevel = ofMaxLevel;
+    }
+
+    /**
+     * Parse a distribution.
+     *
+     * @throws IllegalArgumentException if the text isn't one of the supported forms
+     */
+    public static LevelDistribution parse(String text) {
+        String value = text.trim();
+        boolean ofMaxLevel = value.endsWith("%");
+        if (ofMaxLevel) {
+            value = value.substring(0, value.length() - 1);
+        }
+
+        double min, max;
+        try {
+            int dash = value.indexOf('-', 1);
+            if (dash < 0) {
+                min = max = Double.parseDouble(value);
+            } else {
+                min = Double.parseDouble(value.substring(0, dash));
+                max = Double.parseDouble(value.substring(dash + 1));
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid level distribution: " + text);
+        }
+
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("Invalid level distribution: " + text);
+        }
+        return ofMaxLevel ? new LevelDistribution(min / 100.0, max / 100.0, true)
+                : new LevelDistribution(min, max, false);
+    }
+
+    /**
+     * Draw a level for an enchant.
+     */
+    public int sample(int maxLevel, SplittableRandom random) {
+        double value = min == max ? min : min + random.nextDouble() * (max - min);
+        double level = ofMaxLevel ? value * maxLevel : value;
+        return (int) Math.max(1, Math.min(maxLevel, Math.round(level)));
+    }
+
+    @Override
+    public String toString() {
+        String range = min == max ? format(min) : format(min) + "-" + format(max);
+        return ofMaxLevel ? range + " of max level" : "level " + range;
+    }
+
+    private String format(double value) {
+        return ofMaxLevel ? Math.round(value * 100) + "%" : String.valueOf(Math.round(value));
+    }
+}
@@ -0,0 +1,169 @@
+package com.luminary.enchants.sim;
+
+import com.luminary.enchants.pickaxe.CompiledEnchant;
+import com.luminary.enchants.trigger.ProcEngine;
+import com.luminary.enchants.util.CooldownTracker;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One simulated miner: a pickaxe, the per-player state the proc checks and
+ * effects keep in {@code EnchantSession}, and a swing loop on a simulated clock.
+ * Enchants are indexed by their position in the simulator, which doubles as
+ * the cooldown ordinal.
+ */
+final class SimulatedPlayer {
+
+    // Swings between checks of the cancel flag
+    private static final int CANCEL_CHECK_INTERVAL = 4096;
+
+    private final CompiledEnchant[] enchants;
+    private final EffectModels.EffectModel[] models;
+    private final int secondHandIndex;
+    private final EnchantSimulator.Settings settings;
+    private final EnchantSimulator.Totals totals;
+    private final SplittableRandom random;
+    private final AtomicBoolean cancelled;
+
+    private final CooldownTracker cooldowns = new CooldownTracker();
+    private long enhancerExpiresAt;
+    private double enhancerBonus;
+    private int overloadCharge;
+    private long piggyBankStored;
+
+    SimulatedPlayer(CompiledEnchant[] enchants, EffectModels.EffectModel[] models, int secondHandIndex,
+                    EnchantSimulator.Settings settings, EnchantSimulator.Totals totals, SplittableRandom random,
+                    AtomicBoolean cancelled) {
+        this.enchants = enchants;
+        this.models = models;
+        this.secondHandIndex = secondHandIndex;
+        this.settings = settings;
+        this.totals = totals;
+        this.random = random;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Mine for the simulated duration, one block per swing, or until the run is cancelled.
+     */
+    void run() {
+        double msPerSwing = 1000.0 / settings.getSwingsPerSecond();
+        long swings = (long) (settings.getDurationSeconds() * settings.getSwingsPerSecond());
+
+        for (long swing = 0; swing < swings; swing++) {
+            if (swing % CANCEL_CHECK_INTERVAL == 0 && cancelled.get()) {
+                return;
+            }
+            long now = (long) (swing * msPerSwing);
+            totals.handBlocks++;
+            for (CompiledEnchant enchant : enchants) {
+                tryProc(enchant, now, false);
+            }
+        }
+    }
+
+    private boolean tryProc(CompiledEnchant enchant, long now, boolean secondary) {
+        if (!ProcEngine.isReady(cooldowns, enchant, now)) {
+            return false;
+        }
+
+        double multiplier = settings.getBeaconProcMultiplier() + getEnhancerBonus(now);
+        if (!roll(enchant.getProcChance(multiplier))) {
+            return false;
+        }
+
+        int index = enchant.getOrdinal();
+        totals.procs[index]++;
+        EffectModels.EffectModel model = models[index];
+        if (model != null) {
+            model.proc(this, index, enchant.getLevel(), now, secondary);
+        }
+
+        cooldowns.recordProc(index, enchant.getDefinition().getMaxProcsPerSecond(), now);
+        return true;
+    }
+
+    // ==================== Used by effect models ====================
+
+    boolean roll(double chance) {
+        return random.nextDouble() < chance;
+    }
+
+    void addBlocks(int index, int blocks) {
+        totals.blocks[index] += blocks;
+    }
+
+    /**
+     * Deposit tokens the way {@code depositTokens} does, with the beacon token multiplier.
+     */
+    void deposit(int index, long baseAmount) {
+        totals.tokens[index] += (long) (baseAmount * settings.getTokenMultiplier());
+    }
+
+    double getKeyMultiplier() {
+        return settings.getKeyMultiplier();
+    }
+
+    void applyEnhancerBuff(long expiresAt, double bonus, long now) {
+        if (now >= enhancerExpiresAt) {
+            enhancerBonus = bonus;
+        }
+        enhancerExpiresAt = expiresAt;
+    }
+
+    private double getEnhancerBonus(long now) {
+        return now < enhancerExpiresAt ? enhancerBonus : 0.0;
+    }
+
+    void reduceCooldown(int index, long reductionMs) {
+        cooldowns.reduceCooldown(index, reductionMs);
+    }
+
+    /**
+     * Reduce the cooldown of every enchant on the pickaxe except one.
+     */
+    void reduceCooldowns(long reductionMs, int exceptIndex) {
+        for (CompiledEnchant enchant : enchants) {
+            if (enchant.getOrdinal() != exceptIndex) {
+                cooldowns.reduceCooldown(enchant.getOrdinal(), reductionMs);
+            }
+        }
+    }
+
+    /**
+     * Re-roll a random other enchant on the pickaxe, as Second Hand does.
+     */
+    void trySecondaryRoll(long now) {
+        int eligible = 0;
+        for (CompiledEnchant enchant : enchants) {
+            if (enchant.getOrdinal() != secondHandIndex) eligible++;
+        }
+        if (eligible == 0) return;
+
+        int pick = random.nextInt(eligible);
+        for (CompiledEnchant enchant : enchants) {
+            if (enchant.getOrdinal() == secondHandIndex) continue;
+            if (pick-- == 0) {
+                tryProc(enchant, now, true);
+                return;
+            }
+        }
+    }
+
+    int getOverloadCharge() {
+        return overloadCharge;
+    }
+
+    void setOverloadCharge(int overloadCharge) {
+        this.overloadCharge = overloadCharge;
+    }
+
+    long getPiggyBankStored() {
+        return piggyBankStored;
+    }
+
+    void setPiggyBankStored(long piggyBankStored) {
+        this.piggyBankStored = piggyBankStored;
+    }
+}
@@ -0,0 +1,210 @@
+package com.luminary.enchants.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Server-wide rates from a simulation run: per enchant and in total, as the
+ * mean over trials with a 95% confidence interval.
+ */
+public final class SimulationResult {
+
+    private final EnchantSimulator.Settings settings;
+    private final List<Row> rows;
+    private final Rate totalProcsPerSecond;
+    private final Rate totalBlocksPerSecond;
+    private final Rate totalTokensPerHour;
+    private final Rate handBlocksPerSecond;
+    private final long wallNanos;
+
+    SimulationResult(EnchantSimulator.Settings settings, String[] ids, EnchantSimulator.Totals[] trials, long wallNanos) {
+        this.settings = settings;
+        this.wallNanos = wallNanos;
+
+        double seconds = settings.getDurationSeconds();
+        double hours = seconds / 3600.0;
+        int n = trials.length;
+
+        List<Row> rows = new ArrayList<>();
+        double[] totalProcs = new double[n];
+        double[] totalBlocks = new double[n];
+        double[] totalTokens = new double[n];
+        double[] hand = new double[n];
+
+        for (int i = 0; i < ids.length; i++) {
+            double[] procs = new double[n];
+            double[] blocks = new double[n];
+            double[] tokens = new double[n];
+            for (int t = 0; t < n; t++) {
+                procs[t] = trials[t].procs[i] / seconds;
+                blocks[t] = trials[t].blocks[i] / seconds;
+                tokens[t] = trials[t].tokens[i] / hours;
+                totalProcs[t] += procs[t];
+                totalBlocks[t] += blocks[t];
+                totalTokens[t] += tokens[t];
+            }
+            rows.add(new Row(ids[i], Rate.of(procs), Rate.of(blocks), Rate.of(tokens)));
+        }
+        for (int t = 0; t < n; t++) {
+            hand[t] = trials[t].handBlocks / seconds;
+        }
+
+        // Heaviest block load first
+        rows.sort(Comparator.comparingDouble((Row row) -> row.getBlocksPerSecond().getMean())
+                .thenComparingDouble(row -> row.getProcsPerSecond().getMean())
+                .reversed());
+        this.rows = Collections.unmodifiableList(rows);
+        this.totalProcsPerSecond = Rate.of(totalProcs);
+        this.totalBlocksPerSecond = Rate.of(totalBlocks);
+        this.totalTokensPerHour = Rate.of(totalTokens);
+        this.handBlocksPerSecond = Rate.of(hand);
+    }
+
+    public EnchantSimulator.Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Get one row per simulated enchant, heaviest block load first.
+     */
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    public Rate getTotalProcsPerSecond() {
+        return totalProcsPerSecond;
+    }
+
+    /**
+     * Get the blocks broken by enchant effects per second, on top of {@link #getHandBlocksPerSecond()}.
+     */
+    public Rate getTotalBlocksPerSecond() {
+        return totalBlocksPerSecond;
+    }
+
+    public Rate getTotalTokensPerHour() {
+        return totalTokensPerHour;
+    }
+
+    public Rate getHandBlocksPerSecond() {
+        return handBlocksPerSecond;
+    }
+
+    /**
+     * Get the total play time simulated across all players and trials, in hours.
+     */
+    public double getSimulatedPlayerHours() {
+        return settings.getPlayers() * settings.getDurationSeconds() * settings.getTrials() / 3600.0;
+    }
+
+    public long getWallMillis() {
+        return wallNanos / 1_000_000L;
+    }
+
+    /**
+     * Render the result as a plain text table.
+     */
+    public List<String> toTable() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "%d players, %.1f swings/s, %s, %s, %d trials",
+                settings.getPlayers(), settings.getSwingsPerSecond(),
+                formatDuration(settings.getDurationSeconds()), settings.getLevels(), settings.getTrials()));
+        lines.add(String.format(Locale.ROOT, "%-16s %20s %22s %24s", "enchant", "procs/s", "blocks/s", "tokens/h"));
+        for (Row row : rows) {
+            lines.add(String.format(Locale.ROOT, "%-16s %20s %22s %24s", row.getId(),
+                    row.getProcsPerSecond(), row.getBlocksPerSecond(), row.getTokensPerHour()));
+        }
+        lines.add(String.format(Locale.ROOT, "%-16s %20s %22s %24s", "total",
+                totalProcsPerSecond, totalBlocksPerSecond, totalTokensPerHour));
+        lines.add(String.format(Locale.ROOT, "Blocks mined by hand: %s/s", handBlocksPerSecond));
+        lines.add(String.format(Locale.ROOT, "Simulated %.0f player-hours in %.2fs",
+                getSimulatedPlayerHours(), wallNanos / 1e9));
+        return lines;
+    }
+
+    private static String formatDuration(double seconds) {
+        return seconds >= 3600 ? String.format(Locale.ROOT, "%.1fh", seconds / 3600.0)
+                : String.format(Locale.ROOT, "%.0fm", seconds / 60.0);
+    }
+
+    /**
+     * One enchant's share of the load.
+     */
+    public static final class Row {
+        private final String id;
+        private final Rate procsPerSecond;
+        private final Rate blocksPerSecond;
+        private final Rate tokensPerHour;
+
+        Row(String id, Rate procsPerSecond, Rate blocksPerSecond, Rate tokensPerHour) {
+            this.id = id;
+            this.procsPerSecond = procsPerSecond;
+            this.blocksPerSecond = blocksPerSecond;
+            this.tokensPerHour = tokensPerHour;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public Rate getProcsPerSecond() {
+            return procsPerSecond;
+        }
+
+        public Rate getBlocksPerSecond() {
+            return blocksPerSecond;
+        }
+
+        public Rate getTokensPerHour() {
+            return tokensPerHour;
+        }
+    }
+
+    /**
+     * A rate's mean over trials and the half-width of its 95% confidence interval.
+     */
+    public static final class Rate {
+        private final double mean;
+        private final double margin;
+
+        private Rate(double mean, double margin) {
+            this.mean = mean;
+            this.margin = margin;
+        }
+
+        static Rate of(double[] samples) {
+            int n = samples.length;
+            double sum = 0;
+            for (double sample : samples) {
+                sum += sample;
+            }
+            double mean = sum / n;
+            if (n < 2) {
+                return new Rate(mean, 0.0);
+            }
+
+            double squares = 0;
+            for (double sample : samples) {
+                squares += (sample - mean) * (sample - mean);
+            }
+            double stdDev = Math.sqrt(squares / (n - 1));
+            return new Rate(mean, 1.96 * stdDev / Math.sqrt(n));
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public double getMargin() {
+            return margin;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%,.1f ± %,.1f", mean, margin);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.luminary.enchants.sim;
+
+import com.luminary.enchants.pickaxe.EnchantDefinition;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the simulator from the command line against an enchants.yml, for
+ * trying config changes before they go near a server.
+ * <pre>
+ * ./gradlew simulate -PsimArgs="--players 200 --swings 5 --hours 2 --levels 10-100%"
+ * </pre>
+ * Options: {@code --enchants <file>}, {@code --config <file>} (for max-blocks-per-proc),
+ * {@code --players}, {@code --swings} (per second), {@code --hours}, {@code --levels},
+ * {@code --own} (chance to have each enchant), {@code --trials}, {@code --seed},
+ * {@code --beacon-proc}, {@code --beacon-tokens}, {@code --beacon-keys}.
+ */
+public final class SimulatorCli {
+
+    private SimulatorCli() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                System.err.println("Expected an option, got " + args[i]);
+                System.exit(1);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+
+        File enchantsFile = new File(options.getOrDefault("enchants", "src/main/resources/enchants.yml"));
+        if (!enchantsFile.isFile()) {
+            System.err.println("Enchants file not found: " + enchantsFile);
+            System.exit(1);
+        }
+
+        int maxBlocksPerProc = 64;
+        File configFile = new File(options.getOrDefault("config", "src/main/resources/config.yml"));
+        if (configFile.isFile()) {
+            maxBlocksPerProc = YamlConfiguration.loadConfiguration(configFile)
+                    .getInt("performance.max-blocks-per-proc", maxBlocksPerProc);
+        }
+
+        List<EnchantDefinition> definitions = loadDefinitions(enchantsFile);
+        try {
+            EnchantSimulator.Settings settings = new EnchantSimulator.Settings(
+                    Integer.parseInt(options.getOrDefault("players", "100")),
+                    Double.parseDouble(options.getOrDefault("swings", "4")),
+                    Double.parseDouble(options.getOrDefault("hours", "1")) * 3600.0,
+                    LevelDistribution.parse(options.getOrDefault("levels", "10-100%")))
+                    .ownChance(Double.parseDouble(options.getOrDefault("own", "1")))
+                    .trials(Integer.parseInt(options.getOrDefault("trials", "8")))
+                    .seed(Long.parseLong(options.getOrDefault("seed", "42")))
+                    .beacon(Double.parseDouble(options.getOrDefault("beacon-proc", "1")),
+                            Double.parseDouble(options.getOrDefault("beacon-tokens", "1")),
+                            Double.parseDouble(options.getOrDefault("beacon-keys", "1")));
+
+            SimulationResult result = new EnchantSimulator(definitions, maxBlocksPerProc).run(settings);
+            result.toTable().forEach(System.out::println);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static List<EnchantDefinition> loadDefinitions(File file) {
+        List<EnchantDefinition> definitions = new ArrayList<>();
+        ConfigurationSection enchants = YamlConfiguration.loadConfiguration(file).getConfigurationSection("enchants");
+        if (enchants == null) {
+            return definitions;
+        }
+
+        for (String key : enchants.getKeys(false)) {
+            ConfigurationSection section = enchants.getConfigurationSection(key);
+            if (section == null) continue;
+            try {
+                definitions.add(new EnchantDefinition(section));
+            } catch (Exception e) {
+                System.err.println("Failed to load enchant '" + key + "': " + e.getMessage());
+            }
+        }
+        return definitions;
+    }
+}
@@ -0,0 +1,274 @@
+package com.luminary.enchants.trigger;
+
+import com.luminary.enchants.LuminaryEnchants;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * One queue for all delayed and multi-stage enchant work (Meteor Shower strikes,
+ * Overclock decay, ...), drained by a single task every tick.
+ * <p>
+ * Each tick runs due work round-robin across players, one unit per player per
+ * turn, until the per-tick time or block budget runs out. Whatever doesn't fit
+ * waits for the next tick, so a burst of procs spreads out instead of landing
+ * on one tick. Only touched from the main thread.
+ */
+public class EffectScheduler {
+
+    private final LuminaryEnchants plugin;
+
+    // Work waiting for its tick, soonest first
+    private final PriorityQueue<Entry> delayed = new PriorityQueue<>();
+    // Due work per player; a player is in the ring while they have due work
+    private final Map<UUID, PlayerQueue> queues = new HashMap<>();
+    private final ArrayDeque<PlayerQueue> ring = new ArrayDeque<>();
+
+    private BukkitTask task;
+    private long currentTick;
+    private long nextSequence;
+
+    private long maxNanosPerTick;
+    private int maxBlocksPerTick;
+
+    // Metrics
+    private long totalRun;
+    private long totalDeferred;
+    private long totalDropped;
+    private long maxLagTicks;
+    private int lastTickRun;
+    private int lastTickBlocks;
+    private long lastTickNanos;
+
+    public EffectScheduler(LuminaryEnchants plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        loadSettings();
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop draining and drop everything still queued.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        delayed.clear();
+        queues.clear();
+        ring.clear();
+    }
+
+    public void loadSettings() {
+        maxNanosPerTick = (long) (plugin.getConfigManager().getEffectQueueMaxMsPerTick() * 1_000_000L);
+        maxBlocksPerTick = plugin.getConfigManager().getEffectQueueMaxBlocksPerTick();
+    }
+
+    /**
+     * Queue a unit of work for a player.
+     *
+     * @param player     the player the work belongs to; it is dropped if they leave
+     * @param enchantId  the enchant queueing the work, whose stats its time is counted in
+     * @param delayTicks ticks to wait before the work is due (0 = next tick)
+     * @param work       the work, returning how many blocks it broke
+     */
+    public void submit(Player player, String enchantId, long delayTicks, Task work) {
+        delayed.add(new Entry(player.getUniqueId(), plugin.getEnchantRegistry().getOrdinal(enchantId),
+                currentTick + Math.max(1, delayTicks), nextSequence++, work));
+    }
+
+    /**
+     * Drop all queued work for a player.
+     */
+    public void cancel(UUID playerId) {
+        PlayerQueue queue = queues.remove(playerId);
+        if (queue != null) {
+            ring.remove(queue);
+            totalDropped += queue.ready.size();
+        }
+        int before = delayed.size();
+        delayed.removeIf(entry -> entry.playerId.equals(playerId));
+        totalDropped += before - delayed.size();
+    }
+
+    private void tick() {
+        currentTick++;
+
+        // Move work that is now due into its player's queue
+        while (!delayed.isEmpty() && delayed.peek().dueTick <= currentTick) {
+            Entry entry = delayed.poll();
+            PlayerQueue queue = queues.get(entry.playerId);
+            if (queue == null) {
+                queue = new PlayerQueue(entry.playerId);
+                queues.put(entry.playerId, queue);
+                ring.addLast(queue);
+            }
+            queue.ready.addLast(entry);
+        }
+
+        long start = System.nanoTime();
+        int ran = 0;
+        int blocks = 0;
+
+        while (!ring.isEmpty()) {
+            // Always run at least one unit so the queue can't stall
+            if (ran > 0 && ((maxBlocksPerTick > 0 && blocks >= maxBlocksPerTick)
+                    || System.nanoTime() - start >= maxNanosPerTick)) {
+                break;
+            }
+
+            PlayerQueue queue = ring.pollFirst();
+            Entry entry = queue.ready.pollFirst();
+
+            Player player = Bukkit.getPlayer(queue.playerId);
+            if (player == null || !player.isOnline()) {
+                totalDropped += 1 + queue.ready.size();
+                queues.remove(queue.playerId);
+                continue;
+            }
+
+            long lag = currentTick - entry.dueTick;
+            if (lag > 0) {
+                totalDeferred++;
+                maxLagTicks = Math.max(maxLagTicks, lag);
+            }
+
+            boolean failed = false;
+            long unitStart = System.nanoTime();
+            try {
+                blocks += Math.max(0, entry.work.run());
+            } catch (Exception e) {
+                failed = true;
+                plugin.getLogger().warning("Error running queued enchant effect: " + e.getMessage());
+            }
+            plugin.getProcTelemetry().recordQueuedWork(entry.ordinal, System.nanoTime() - unitStart, failed);
+            ran++;
+
+            if (queue.ready.isEmpty()) {
+                queues.remove(queue.playerId);
+            } else {
+                ring.addLast(queue);
+            }
+        }
+
+        totalRun += ran;
+        lastTickRun = ran;
+        lastTickBlocks = blocks;
+        lastTickNanos = System.nanoTime() - start;
+    }
+
+    // ==================== Metrics ====================
+
+    /**
+     * Get the number of units that are due but waiting for budget.
+     */
+    public int getReadyCount() {
+        int count = 0;
+        for (PlayerQueue queue : ring) {
+            count += queue.ready.size();
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of units waiting for their tick.
+     */
+    public int getDelayedCount() {
+        return delayed.size();
+    }
+
+    public int getQueuedPlayerCount() {
+        return ring.size();
+    }
+
+    public long getTotalRun() {
+        return totalRun;
+    }
+
+    /**
+     * Get the number of units that ran later than their due tick because of the budget.
+     */
+    public long getTotalDeferred() {
+        return totalDeferred;
+    }
+
+    /**
+     * Get the number of units dropped because their player left.
+     */
+    public long getTotalDropped() {
+        return totalDropped;
+    }
+
+    public long getMaxLagTicks() {
+        return maxLagTicks;
+    }
+
+    public int getLastTickRun() {
+        return lastTickRun;
+    }
+
+    public int getLastTickBlocks() {
+        return lastTickBlocks;
+    }
+
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    public long getMaxNanosPerTick() {
+        return maxNanosPerTick;
+    }
+
+    public int getMaxBlocksPerTick() {
+        return maxBlocksPerTick;
+    }
+
+    /**
+     * A unit of queued effect work.
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * @return the number of blocks broken, counted against the per-tick block budget
+         */
+        int run();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        final UUID playerId;
+        final int ordinal;
+        final long dueTick;
+        final long sequence;
+        final Task work;
+
+        Entry(UUID playerId, int ordinal, long dueTick, long sequence, Task work) {
+            this.playerId = playerId;
+            this.ordinal = ordinal;
+            this.dueTick = dueTick;
+            this.sequence = sequence;
+            this.work = work;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTick = Long.compare(dueTick, other.dueTick);
+            return byTick != 0 ? byTick : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private static final class PlayerQueue {
+        final UUID playerId;
+        final ArrayDeque<Entry> ready = new ArrayDeque<>();
+
+        PlayerQueue(UUID playerId) {
+            this.playerId = playerId;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.luminary.enchants.trigger;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A player's enchant feedback for the current tick. Effects send action bars,
+ * sounds and particles through here instead of straight to the player:
+ * <ul>
+ *   <li>action bar messages from the same tick are merged into one, sent at the end of the tick</li>
+ *   <li>repeats of a sound are dropped, and only a few sounds play per tick</li>
+ *   <li>particle counts shrink with distance and share a per-player and per-chunk budget</li>
+ * </ul>
+ */
+public final class EnchantFeedback {
+
+    private static final Component SEPARATOR = Component.text(" | ");
+
+    private final Player player;
+    private final FeedbackAggregator aggregator;
+
+    private final List<String> actionBarParts = new ArrayList<>(4);
+
+    private final Map<Sound, Long> lastSound = new EnumMap<>(Sound.class);
+    private int soundsThisTick;
+    private int particlesThisTick;
+    private int currentTick = -1;
+
+    EnchantFeedback(Player player, FeedbackAggregator aggregator) {
+        this.player = player;
+        this.aggregator = aggregator;
+    }
+
+    private void rollTick() {
+        int tick = Bukkit.getCurrentTick();
+        if (tick != currentTick) {
+            currentTick = tick;
+            soundsThisTick = 0;
+            particlesThisTick = 0;
+        }
+    }
+
+    /**
+     * Queue an action bar message (legacy {@code &} colours).
+     */
+    public void actionBar(String legacyText) {
+        if (actionBarParts.contains(legacyText)) return;
+        if (actionBarParts.isEmpty()) {
+            aggregator.markPending(this);
+        } else if (actionBarParts.size() >= aggregator.getMaxActionBarParts()) {
+            return;
+        }
+        actionBarParts.add(legacyText);
+    }
+
+    void flushActionBar() {
+        if (actionBarParts.isEmpty()) return;
+        if (player.isOnline()) {
+            Component message;
+            if (actionBarParts.size() == 1) {
+                message = aggregator.component(actionBarParts.get(0));
+            } else {
+                List<Component> parts = new ArrayList<>(actionBarParts.size());
+                for (String part : actionBarParts) {
+                    parts.add(aggregator.component(part));
+                }
+                message = Component.join(JoinConfiguration.separator(SEPARATOR), parts);
+            }
+            player.sendActionBar(message);
+        }
+        actionBarParts.clear();
+    }
+
+    /**
+     * Play a sound to the player, unless it just played or this tick already had enough.
+     */
+    public void sound(Location location, Sound sound, float volume, float pitch) {
+        rollTick();
+        if (soundsThisTick >= aggregator.getMaxSoundsPerTick()) return;
+
+        long now = System.currentTimeMillis();
+        Long last = lastSound.get(sound);
+        if (last != null && now - last < aggregator.getSoundMinIntervalMs()) return;
+
+        lastSound.put(sound, now);
+        soundsThisTick++;
+        player.playSound(location, sound, volume, pitch);
+    }
+
+    /**
+     * Spawn particles in the world, scaled down by distance and budget.
+     */
+    public void particle(Particle particle, Location location, int count,
+                         double offsetX, double offsetY, double offsetZ, double extra) {
+        particle(particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    /**
+     * Spawn particles with data (dust colour, block data), scaled down by distance and budget.
+     */
+    public <T> void particle(Particle particle, Location location, int count,
+                             double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        int allowed = allowParticles(location, count);
+        if (allowed <= 0) return;
+        location.getWorld().spawnParticle(particle, location, allowed, offsetX, offsetY, offsetZ, extra, data);
+    }
+
+    private int allowParticles(Location location, int count) {
+        if (count <= 0 || location.getWorld() != player.getWorld()) return 0;
+        rollTick();
+
+        double scale = aggregator.particleScale(location.distanceSquared(player.getLocation()));
+        int wanted = (int) Math.ceil(count * scale);
+        wanted = Math.min(wanted, aggregator.getMaxParticlesPerPlayer() - particlesThisTick);
+        if (wanted <= 0) return 0;
+
+        int granted = aggregator.takeChunkParticles(location.getBlockX() >> 4, location.getBlockZ() >> 4, wanted);
+        particlesThisTick += granted;
+        return granted;
+    }
+}
@@ -0,0 +1,218 @@
+package com.luminary.enchants.trigger;
+
+import com.luminary.enchants.util.CooldownTracker;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * All per-player enchant state, created when a player joins and dropped
+ * when they quit. Effects get the session handed to them, so a block break
+ * costs one player lookup no matter how many enchants proc.
+ * <p>
+ * Only touched from the main thread.
+ */
+public final class EnchantSession {
+
+    private final Player player;
+    private final CooldownTracker cooldowns = new CooldownTracker();
+    private final EnchantFeedback feedback;
+
+    // Enhancer buff
+    private long enhancerExpiresAt;
+    private double enhancerBonus;
+
+    // Second Hand recursion guard
+    private boolean inSecondaryRoll;
+
+    // Procs for the batch event, only collected while something listens
+    private final ProcBatch procBatch = new ProcBatch();
+    private boolean collectingProcs;
+
+    // Laser toggle
+    private boolean laserEnabled;
+
+    // Overclock
+    private int overclockStacks;
+    private long overclockLastActivity;
+    private boolean overclockDecayQueued;
+
+    // Counters and timers for stateful enchants
+    private int rewindBlocks;
+    private int overloadCharge;
+    private long piggyBankStored;
+    private long lastMirrorProc;
+
+    // Poison buff
+    private long poisonExpiresAt;
+    private double poisonOreBonus = 1.0;
+    private double poisonStonePenalty = 1.0;
+
+    EnchantSession(Player player, FeedbackAggregator aggregator) {
+        this.player = player;
+        this.feedback = new EnchantFeedback(player, aggregator);
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public UUID getPlayerId() {
+        return player.getUniqueId();
+    }
+
+    public CooldownTracker getCooldowns() {
+        return cooldowns;
+    }
+
+    /**
+     * Get the action bar, sound and particle output for this player.
+     */
+    public EnchantFeedback getFeedback() {
+        return feedback;
+    }
+
+    // ==================== Enhancer ====================
+
+    /**
+     * Apply an Enhancer buff. An active buff has its duration refreshed, the bonus doesn't stack.
+     */
+    public void applyEnhancerBuff(long expiresAt, double bonus, long now) {
+        if (now >= enhancerExpiresAt) {
+            enhancerBonus = bonus;
+        }
+        enhancerExpiresAt = expiresAt;
+    }
+
+    /**
+     * Get the active Enhancer proc chance bonus, or 0.
+     */
+    public double getEnhancerBonus(long now) {
+        return now < enhancerExpiresAt ? enhancerBonus : 0.0;
+    }
+
+    // ==================== Second Hand ====================
+
+    boolean isInSecondaryRoll() {
+        return inSecondaryRoll;
+    }
+
+    void setInSecondaryRoll(boolean inSecondaryRoll) {
+        this.inSecondaryRoll = inSecondaryRoll;
+    }
+
+    // ==================== Proc batch ====================
+
+    ProcBatch beginProcBatch() {
+        procBatch.clear();
+        collectingProcs = true;
+        return procBatch;
+    }
+
+    void endProcBatch() {
+        collectingProcs = false;
+    }
+
+    /**
+     * Get the batch procs are being collected into, or null.
+     */
+    ProcBatch getActiveProcBatch() {
+        return collectingProcs ? procBatch : null;
+    }
+
+    // ==================== Laser ====================
+
+    public boolean isLaserEnabled() {
+        return laserEnabled;
+    }
+
+    public void setLaserEnabled(boolean laserEnabled) {
+        this.laserEnabled = laserEnabled;
+    }
+
+    // ==================== Overclock ====================
+
+    public int getOverclockStacks() {
+        return overclockStacks;
+    }
+
+    public void setOverclockStacks(int overclockStacks) {
+        this.overclockStacks = overclockStacks;
+    }
+
+    public long getOverclockLastActivity() {
+        return overclockLastActivity;
+    }
+
+    public void setOverclockLastActivity(long overclockLastActivity) {
+        this.overclockLastActivity = overclockLastActivity;
+    }
+
+    /**
+     * Check if a decay check is already queued on the effect scheduler.
+     */
+    public boolean isOverclockDecayQueued() {
+        return overclockDecayQueued;
+    }
+
+    public void setOverclockDecayQueued(boolean overclockDecayQueued) {
+        this.overclockDecayQueued = overclockDecayQueued;
+    }
+
+    // ==================== Counters ====================
+
+    public int getRewindBlocks() {
+        return rewindBlocks;
+    }
+
+    public void setRewindBlocks(int rewindBlocks) {
+        this.rewindBlocks = rewindBlocks;
+    }
+
+    public int getOverloadCharge() {
+        return overloadCharge;
+    }
+
+    public void setOverloadCharge(int overloadCharge) {
+        this.overloadCharge = overloadCharge;
+    }
+
+    public long getPiggyBankStored() {
+        return piggyBankStored;
+    }
+
+    public void setPiggyBankStored(long piggyBankStored) {
+        this.piggyBankStored = piggyBankStored;
+    }
+
+    /**
+     * Get when Mirror last duplicated drops, or 0 if it never has.
+     */
+    public long getLastMirrorProc() {
+        return lastMirrorProc;
+    }
+
+    public void setLastMirrorProc(long lastMirrorProc) {
+        this.lastMirrorProc = lastMirrorProc;
+    }
+
+    // ==================== Poison ====================
+
+    public void applyPoisonBuff(long expiresAt, double oreBonus, double stonePenalty) {
+        this.poisonExpiresAt = expiresAt;
+        this.poisonOreBonus = oreBonus;
+        this.poisonStonePenalty = stonePenalty;
+    }
+
+    public boolean hasPoisonBuff(long now) {
+        return now < poisonExpiresAt;
+    }
+
+    public double getPoisonOreMultiplier(long now) {
+        return hasPoisonBuff(now) ? poisonOreBonus : 1.0;
+    }
+
+    public double getPoisonStoneMultiplier(long now) {
+        return hasPoisonBuff(now) ? poisonStonePenalty : 1.0;
+    }
+}
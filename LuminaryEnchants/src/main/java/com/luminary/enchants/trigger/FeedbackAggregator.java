@@ -0,0 +1,154 @@
+package com.luminary.enchants.trigger;
+
+import com.luminary.enchants.LuminaryEnchants;
+import com.luminary.enchants.core.ConfigManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared side of enchant feedback: settings, parsed message cache, per-chunk
+ * particle budgets and the end-of-tick action bar flush.
+ * The per-player side is {@link EnchantFeedback}. Only touched from the main thread.
+ */
+public class FeedbackAggregator {
+
+    private static final int COMPONENT_CACHE_SIZE = 512;
+
+    private final LuminaryEnchants plugin;
+
+    // Parsed legacy strings, least recently used dropped first
+    private final Map<String, Component> components = new LinkedHashMap<>(COMPONENT_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Component> eldest) {
+            return size() > COMPONENT_CACHE_SIZE;
+        }
+    };
+
+    // Particles spawned per chunk this tick
+    private final Map<Long, int[]> chunkParticles = new HashMap<>();
+    private int chunkParticlesTick = -1;
+
+    // Sessions with action bar parts waiting for the flush
+    private final List<EnchantFeedback> pending = new ArrayList<>();
+
+    private BukkitTask task;
+
+    private int maxActionBarParts;
+    private long soundMinIntervalMs;
+    private int maxSoundsPerTick;
+    private int maxParticlesPerPlayer;
+    private int maxParticlesPerChunk;
+    private double particleNearDistance;
+    private double particleFarDistance;
+
+    public FeedbackAggregator(LuminaryEnchants plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        loadSettings();
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, 1L, 1L);
+        }
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        pending.clear();
+    }
+
+    public void loadSettings() {
+        ConfigManager config = plugin.getConfigManager();
+        maxActionBarParts = Math.max(1, config.getFeedbackMaxActionBarParts());
+        soundMinIntervalMs = config.getFeedbackSoundMinIntervalMs();
+        maxSoundsPerTick = config.getFeedbackMaxSoundsPerTick();
+        maxParticlesPerPlayer = config.getFeedbackMaxParticlesPerPlayer();
+        maxParticlesPerChunk = config.getFeedbackMaxParticlesPerChunk();
+        particleNearDistance = config.getFeedbackParticleNearDistance();
+        particleFarDistance = Math.max(particleNearDistance, config.getFeedbackParticleFarDistance());
+        // Lore colours may have changed
+        components.clear();
+    }
+
+    /**
+     * Get a legacy colour string as a component, parsing it only the first time it is seen.
+     */
+    public Component component(String legacyText) {
+        Component component = components.get(legacyText);
+        if (component == null) {
+            component = plugin.getPickaxeDataManager().getLoreRenderer().createDisplayComponent(legacyText);
+            components.put(legacyText, component);
+        }
+        return component;
+    }
+
+    void markPending(EnchantFeedback feedback) {
+        pending.add(feedback);
+    }
+
+    /**
+     * Take up to {@code wanted} particles from a chunk's budget for this tick.
+     *
+     * @return how many were granted
+     */
+    int takeChunkParticles(int chunkX, int chunkZ, int wanted) {
+        int tick = Bukkit.getCurrentTick();
+        if (tick != chunkParticlesTick) {
+            chunkParticles.clear();
+            chunkParticlesTick = tick;
+        }
+
+        long key = (long) chunkX << 32 | (chunkZ & 0xFFFFFFFFL);
+        int[] used = chunkParticles.computeIfAbsent(key, k -> new int[1]);
+        int granted = Math.min(wanted, maxParticlesPerChunk - used[0]);
+        if (granted <= 0) return 0;
+        used[0] += granted;
+        return granted;
+    }
+
+    /**
+     * Get the share of a particle burst to keep at a distance from the viewer:
+     * all of it up to the near distance, fading to none at the far distance.
+     */
+    double particleScale(double distanceSquared) {
+        double near = particleNearDistance;
+        if (distanceSquared <= near * near) return 1.0;
+        double far = particleFarDistance;
+        if (far <= near || distanceSquared >= far * far) return 0.0;
+        return (far - Math.sqrt(distanceSquared)) / (far - near);
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) return;
+        for (EnchantFeedback feedback : pending) {
+            feedback.flushActionBar();
+        }
+        pending.clear();
+    }
+
+    int getMaxActionBarParts() {
+        return maxActionBarParts;
+    }
+
+    long getSoundMinIntervalMs() {
+        return soundMinIntervalMs;
+    }
+
+    int getMaxSoundsPerTick() {
+        return maxSoundsPerTick;
+    }
+
+    int getMaxParticlesPerPlayer() {
+        return maxParticlesPerPlayer;
+    }
+}
@@ -9,9 +9,12 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 
 /**
  * Listens for pickaxe-related events and triggers enchant processing.
@@ -79,10 +82,35 @@ public class PickaxeListener implements Listener {
         plugin.getMenuManager().openMainMenu(player);
     }
 
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        plugin.getProcEngine().getSession(event.getPlayer());
+
+        // Convert pickaxes still in the old enchant format once, not on every lookup
+        PlayerInventory inventory = event.getPlayer().getInventory();
+        for (int slot = 0; slot < inventory.getSize(); slot++) {
+            ItemStack item = inventory.getItem(slot);
+            if (plugin.getPickaxeDataManager().migrate(item)) {
+                inventory.setItem(slot, item);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        // Pickaxes picked up or moved in since join
+        PlayerInventory inventory = event.getPlayer().getInventory();
+        ItemStack item = inventory.getItem(event.getNewSlot());
+        if (plugin.getPickaxeDataManager().migrate(item)) {
+            inventory.setItem(event.getNewSlot(), item);
+        }
+    }
+
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         // Cleanup player data
         plugin.getProcEngine().handlePlayerQuit(event.getPlayer().getUniqueId());
+        plugin.getEffectScheduler().cancel(event.getPlayer().getUniqueId());
         plugin.getMenuManager().handlePlayerQuit(event.getPlayer().getUniqueId());
     }
 }
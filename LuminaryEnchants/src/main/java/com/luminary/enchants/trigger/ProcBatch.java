@@ -0,0 +1,40 @@
+package com.luminary.enchants.trigger;
+
+import java.util.Arrays;
+
+/**
+ * The procs collected during one block break, for {@link com.luminary.enchants.api.events.PickEnchantProcBatchEvent}.
+ * One per session, reused for every break.
+ */
+final class ProcBatch {
+
+    private String[] ids = new String[8];
+    private int[] levels = new int[8];
+    private int size;
+
+    void clear() {
+        size = 0;
+    }
+
+    void add(String id, int level) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            levels = Arrays.copyOf(levels, size * 2);
+        }
+        ids[size] = id;
+        levels[size] = level;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String[] copyIds() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    int[] copyLevels() {
+        return Arrays.copyOf(levels, size);
+    }
+}
@@ -2,12 +2,17 @@ package com.luminary.enchants.trigger;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.api.BeaconEffectProvider;
+import com.luminary.enchants.api.events.PickEnchantProcBatchEvent;
 import com.luminary.enchants.api.events.PickEnchantProcEvent;
+import com.luminary.enchants.core.HookManager;
+import com.luminary.enchants.item.PickaxeDataManager;
+import com.luminary.enchants.item.PickaxeProfile;
+import com.luminary.enchants.pickaxe.CompiledEnchant;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
 import com.luminary.enchants.pickaxe.EnchantTrigger;
 import com.luminary.enchants.trigger.effects.EnchantEffect;
 import com.luminary.enchants.trigger.effects.EnchantEffectRegistry;
-import com.luminary.enchants.util.CooldownManager;
+import com.luminary.enchants.util.CooldownTracker;
 import com.luminary.enchants.util.WeightedRandom;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
@@ -24,67 +29,72 @@ import java.util.*;
 public class ProcEngine {
 
     private final LuminaryEnchants plugin;
-    private final CooldownManager cooldownManager;
     private final EnchantEffectRegistry effectRegistry;
 
-    // Track Enhancer buff state per player
-    private final Map<UUID, EnhancerBuff> enhancerBuffs = new HashMap<>();
+    // Looked up once, they live as long as the plugin
+    private final PickaxeDataManager dataManager;
+    private final ProcTelemetry telemetry;
+    private final HookManager hookManager;
 
-    // Track if we're in a secondary roll (for Second Hand)
-    private final Set<UUID> inSecondaryRoll = new HashSet<>();
+    // One session per online player
+    private final Map<UUID, EnchantSession> sessions = new HashMap<>();
 
     public ProcEngine(LuminaryEnchants plugin) {
         this.plugin = plugin;
-        this.cooldownManager = new CooldownManager();
         this.effectRegistry = new EnchantEffectRegistry(plugin);
+        this.dataManager = plugin.getPickaxeDataManager();
+        this.telemetry = plugin.getProcTelemetry();
+        this.hookManager = plugin.getHookManager();
+
+        // Players already online after a plugin reload
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            getSession(player);
+        }
     }
 
     /**
      * Process all applicable enchants for a block break event.
      */
     public void processBlockBreak(Player player, ItemStack pickaxe, Block block, ProcContext context) {
-        if (!plugin.getPickaxeDataManager().isPickaxe(pickaxe)) {
-            return;
-        }
-
-        Map<String, Integer> enchants = plugin.getPickaxeDataManager().getEnchants(pickaxe);
-        if (enchants.isEmpty()) {
-            return;
-        }
-
-        List<EnchantDefinition> triggeredEnchants = plugin.getEnchantRegistry()
-                .getEnchantsByTrigger(EnchantTrigger.BLOCK_BREAK);
-
-        // Process each enchant
-        for (EnchantDefinition definition : triggeredEnchants) {
-            int level = enchants.getOrDefault(definition.getId(), 0);
-            if (level <= 0) continue;
-
-            tryProc(player, pickaxe, block, definition, level, context);
-        }
+        process(player, pickaxe, block, EnchantTrigger.BLOCK_BREAK, context);
     }
 
     /**
      * Process interact trigger (for Laser toggle, etc.).
      */
     public void processInteract(Player player, ItemStack pickaxe, Block block) {
-        if (!plugin.getPickaxeDataManager().isPickaxe(pickaxe)) {
+        process(player, pickaxe, block, EnchantTrigger.INTERACT, ProcContext.INTERACT);
+    }
+
+    private void process(Player player, ItemStack pickaxe, Block block, EnchantTrigger trigger, ProcContext context) {
+        if (!dataManager.isPickaxe(pickaxe)) {
             return;
         }
 
-        Map<String, Integer> enchants = plugin.getPickaxeDataManager().getEnchants(pickaxe);
-        if (enchants.isEmpty()) {
+        // Only the enchants this pickaxe has, already grouped by trigger
+        CompiledEnchant[] enchants = dataManager.getProfile(pickaxe).getEnchants(trigger);
+        if (enchants.length == 0) {
             return;
         }
 
-        List<EnchantDefinition> triggeredEnchants = plugin.getEnchantRegistry()
-                .getEnchantsByTrigger(EnchantTrigger.INTERACT);
+        EnchantSession session = getSession(player);
+        double beaconMultiplier = getBeaconMultiplier(player.getUniqueId());
 
-        for (EnchantDefinition definition : triggeredEnchants) {
-            int level = enchants.getOrDefault(definition.getId(), 0);
-            if (level <= 0) continue;
+        // Collect procs for the batch event only if someone wants it
+        ProcBatch batch = PickEnchantProcBatchEvent.hasListeners() ? session.beginProcBatch() : null;
+        try {
+            for (CompiledEnchant enchant : enchants) {
+                tryProc(session, pickaxe, block, enchant, beaconMultiplier, context);
+            }
+        } finally {
+            if (batch != null) {
+                session.endProcBatch();
+            }
+        }
 
-            tryProc(player, pickaxe, block, definition, level, ProcContext.INTERACT);
+        if (batch != null && batch.size() > 0) {
+            Bukkit.getPluginManager().callEvent(new PickEnchantProcBatchEvent(
+                    player, pickaxe, block, toEventContext(context), batch.copyIds(), batch.copyLevels()));
         }
     }
 
@@ -93,125 +103,171 @@ public class ProcEngine {
      */
     public boolean tryProc(Player player, ItemStack pickaxe, Block block,
                            EnchantDefinition definition, int level, ProcContext context) {
-        UUID playerId = player.getUniqueId();
+        CompiledEnchant enchant = new CompiledEnchant(definition,
+                plugin.getEnchantRegistry().getOrdinal(definition.getId()), level);
+        return tryProc(getSession(player), pickaxe, block, enchant,
+                getBeaconMultiplier(player.getUniqueId()), context);
+    }
 
-        // Anti-abuse checks
-        if (!passesAntiAbuseChecks(player, definition)) {
-            return false;
-        }
+    private boolean tryProc(EnchantSession session, ItemStack pickaxe, Block block,
+                            CompiledEnchant enchant, double beaconMultiplier, ProcContext context) {
+        Player player = session.getPlayer();
+        EnchantDefinition definition = enchant.getDefinition();
+        int level = enchant.getLevel();
+        long now = System.currentTimeMillis();
+        int ordinal = enchant.getOrdinal();
 
-        // Block filter check
-        if (block != null && !definition.isBlockAllowed(block.getType())) {
+        telemetry.recordAttempt(ordinal);
+        if (!rollProc(session, block, enchant, beaconMultiplier, now)) {
             return false;
         }
+        telemetry.recordRoll(ordinal);
 
-        // Cooldown check
-        if (cooldownManager.isOnCooldown(playerId, definition.getId(), definition.getCooldownMs())) {
-            return false;
+        // Fire event, skipped entirely when nothing listens
+        if (PickEnchantProcEvent.hasListeners()) {
+            PickEnchantProcEvent event = new PickEnchantProcEvent(
+                    player, definition.getId(), level, pickaxe, block, toEventContext(context));
+            Bukkit.getPluginManager().callEvent(event);
+
+            if (event.isCancelled()) {
+                telemetry.recordCancelled(ordinal);
+                return false;
+            }
         }
 
-        // Rate limit check
-        if (cooldownManager.hasExceededProcLimit(playerId, definition.getId(),
-                definition.getMaxProcsPerSecond())) {
-            return false;
+        // Execute effect
+        EnchantEffect effect = effectRegistry.getEffect(definition.getId());
+        if (effect != null) {
+            boolean failed = false;
+            long start = System.nanoTime();
+            try {
+                effect.execute(session, player, pickaxe, block, definition, level, context);
+            } catch (Exception e) {
+                failed = true;
+                plugin.getLogger().warning("Error executing enchant " + definition.getId() +
+                        ": " + e.getMessage());
+            }
+            telemetry.recordEffect(ordinal, System.nanoTime() - start, failed);
         }
 
-        // Calculate proc chance with beacon multiplier
-        double beaconMultiplier = plugin.getHookManager().getBeaconProvider()
-                .multiplier(playerId, BeaconEffectProvider.PROC_CHANCE);
+        // Record proc for cooldown and rate limiting
+        session.getCooldowns().recordProc(ordinal, definition.getMaxProcsPerSecond(), now);
 
-        // Add Enhancer buff if active
-        EnhancerBuff buff = enhancerBuffs.get(playerId);
-        if (buff != null && buff.isActive()) {
-            beaconMultiplier += buff.bonus;
+        ProcBatch batch = session.getActiveProcBatch();
+        if (batch != null) {
+            batch.add(definition.getId(), level);
         }
 
-        double procChance = definition.calculateProcChance(level, beaconMultiplier);
+        return true;
+    }
 
-        // Roll for proc
-        if (!WeightedRandom.roll(procChance)) {
+    private static PickEnchantProcEvent.ProcContext toEventContext(ProcContext context) {
+        return switch (context) {
+            case BLOCK_BREAK -> PickEnchantProcEvent.ProcContext.BLOCK_BREAK;
+            case INTERACT -> PickEnchantProcEvent.ProcContext.INTERACT;
+            case SECONDARY_ROLL -> PickEnchantProcEvent.ProcContext.SECONDARY_ROLL;
+        };
+    }
+
+    /**
+     * Run the anti-abuse, block, cooldown and rate limit checks for an enchant, then roll its chance.
+     * The only state it touches is the rate limit bucket, which is refilled up to {@code now};
+     * the proc itself isn't recorded, so a successful roll still has to be.
+     */
+    static boolean rollProc(EnchantSession session, Block block, CompiledEnchant enchant,
+                            double beaconMultiplier, long now) {
+        EnchantDefinition definition = enchant.getDefinition();
+
+        // Anti-abuse checks
+        if (!passesAntiAbuseChecks(session.getPlayer(), definition)) {
             return false;
         }
 
-        // Fire event
-        PickEnchantProcEvent event = new PickEnchantProcEvent(
-                player, definition.getId(), level, pickaxe, block,
-                context == ProcContext.SECONDARY_ROLL ?
-                        PickEnchantProcEvent.ProcContext.SECONDARY_ROLL :
-                        PickEnchantProcEvent.ProcContext.BLOCK_BREAK
-        );
-        Bukkit.getPluginManager().callEvent(event);
+        // Block filter check
+        if (block != null && !definition.isBlockAllowed(block.getType())) {
+            return false;
+        }
 
-        if (event.isCancelled()) {
+        // Cooldown and rate limit
+        if (!isReady(session.getCooldowns(), enchant, now)) {
             return false;
         }
 
-        // Execute effect
-        EnchantEffect effect = effectRegistry.getEffect(definition.getId());
-        if (effect != null) {
-            try {
-                effect.execute(player, pickaxe, block, definition, level, context);
-            } catch (Exception e) {
-                plugin.getLogger().warning("Error executing enchant " + definition.getId() +
-                        ": " + e.getMessage());
-            }
+        // Add Enhancer buff if active (checked per enchant, an earlier proc may have just applied it)
+        double multiplier = beaconMultiplier + session.getEnhancerBonus(now);
+
+        // Roll for proc
+        return WeightedRandom.roll(enchant.getProcChance(multiplier));
+    }
+
+    /**
+     * Check an enchant's cooldown and proc rate limit. Also used by the simulator.
+     */
+    public static boolean isReady(CooldownTracker cooldowns, CompiledEnchant enchant, long now) {
+        EnchantDefinition definition = enchant.getDefinition();
+        int ordinal = enchant.getOrdinal();
+
+        // Cooldown check
+        if (cooldowns.isOnCooldown(ordinal, definition.getCooldownMs(), now)) {
+            return false;
         }
 
-        // Record proc for cooldown and rate limiting
-        cooldownManager.recordProc(playerId, definition.getId());
-        cooldownManager.incrementProcCounter(playerId, definition.getId());
+        // Rate limit check
+        return !cooldowns.hasExceededProcLimit(ordinal, definition.getMaxProcsPerSecond(), now);
+    }
 
-        return true;
+    /**
+     * Get the beacon proc chance multiplier for a player.
+     */
+    private double getBeaconMultiplier(UUID playerId) {
+        return hookManager.getBeaconProvider()
+                .multiplier(playerId, BeaconEffectProvider.PROC_CHANCE);
     }
 
     /**
      * Handle secondary roll from Second Hand enchant.
      * Returns true if a proc occurred.
      */
-    public boolean trySecondaryRoll(Player player, ItemStack pickaxe, Block block,
-                                     Map<String, Integer> enchants) {
-        UUID playerId = player.getUniqueId();
-
+    public boolean trySecondaryRoll(EnchantSession session, ItemStack pickaxe, Block block, PickaxeProfile profile) {
         // Prevent infinite recursion
-        if (inSecondaryRoll.contains(playerId)) {
+        if (session.isInSecondaryRoll()) {
             return false;
         }
 
-        inSecondaryRoll.add(playerId);
+        session.setInSecondaryRoll(true);
         try {
             // Pick a random enchant to re-roll (excluding Second Hand itself)
-            List<Map.Entry<String, Integer>> eligible = new ArrayList<>();
-            for (Map.Entry<String, Integer> entry : enchants.entrySet()) {
-                if (!entry.getKey().equals("second_hand") && entry.getValue() > 0) {
-                    EnchantDefinition def = plugin.getEnchantRegistry().getEnchant(entry.getKey());
-                    if (def != null && def.hasTrigger(EnchantTrigger.BLOCK_BREAK)) {
-                        eligible.add(entry);
-                    }
+            CompiledEnchant[] enchants = profile.getEnchants(EnchantTrigger.BLOCK_BREAK);
+            int eligible = 0;
+            for (CompiledEnchant enchant : enchants) {
+                if (!enchant.getId().equals("second_hand")) {
+                    eligible++;
                 }
             }
 
-            if (eligible.isEmpty()) {
+            if (eligible == 0) {
                 return false;
             }
 
             // Pick random
-            Map.Entry<String, Integer> selected = eligible.get(
-                    WeightedRandom.randomInt(0, eligible.size() - 1));
-
-            EnchantDefinition def = plugin.getEnchantRegistry().getEnchant(selected.getKey());
-            if (def == null) return false;
-
-            return tryProc(player, pickaxe, block, def, selected.getValue(),
-                    ProcContext.SECONDARY_ROLL);
+            int pick = WeightedRandom.randomInt(0, eligible - 1);
+            for (CompiledEnchant enchant : enchants) {
+                if (enchant.getId().equals("second_hand")) continue;
+                if (pick-- == 0) {
+                    return tryProc(session, pickaxe, block, enchant,
+                            getBeaconMultiplier(session.getPlayerId()), ProcContext.SECONDARY_ROLL);
+                }
+            }
+            return false;
         } finally {
-            inSecondaryRoll.remove(playerId);
+            session.setInSecondaryRoll(false);
         }
     }
 
     /**
      * Check if player passes anti-abuse requirements.
      */
-    private boolean passesAntiAbuseChecks(Player player, EnchantDefinition definition) {
+    private static boolean passesAntiAbuseChecks(Player player, EnchantDefinition definition) {
         // Creative mode check
         if (definition.isIgnoreIfCreative() && player.getGameMode() == GameMode.CREATIVE) {
             return false;
@@ -232,25 +288,29 @@ public class ProcEngine {
     }
 
     /**
-     * Apply Enhancer buff to a player.
+     * Get a player's enchant session, creating it if needed.
      */
-    public void applyEnhancerBuff(UUID playerId, int durationTicks, double bonus) {
-        long expiresAt = System.currentTimeMillis() + (durationTicks * 50L);
-        EnhancerBuff existing = enhancerBuffs.get(playerId);
-
-        if (existing != null && existing.isActive()) {
-            // Refresh duration, don't stack bonus
-            existing.expiresAt = expiresAt;
-        } else {
-            enhancerBuffs.put(playerId, new EnhancerBuff(expiresAt, bonus));
+    public EnchantSession getSession(Player player) {
+        EnchantSession session = sessions.get(player.getUniqueId());
+        if (session == null) {
+            session = new EnchantSession(player, plugin.getFeedbackAggregator());
+            sessions.put(player.getUniqueId(), session);
         }
+        return session;
+    }
+
+    /**
+     * Get an online player's enchant session, or null.
+     */
+    public EnchantSession findSession(UUID playerId) {
+        return sessions.get(playerId);
     }
 
     /**
-     * Get cooldown manager for external access.
+     * Get all active sessions.
      */
-    public CooldownManager getCooldownManager() {
-        return cooldownManager;
+    public Collection<EnchantSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
     }
 
     /**
@@ -264,9 +324,7 @@ public class ProcEngine {
      * Clean up player data on logout.
      */
     public void handlePlayerQuit(UUID playerId) {
-        cooldownManager.clearPlayer(playerId);
-        enhancerBuffs.remove(playerId);
-        inSecondaryRoll.remove(playerId);
+        sessions.remove(playerId);
     }
 
     /**
@@ -277,18 +335,4 @@ public class ProcEngine {
         INTERACT,
         SECONDARY_ROLL
     }
-
-    private static class EnhancerBuff {
-        long expiresAt;
-        final double bonus;
-
-        EnhancerBuff(long expiresAt, double bonus) {
-            this.expiresAt = expiresAt;
-            this.bonus = bonus;
-        }
-
-        boolean isActive() {
-            return System.currentTimeMillis() < expiresAt;
-        }
-    }
 }
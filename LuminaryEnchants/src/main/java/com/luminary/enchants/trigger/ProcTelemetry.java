@@ -0,0 +1,432 @@
+package com.luminary.enchants.trigger;
+
+import com.luminary.enchants.LuminaryEnchants;
+import com.luminary.enchants.core.ConfigManager;
+import com.luminary.enchants.pickaxe.PickEnchantRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Per-enchant proc counters and effect latency, for finding out which enchant
+ * is eating tick time. Work an effect queues on the {@link EffectScheduler}
+ * is timed too and counted against the enchant that queued it.
+ * <p>
+ * Counters are kept per enchant ordinal in 15 second slots, 60 of them, and
+ * windows (last minute, last 15 minutes) are summed when read. Recording is a
+ * few array writes with no locking or allocation, since it only happens on the
+ * main thread. A task rotates the slots once a second and rewrites a snapshot
+ * file in Prometheus text format for scraping.
+ */
+public class ProcTelemetry {
+
+    private static final long SLOT_MS = 15_000L;
+    private static final int SLOTS_PER_MINUTE = 4;
+    private static final int SLOTS = 15 * SLOTS_PER_MINUTE;
+
+    // Counter layout within a slot
+    private static final int ATTEMPTS = 0;
+    private static final int ROLLS = 1;
+    private static final int CANCELLED = 2;
+    private static final int EXECUTED = 3;
+    private static final int ERRORS = 4;
+    private static final int BLOCKS = 5;
+    private static final int EXEC_NANOS = 6;
+    private static final int QUEUED_RUNS = 7;
+    private static final int QUEUED_NANOS = 8;
+    private static final int FIELDS = 9;
+
+    // Latency buckets: under 1µs, then doubling up to 268ms and above
+    private static final int BUCKETS = 20;
+
+    private static final String PREFIX = "luminaryenchants_";
+
+    private final LuminaryEnchants plugin;
+
+    private EnchantStats[] stats = new EnchantStats[16];
+    private int slot;
+    private long slotEpoch;
+    private long startedAt;
+
+    private BukkitTask task;
+    private boolean enabled;
+    private File exportFile;
+    private int exportIntervalSeconds;
+    private int secondsUntilExport;
+
+    public ProcTelemetry(LuminaryEnchants plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        loadSettings();
+        startedAt = System.currentTimeMillis();
+        slotEpoch = startedAt / SLOT_MS;
+        slot = (int) (slotEpoch % SLOTS);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 20L, 20L);
+        }
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    public void loadSettings() {
+        ConfigManager config = plugin.getConfigManager();
+        enabled = config.isTelemetryEnabled();
+        String fileName = config.getTelemetryExportFile();
+        exportFile = fileName == null || fileName.isEmpty() ? null : new File(plugin.getDataFolder(), fileName);
+        exportIntervalSeconds = Math.max(1, config.getTelemetryExportIntervalSeconds());
+        secondsUntilExport = exportIntervalSeconds;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Record that an enchant was checked for a proc.
+     */
+    public void recordAttempt(int ordinal) {
+        if (enabled) add(ordinal, ATTEMPTS, 1);
+    }
+
+    /**
+     * Record a successful chance roll.
+     */
+    public void recordRoll(int ordinal) {
+        if (enabled) add(ordinal, ROLLS, 1);
+    }
+
+    /**
+     * Record a proc cancelled by another plugin.
+     */
+    public void recordCancelled(int ordinal) {
+        if (enabled) add(ordinal, CANCELLED, 1);
+    }
+
+    /**
+     * Record an effect run and how long it took.
+     */
+    public void recordEffect(int ordinal, long nanos, boolean failed) {
+        if (!enabled || ordinal < 0) return;
+        EnchantStats enchant = stats(ordinal);
+        int base = slot * FIELDS;
+        enchant.counters[base + EXECUTED]++;
+        enchant.counters[base + EXEC_NANOS] += nanos;
+        if (failed) {
+            enchant.counters[base + ERRORS]++;
+        }
+        enchant.histogram[slot * BUCKETS + bucket(nanos)]++;
+        if (nanos > enchant.maxNanos[slot]) {
+            enchant.maxNanos[slot] = nanos;
+        }
+    }
+
+    /**
+     * Record a unit of work an effect queued on the EffectScheduler and how long it took.
+     * Kept apart from effect runs, so effect latency stays per proc.
+     */
+    public void recordQueuedWork(int ordinal, long nanos, boolean failed) {
+        if (!enabled || ordinal < 0) return;
+        long[] counters = stats(ordinal).counters;
+        int base = slot * FIELDS;
+        counters[base + QUEUED_RUNS]++;
+        counters[base + QUEUED_NANOS] += nanos;
+        if (failed) {
+            counters[base + ERRORS]++;
+        }
+    }
+
+    /**
+     * Record blocks broken by an enchant's effect, including work it queued for later.
+     */
+    public void recordBlocks(String enchantId, int blocks) {
+        if (!enabled || blocks <= 0) return;
+        add(plugin.getEnchantRegistry().getOrdinal(enchantId), BLOCKS, blocks);
+    }
+
+    private void add(int ordinal, int field, long amount) {
+        if (ordinal < 0) return;
+        stats(ordinal).counters[slot * FIELDS + field] += amount;
+    }
+
+    private EnchantStats stats(int ordinal) {
+        if (ordinal >= stats.length) {
+            stats = Arrays.copyOf(stats, Math.max(ordinal + 1, stats.length * 2));
+        }
+        EnchantStats enchant = stats[ordinal];
+        if (enchant == null) {
+            enchant = new EnchantStats();
+            stats[ordinal] = enchant;
+        }
+        return enchant;
+    }
+
+    private static int bucket(long nanos) {
+        int bucket = 64 - Long.numberOfLeadingZeros(nanos >> 10);
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static long bucketUpperNanos(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1024L << bucket;
+    }
+
+    // ==================== Slots ====================
+
+    private void tick() {
+        rotate();
+        if (exportFile != null && enabled && --secondsUntilExport <= 0) {
+            secondsUntilExport = exportIntervalSeconds;
+            export();
+        }
+    }
+
+    /**
+     * Move to the current slot, clearing the ones skipped over.
+     */
+    private void rotate() {
+        long epoch = System.currentTimeMillis() / SLOT_MS;
+        if (epoch == slotEpoch) return;
+
+        int steps = (int) Math.min(SLOTS, epoch - slotEpoch);
+        for (int i = 1; i <= steps; i++) {
+            int cleared = (slot + i) % SLOTS;
+            for (EnchantStats enchant : stats) {
+                if (enchant != null) enchant.clear(cleared);
+            }
+        }
+        slotEpoch = epoch;
+        slot = (int) (epoch % SLOTS);
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Sum an enchant's counters over the last {@code minutes} minutes (1 to 15).
+     */
+    public Window window(int ordinal, int minutes) {
+        rotate();
+        int slots = Math.max(1, Math.min(SLOTS, minutes * SLOTS_PER_MINUTE));
+        long now = System.currentTimeMillis();
+
+        // The current slot is only partly over
+        long covered = (slots - 1) * SLOT_MS + now % SLOT_MS;
+        Window window = new Window(Math.max(1L, Math.min(covered, now - startedAt)) / 1000.0);
+
+        EnchantStats enchant = ordinal >= 0 && ordinal < stats.length ? stats[ordinal] : null;
+        if (enchant == null) return window;
+
+        for (int i = 0; i < slots; i++) {
+            int index = (slot - i + SLOTS) % SLOTS;
+            for (int field = 0; field < FIELDS; field++) {
+                window.counters[field] += enchant.counters[index * FIELDS + field];
+            }
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                window.histogram[bucket] += enchant.histogram[index * BUCKETS + bucket];
+            }
+            window.maxNanos = Math.max(window.maxNanos, enchant.maxNanos[index]);
+        }
+        return window;
+    }
+
+    /**
+     * Get one past the highest ordinal that may have stats.
+     */
+    public int getOrdinalBound() {
+        return stats.length;
+    }
+
+    // ==================== Export ====================
+
+    private void export() {
+        String text = render();
+        File file = exportFile;
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> write(file, text));
+    }
+
+    private void write(File file, String text) {
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            Files.writeString(temp.toPath(), text, StandardCharsets.UTF_8);
+            Files.move(temp.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write telemetry to " + file.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private String render() {
+        PickEnchantRegistry registry = plugin.getEnchantRegistry();
+        StringBuilder out = new StringBuilder(4096);
+        header(out, "proc_attempts", "gauge", "Enchants checked for a proc in the window");
+        header(out, "proc_rolls", "gauge", "Successful chance rolls in the window");
+        header(out, "proc_cancelled", "gauge", "Procs cancelled by another plugin in the window");
+        header(out, "effect_errors", "gauge", "Effects or their queued work that threw in the window");
+        header(out, "blocks_broken", "gauge", "Blocks broken by the enchant in the window");
+        header(out, "effect_seconds", "summary", "Effect execution time in the window");
+        header(out, "queued_work_seconds", "summary", "Time spent on work effects queued, in the window");
+
+        for (int ordinal = 0; ordinal < stats.length; ordinal++) {
+            if (stats[ordinal] == null) continue;
+            String id = registry.getIdByOrdinal(ordinal);
+            if (id == null) continue;
+
+            for (int minutes : new int[]{1, 15}) {
+                Window window = window(ordinal, minutes);
+                String labels = "enchant=\"" + id + "\",window=\"" + minutes + "m\"";
+                sample(out, "proc_attempts", labels, window.getAttempts());
+                sample(out, "proc_rolls", labels, window.getRolls());
+                sample(out, "proc_cancelled", labels, window.getCancelled());
+                sample(out, "effect_errors", labels, window.getErrors());
+                sample(out, "blocks_broken", labels, window.getBlocks());
+                for (double quantile : new double[]{0.5, 0.99}) {
+                    sample(out, "effect_seconds", labels + ",quantile=\"" + quantile + "\"",
+                            window.percentileNanos(quantile) / 1e9);
+                }
+                sample(out, "effect_seconds_sum", labels, window.getExecNanos() / 1e9);
+                sample(out, "effect_seconds_count", labels, window.getExecuted());
+                sample(out, "queued_work_seconds_sum", labels, window.getQueuedNanos() / 1e9);
+                sample(out, "queued_work_seconds_count", labels, window.getQueuedRuns());
+            }
+        }
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(PREFIX).append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(PREFIX).append(name).append('{').append(labels).append("} ")
+                .append(String.format(Locale.ROOT, "%.6f", value)).append('\n');
+    }
+
+    private static final class EnchantStats {
+        final long[] counters = new long[SLOTS * FIELDS];
+        final int[] histogram = new int[SLOTS * BUCKETS];
+        final long[] maxNanos = new long[SLOTS];
+
+        void clear(int slot) {
+            Arrays.fill(counters, slot * FIELDS, (slot + 1) * FIELDS, 0L);
+            Arrays.fill(histogram, slot * BUCKETS, (slot + 1) * BUCKETS, 0);
+            maxNanos[slot] = 0L;
+        }
+    }
+
+    /**
+     * An enchant's counters summed over a window.
+     */
+    public static final class Window {
+        private final double seconds;
+        private final long[] counters = new long[FIELDS];
+        private final long[] histogram = new long[BUCKETS];
+        private long maxNanos;
+
+        Window(double seconds) {
+            this.seconds = seconds;
+        }
+
+        /**
+         * Get the time the window actually covers, shorter than asked for right after startup.
+         */
+        public double getSeconds() {
+            return seconds;
+        }
+
+        public long getAttempts() {
+            return counters[ATTEMPTS];
+        }
+
+        public long getRolls() {
+            return counters[ROLLS];
+        }
+
+        public long getCancelled() {
+            return counters[CANCELLED];
+        }
+
+        public long getExecuted() {
+            return counters[EXECUTED];
+        }
+
+        public long getErrors() {
+            return counters[ERRORS];
+        }
+
+        public long getBlocks() {
+            return counters[BLOCKS];
+        }
+
+        public long getExecNanos() {
+            return counters[EXEC_NANOS];
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getQueuedRuns() {
+            return counters[QUEUED_RUNS];
+        }
+
+        public long getQueuedNanos() {
+            return counters[QUEUED_NANOS];
+        }
+
+        /**
+         * Get the main thread time of effect runs and the work they queued.
+         */
+        public long getTotalNanos() {
+            return counters[EXEC_NANOS] + counters[QUEUED_NANOS];
+        }
+
+        public boolean isEmpty() {
+            return counters[ATTEMPTS] == 0 && counters[BLOCKS] == 0;
+        }
+
+        /**
+         * Get the share of each second spent running this enchant's effects and their queued work.
+         */
+        public double getTickShare() {
+            return getTotalNanos() / (seconds * 1e9);
+        }
+
+        /**
+         * Get an upper bound for an effect time percentile, to the histogram's
+         * power-of-two resolution.
+         */
+        public long percentileNanos(double quantile) {
+            long total = counters[EXECUTED];
+            if (total == 0) return 0;
+
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += histogram[bucket];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperNanos(bucket), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
@@ -17,6 +17,10 @@ import java.util.*;
 
 /**
  * Base class for enchant effects with common utilities.
+ * <p>
+ * Each effect reads its params through a static {@code Params} record (or
+ * {@link AreaParams}) that also holds its level scaling, so the simulator's
+ * models use the same params, defaults and formulas as the effect itself.
  */
 public abstract class AbstractEnchantEffect implements EnchantEffect {
 
@@ -61,32 +65,19 @@ public abstract class AbstractEnchantEffect implements EnchantEffect {
     }
 
     /**
-     * Break a block safely with drops going to player's inventory or ground.
+     * Start a mass break for an area effect. The mine region is resolved here, once.
      */
-    protected void breakBlock(Player player, Block block, ItemStack pickaxe,
-                              DropMode dropMode, boolean applyDurability) {
-        if (block.getType().isAir()) return;
-
-        Collection<ItemStack> drops = block.getDrops(pickaxe, player);
-
-        // Break the block
-        block.setType(Material.AIR);
-
-        // Handle drops
-        switch (dropMode) {
-            case INVENTORY -> addDropsToInventory(player, drops);
-            case NORMAL -> dropItems(block.getLocation(), drops);
-            case AUTOSELL_HOOK -> {
-                // Future: hook into autosell plugin
-                addDropsToInventory(player, drops);
-            }
-        }
+    protected MassBreak newMassBreak(Player player, Block origin, ItemStack pickaxe, int maxBlocks) {
+        return new MassBreak(player, getEnchantId(), origin, pickaxe, getMineRegionProvider(), maxBlocks);
+    }
 
-        // Apply durability damage
-        if (applyDurability && pickaxe.getType().getMaxDurability() > 0) {
-            // This is handled by the game normally when player breaks blocks
-            // For extra breaks, we may want to apply minimal durability
-        }
+    /**
+     * Run a mass break and count its blocks towards this enchant's stats.
+     */
+    protected int executeMassBreak(MassBreak massBreak, DropMode dropMode) {
+        int broken = massBreak.execute(dropMode).getBroken();
+        plugin.getProcTelemetry().recordBlocks(getEnchantId(), broken);
+        return broken;
     }
 
     /**
@@ -94,46 +85,63 @@ public abstract class AbstractEnchantEffect implements EnchantEffect {
      */
     protected int breakBlocksAOE(Player player, Block center, ItemStack pickaxe,
                                   int radius, int maxBlocks, DropMode dropMode) {
-        List<Block> blocks = getBlocksInRadius(center, radius, maxBlocks);
-        int broken = 0;
+        return breakBlocksShape(player, center, pickaxe, ShapeKernel.of(ShapeKernel.Shape.CUBE, radius),
+                maxBlocks, dropMode);
+    }
 
-        for (Block block : blocks) {
-            if (!block.getType().isAir() && canBreak(player, block)) {
-                breakBlock(player, block, pickaxe, dropMode, false);
-                broken++;
-            }
+    /**
+     * Break blocks in a shape around a center block, nearest first.
+     */
+    protected int breakBlocksShape(Player player, Block center, ItemStack pickaxe,
+                                   ShapeKernel kernel, int maxBlocks, DropMode dropMode) {
+        MassBreak massBreak = newMassBreak(player, center, pickaxe, maxBlocks);
+        int cx = center.getX(), cy = center.getY(), cz = center.getZ();
+
+        for (int i = 0; i < kernel.size() && !massBreak.isFull(); i++) {
+            massBreak.add(cx + kernel.dx(i), cy + kernel.dy(i), cz + kernel.dz(i));
         }
 
-        return broken;
+        return executeMassBreak(massBreak, dropMode);
     }
 
     /**
-     * Break blocks in a line (for Sonic, Laser).
+     * Get the shape kernel an enchant is configured with ({@code shape} and {@code radius} params).
+     */
+    public static ShapeKernel getShapeKernel(EnchantDefinition definition, int radius) {
+        ShapeKernel.Shape shape = ShapeKernel.Shape.fromString(
+                definition.getParamString("shape", null), ShapeKernel.Shape.CUBE);
+        return ShapeKernel.of(shape, radius);
+    }
+
+    /**
+     * Break blocks along a ray from the center of the start block (for Sonic, Laser).
+     * Any direction works: each block the ray passes through is checked once.
      */
     protected int breakBlocksLine(Player player, Block start, ItemStack pickaxe,
                                    Vector direction, int range, int maxBlocks,
                                    DropMode dropMode, Set<Material> skipMaterials) {
-        int broken = 0;
-        Location loc = start.getLocation();
+        MassBreak massBreak = newMassBreak(player, start, pickaxe, maxBlocks);
+        VoxelRay ray = new VoxelRay(start.getX() + 0.5, start.getY() + 0.5, start.getZ() + 0.5,
+                direction, range);
 
-        for (int i = 0; i < range && broken < maxBlocks; i++) {
-            loc = loc.add(direction);
-            Block block = loc.getBlock();
+        while (!massBreak.isFull() && ray.next()) {
+            int x = ray.getX(), y = ray.getY(), z = ray.getZ();
 
-            if (block.getType().isAir()) continue;
+            Material type = massBreak.getType(x, y, z);
+            if (type == Material.VOID_AIR) break; // Out of the world or into unloaded chunks
+            if (type.isAir()) continue;
 
-            if (skipMaterials != null && skipMaterials.contains(block.getType())) {
+            if (skipMaterials != null && skipMaterials.contains(type)) {
                 // Ghostrider: skip protected blocks
                 continue;
             }
 
-            if (!canBreak(player, block)) break;
+            if (!massBreak.canBreak(x, y, z)) break;
 
-            breakBlock(player, block, pickaxe, dropMode, false);
-            broken++;
+            massBreak.addUnchecked(x, y, z);
         }
 
-        return broken;
+        return executeMassBreak(massBreak, dropMode);
     }
 
     /**
@@ -141,41 +149,18 @@ public abstract class AbstractEnchantEffect implements EnchantEffect {
      */
     protected int breakBlocksColumn(Player player, Block start, ItemStack pickaxe,
                                      int height, int maxBlocks, DropMode dropMode) {
-        int broken = 0;
-        Block current = start;
+        MassBreak massBreak = newMassBreak(player, start, pickaxe, maxBlocks);
+        int x = start.getX(), z = start.getZ();
 
-        for (int y = 1; y <= height && broken < maxBlocks; y++) {
-            Block above = current.getRelative(0, y, 0);
-            if (above.getType().isAir()) continue;
-            if (!canBreak(player, above)) break;
+        for (int dy = 1; dy <= height && !massBreak.isFull(); dy++) {
+            int y = start.getY() + dy;
+            if (massBreak.getType(x, y, z).isAir()) continue;
+            if (!massBreak.canBreak(x, y, z)) break;
 
-            breakBlock(player, above, pickaxe, dropMode, false);
-            broken++;
+            massBreak.addUnchecked(x, y, z);
         }
 
-        return broken;
-    }
-
-    /**
-     * Get blocks within a radius.
-     */
-    protected List<Block> getBlocksInRadius(Block center, int radius, int maxBlocks) {
-        List<Block> blocks = new ArrayList<>();
-
-        for (int x = -radius; x <= radius && blocks.size() < maxBlocks; x++) {
-            for (int y = -radius; y <= radius && blocks.size() < maxBlocks; y++) {
-                for (int z = -radius; z <= radius && blocks.size() < maxBlocks; z++) {
-                    if (x == 0 && y == 0 && z == 0) continue;
-
-                    Block block = center.getRelative(x, y, z);
-                    if (!block.getType().isAir()) {
-                        blocks.add(block);
-                    }
-                }
-            }
-        }
-
-        return blocks;
+        return executeMassBreak(massBreak, dropMode);
     }
 
     /**
@@ -244,9 +229,40 @@ public abstract class AbstractEnchantEffect implements EnchantEffect {
         }
     }
 
+    /**
+     * Get the direction for a line enchant: where the player is looking if the
+     * enchant has {@code freeAim} set, otherwise snapped to the nearest axis.
+     */
+    protected Vector getLineDirection(Player player, EnchantDefinition definition) {
+        return definition.getParamBoolean("freeAim", false)
+                ? getFacingDirection(player)
+                : getFacingAxis(player);
+    }
+
     public enum DropMode {
         NORMAL,
         INVENTORY,
         AUTOSELL_HOOK
     }
+
+    /**
+     * Params of an effect that breaks a shape around the block: {@code radius},
+     * {@code shape} and {@code maxBlocks}, the latter capped by the per-proc limit.
+     */
+    public record AreaParams(int radius, ShapeKernel kernel, int maxBlocks) {
+
+        public static AreaParams of(EnchantDefinition definition, int defaultRadius, int defaultMaxBlocks,
+                                    int maxBlocksPerProc) {
+            int radius = definition.getParamInt("radius", defaultRadius);
+            return new AreaParams(radius, getShapeKernel(definition, radius),
+                    Math.min(definition.getParamInt("maxBlocks", defaultMaxBlocks), maxBlocksPerProc));
+        }
+
+        /**
+         * Blocks one proc breaks when every cell of the shape can be broken.
+         */
+        public int solidBlocks() {
+            return Math.max(0, Math.min(kernel.size(), maxBlocks));
+        }
+    }
 }
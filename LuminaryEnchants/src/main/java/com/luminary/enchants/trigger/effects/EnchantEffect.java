@@ -1,6 +1,7 @@
 package com.luminary.enchants.trigger.effects;
 
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
@@ -19,6 +20,7 @@ public interface EnchantEffect {
     /**
      * Execute the enchant effect.
      *
+     * @param session The player's enchant session, for any state the effect keeps
      * @param player The player who triggered the enchant
      * @param pickaxe The pickaxe item
      * @param block The block that was broken (may be null for some triggers)
@@ -26,6 +28,6 @@ public interface EnchantEffect {
      * @param level The current level of the enchant
      * @param context The trigger context
      */
-    void execute(Player player, ItemStack pickaxe, Block block,
+    void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                  EnchantDefinition definition, int level, ProcEngine.ProcContext context);
 }
@@ -0,0 +1,291 @@
+package com.luminary.enchants.trigger.effects;
+
+import com.luminary.enchants.api.MineRegionProvider;
+import com.luminary.enchants.api.events.PickEnchantMassBreakEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.*;
+
+/**
+ * Breaks many blocks for one enchant proc as a single operation.
+ * <p>
+ * The mine region is resolved once, candidates are filtered as they are
+ * added, air is applied section by section without physics, and drops come
+ * back as one list with similar items merged. Drops are rolled for every
+ * block, so Fortune and chance-based drops come out the same as breaking them
+ * by hand. With {@code DropMode.NORMAL} the merged drops all spawn at the
+ * origin block, not at the block each came from.
+ * <p>
+ * Other plugins see the whole batch as one {@link PickEnchantMassBreakEvent}.
+ */
+public final class MassBreak {
+
+    private final Player player;
+    private final String enchantId;
+    private final World world;
+    private final Location origin;
+    private final ItemStack pickaxe;
+    private final MineRegionProvider mineProvider;
+    private final MineRegionProvider.BreakRegion region;
+    private final int maxBlocks;
+    private final int minY, maxY;
+
+    // Last chunk looked up, so long lines only ask the world once per chunk
+    private int cachedChunkX, cachedChunkZ;
+    private boolean cachedChunkLoaded, chunkCached;
+
+    private long[] keys = new long[32];
+    private int size;
+
+    MassBreak(Player player, String enchantId, Block origin, ItemStack pickaxe,
+              MineRegionProvider mineProvider, int maxBlocks) {
+        this.player = player;
+        this.enchantId = enchantId;
+        this.world = origin.getWorld();
+        this.origin = origin.getLocation().add(0.5, 0.5, 0.5);
+        this.pickaxe = pickaxe;
+        this.mineProvider = mineProvider;
+        this.region = mineProvider != null && mineProvider.isAvailable()
+                ? mineProvider.resolveBreakRegion(player, this.origin)
+                : MineRegionProvider.BreakRegion.ANYWHERE;
+        this.maxBlocks = Math.max(0, maxBlocks);
+        this.minY = world.getMinHeight();
+        this.maxY = world.getMaxHeight();
+    }
+
+    /**
+     * Get the block type at a position. Positions outside the world's height
+     * or in unloaded chunks read as VOID_AIR; chunks are never loaded for this.
+     */
+    public Material getType(int x, int y, int z) {
+        if (y < minY || y >= maxY || !isChunkLoaded(x >> 4, z >> 4)) {
+            return Material.VOID_AIR;
+        }
+        return world.getType(x, y, z);
+    }
+
+    private boolean isChunkLoaded(int chunkX, int chunkZ) {
+        if (!chunkCached || chunkX != cachedChunkX || chunkZ != cachedChunkZ) {
+            cachedChunkX = chunkX;
+            cachedChunkZ = chunkZ;
+            cachedChunkLoaded = world.isChunkLoaded(chunkX, chunkZ);
+            chunkCached = true;
+        }
+        return cachedChunkLoaded;
+    }
+
+    /**
+     * Check if a block can be broken: not air, not unbreakable and inside the player's region.
+     */
+    public boolean canBreak(int x, int y, int z) {
+        Material type = getType(x, y, z);
+        return canBreak(type, x, y, z);
+    }
+
+    private boolean canBreak(Material type, int x, int y, int z) {
+        if (type.isAir() || type.getHardness() < 0) return false;
+        return region.contains(x, y, z);
+    }
+
+    /**
+     * Add a block if it can be broken.
+     *
+     * @return true if the block was added
+     */
+    public boolean add(int x, int y, int z) {
+        if (size >= maxBlocks || !canBreak(x, y, z)) {
+            return false;
+        }
+        addUnchecked(x, y, z);
+        return true;
+    }
+
+    /**
+     * Add a block already checked with {@link #canBreak(int, int, int)}.
+     */
+    public void addUnchecked(int x, int y, int z) {
+        if (size >= maxBlocks) return;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.min(keys.length * 2, Math.max(maxBlocks, 32)));
+        }
+        keys[size++] = pack(x, y, z);
+    }
+
+    public boolean isFull() {
+        return size >= maxBlocks;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Break every added block and hand out the drops.
+     */
+    public Result execute(AbstractEnchantEffect.DropMode dropMode) {
+        if (size == 0) {
+            return Result.EMPTY;
+        }
+
+        // Group by chunk section, and drop duplicates
+        Arrays.sort(keys, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[unique++] = keys[i];
+            }
+        }
+        size = unique;
+
+        int[] coords = new int[size * 3];
+        List<ItemStack> drops = new ArrayList<>();
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            long key = keys[i];
+            int x = unpackX(key), y = unpackY(key), z = unpackZ(key);
+
+            // The world may have changed since the block was added
+            Material type = world.getType(x, y, z);
+            if (type.isAir()) continue;
+
+            for (ItemStack drop : world.getBlockAt(x, y, z).getDrops(pickaxe, player)) {
+                addDrop(drops, drop);
+            }
+
+            coords[count * 3] = x;
+            coords[count * 3 + 1] = y;
+            coords[count * 3 + 2] = z;
+            count++;
+        }
+
+        if (count == 0) {
+            return Result.EMPTY;
+        }
+
+        // One event for the whole batch
+        PickEnchantMassBreakEvent event = new PickEnchantMassBreakEvent(
+                player, enchantId, pickaxe, world, coords, count, drops);
+        Bukkit.getPluginManager().callEvent(event);
+        if (event.isCancelled()) {
+            return Result.EMPTY;
+        }
+
+        for (int i = 0; i < count; i++) {
+            world.getBlockAt(coords[i * 3], coords[i * 3 + 1], coords[i * 3 + 2]).setBlockData(Air.DATA, false);
+        }
+
+        // Let the mine plugin update its block counters once
+        if (mineProvider != null && mineProvider.isAvailable()) {
+            mineProvider.onBlocksBroken(world, coords, count);
+        }
+
+        deliver(drops, dropMode);
+        return new Result(count, drops);
+    }
+
+    /**
+     * Add a drop to the tally, onto an existing similar item (same type and meta) if there is one.
+     * A batch only has a handful of distinct drops, so a linear scan is enough.
+     */
+    private static void addDrop(List<ItemStack> drops, ItemStack drop) {
+        if (drop == null || drop.getType().isAir() || drop.getAmount() <= 0) return;
+
+        for (ItemStack existing : drops) {
+            if (existing.isSimilar(drop)) {
+                existing.setAmount(existing.getAmount() + drop.getAmount());
+                return;
+            }
+        }
+        drops.add(drop.clone());
+    }
+
+    private void deliver(List<ItemStack> drops, AbstractEnchantEffect.DropMode dropMode) {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (ItemStack drop : drops) {
+            if (drop == null || drop.getType().isAir()) continue;
+            int maxStack = Math.max(1, drop.getMaxStackSize());
+            int remaining = drop.getAmount();
+            while (remaining > 0) {
+                int amount = Math.min(maxStack, remaining);
+                stacks.add(drop.asQuantity(amount));
+                remaining -= amount;
+            }
+        }
+        if (stacks.isEmpty()) return;
+
+        switch (dropMode) {
+            case NORMAL -> {
+                for (ItemStack stack : stacks) {
+                    world.dropItemNaturally(origin, stack);
+                }
+            }
+            case INVENTORY, AUTOSELL_HOOK -> {
+                Map<Integer, ItemStack> overflow = player.getInventory().addItem(stacks.toArray(new ItemStack[0]));
+                for (ItemStack leftover : overflow.values()) {
+                    player.getWorld().dropItemNaturally(player.getLocation(), leftover);
+                }
+            }
+        }
+    }
+
+    // Chunk section first so sorting groups blocks by section:
+    // 22 bits chunk x, 22 bits chunk z, 8 bits section y, 12 bits position in the section
+    private static long pack(int x, int y, int z) {
+        return ((long) (x >> 4) & 0x3FFFFF) << 42
+                | ((long) (z >> 4) & 0x3FFFFF) << 20
+                | ((long) (y >> 4) & 0xFF) << 12
+                | (long) ((y & 15) << 8 | (z & 15) << 4 | (x & 15));
+    }
+
+    private static int unpackX(long key) {
+        return (int) (key >> 42) << 4 | (int) (key & 15);
+    }
+
+    private static int unpackZ(long key) {
+        return (int) (key << 22 >> 42) << 4 | (int) ((key >> 4) & 15);
+    }
+
+    private static int unpackY(long key) {
+        return (int) (key << 44 >> 56) << 4 | (int) ((key >> 8) & 15);
+    }
+
+    // Own holder class so MassBreak loads without a running server (benchmarks)
+    private static final class Air {
+        static final BlockData DATA = Material.AIR.createBlockData();
+    }
+
+    /**
+     * Outcome of a mass break.
+     */
+    public static final class Result {
+
+        static final Result EMPTY = new Result(0, Collections.emptyList());
+
+        private final int broken;
+        private final List<ItemStack> drops;
+
+        Result(int broken, List<ItemStack> drops) {
+            this.broken = broken;
+            this.drops = Collections.unmodifiableList(drops);
+        }
+
+        public int getBroken() {
+            return broken;
+        }
+
+        /**
+         * Get the items handed out, similar items merged (after event listeners took theirs).
+         */
+        public List<ItemStack> getDrops() {
+            return drops;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.luminary.enchants.trigger.effects;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable list of block offsets for an area break shape, nearest first.
+ * <p>
+ * Kernels are built once per shape and radius and cached. Offsets are sorted
+ * by distance, and within a distance each offset is followed by its mirror
+ * image through the center, so a shape cut short by a block limit still comes
+ * out centered: any prefix is off balance by at most one block.
+ * Offsets are packed into ints, so walking a kernel allocates nothing.
+ * The center block (0, 0, 0) is never included.
+ */
+public final class ShapeKernel {
+
+    public static final int MAX_RADIUS = 32;
+
+    private static final int BITS = 10;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int BIAS = 1 << (BITS - 1);
+
+    private static final Map<Integer, ShapeKernel> CACHE = new ConcurrentHashMap<>();
+
+    private final Shape shape;
+    private final int radius;
+    private final int[] offsets;
+
+    private ShapeKernel(Shape shape, int radius, int[] offsets) {
+        this.shape = shape;
+        this.radius = radius;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Get the kernel for a shape and radius. The radius is clamped to 0..{@link #MAX_RADIUS}.
+     */
+    public static ShapeKernel of(Shape shape, int radius) {
+        int r = Math.max(0, Math.min(radius, MAX_RADIUS));
+        return CACHE.computeIfAbsent(shape.ordinal() * (MAX_RADIUS + 1) + r, key -> build(shape, r));
+    }
+
+    private static ShapeKernel build(Shape shape, int r) {
+        int side = 2 * r + 1;
+        long[] cells = new long[side * side * side];
+        int count = 0;
+
+        for (int dy = -r; dy <= r; dy++) {
+            for (int dx = -r; dx <= r; dx++) {
+                for (int dz = -r; dz <= r; dz++) {
+                    if ((dx | dy | dz) == 0 || !shape.contains(dx, dy, dz, r)) continue;
+
+                    cells[count++] = sortKey(dx, dy, dz);
+                }
+            }
+        }
+        Arrays.sort(cells, 0, count);
+
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = offsetOf(cells[i]);
+        }
+        return new ShapeKernel(shape, r, offsets);
+    }
+
+    // Sort key, high to low: distance, |dx| |dy| |dz| (6 bits each), the sign pattern of the
+    // offset or its mirror image, whichever has its first non-zero axis positive (3 bits),
+    // then whether this is that one (0) or the mirror image (1). Mirror pairs end up next
+    // to each other and cancel out, and the key maps back to exactly one offset.
+    private static long sortKey(int dx, int dy, int dz) {
+        long distance = (long) dx * dx + (long) dy * dy + (long) dz * dz;
+        int signs = (dx < 0 ? 1 : 0) | (dy < 0 ? 2 : 0) | (dz < 0 ? 4 : 0);
+        int first = dx != 0 ? 1 : dy != 0 ? 2 : 4;
+        int mirrored = (signs & first) != 0 ? 1 : 0;
+        if (mirrored == 1) {
+            // Flip the signs of the non-zero axes
+            signs ^= (dx != 0 ? 1 : 0) | (dy != 0 ? 2 : 0) | (dz != 0 ? 4 : 0);
+        }
+        return distance << 32
+                | (long) Math.abs(dx) << 16 | (long) Math.abs(dy) << 10 | (long) Math.abs(dz) << 4
+                | (long) signs << 1 | mirrored;
+    }
+
+    private static int offsetOf(long key) {
+        int signs = (int) (key >>> 1) & 7;
+        boolean mirrored = (key & 1) != 0;
+        int dx = (int) (key >>> 16) & 63, dy = (int) (key >>> 10) & 63, dz = (int) (key >>> 4) & 63;
+        if ((signs & 1) != 0) dx = -dx;
+        if ((signs & 2) != 0) dy = -dy;
+        if ((signs & 4) != 0) dz = -dz;
+        return mirrored ? pack(-dx, -dy, -dz) : pack(dx, dy, dz);
+    }
+
+    private static int pack(int dx, int dy, int dz) {
+        return (dx + BIAS) << (BITS * 2) | (dy + BIAS) << BITS | (dz + BIAS);
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public int size() {
+        return offsets.length;
+    }
+
+    public int dx(int index) {
+        return (offsets[index] >>> (BITS * 2) & MASK) - BIAS;
+    }
+
+    public int dy(int index) {
+        return (offsets[index] >>> BITS & MASK) - BIAS;
+    }
+
+    public int dz(int index) {
+        return (offsets[index] & MASK) - BIAS;
+    }
+
+    /**
+     * Break pattern shapes.
+     */
+    public enum Shape {
+        CUBE,
+        SPHERE,
+        /** Vertical cylinder, 2 * radius + 1 tall. */
+        CYLINDER,
+        /** Flat circle on the center block's layer. */
+        DISC,
+        /** Flat square on the center block's layer. */
+        LAYER;
+
+        boolean contains(int dx, int dy, int dz, int r) {
+            // r * (r + 1) rounds circles out a little so small radii aren't diamonds
+            int round = r * r + r;
+            return switch (this) {
+                case CUBE -> true;
+                case SPHERE -> dx * dx + dy * dy + dz * dz <= round;
+                case CYLINDER -> dx * dx + dz * dz <= round;
+                case DISC -> dy == 0 && dx * dx + dz * dz <= round;
+                case LAYER -> dy == 0;
+            };
+        }
+
+        public static Shape fromString(String name, Shape defaultShape) {
+            if (name == null) return defaultShape;
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return defaultShape;
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.luminary.enchants.trigger.effects;
+
+import org.bukkit.util.Vector;
+
+/**
+ * Walks the blocks a ray passes through, in order, using the Amanatides-Woo
+ * voxel traversal. Every block the ray touches is visited exactly once, in
+ * any direction, and stepping never allocates.
+ * <p>
+ * The start block itself is not visited. Usage:
+ * <pre>
+ * VoxelRay ray = new VoxelRay(x + 0.5, y + 0.5, z + 0.5, direction, range);
+ * while (ray.next()) {
+ *     use(ray.getX(), ray.getY(), ray.getZ());
+ * }
+ * </pre>
+ */
+public final class VoxelRay {
+
+    private final int stepX, stepY, stepZ;
+    private final double deltaX, deltaY, deltaZ;
+    private final double maxDistance;
+
+    private int x, y, z;
+    private double nextX, nextY, nextZ;
+    private double distance;
+
+    /**
+     * @param ox          ray start x
+     * @param oy          ray start y
+     * @param oz          ray start z
+     * @param direction   ray direction, need not be normalized
+     * @param maxDistance blocks entered at or past this distance are not visited
+     */
+    public VoxelRay(double ox, double oy, double oz, Vector direction, double maxDistance) {
+        double length = direction.length();
+        double dx = length > 0 ? direction.getX() / length : 0;
+        double dy = length > 0 ? direction.getY() / length : 0;
+        double dz = length > 0 ? direction.getZ() / length : 0;
+
+        this.x = (int) Math.floor(ox);
+        this.y = (int) Math.floor(oy);
+        this.z = (int) Math.floor(oz);
+        this.stepX = (int) Math.signum(dx);
+        this.stepY = (int) Math.signum(dy);
+        this.stepZ = (int) Math.signum(dz);
+
+        // Distance along the ray to cross one whole block on each axis
+        this.deltaX = stepX != 0 ? Math.abs(1.0 / dx) : Double.POSITIVE_INFINITY;
+        this.deltaY = stepY != 0 ? Math.abs(1.0 / dy) : Double.POSITIVE_INFINITY;
+        this.deltaZ = stepZ != 0 ? Math.abs(1.0 / dz) : Double.POSITIVE_INFINITY;
+
+        // Distance along the ray to the first boundary on each axis
+        this.nextX = boundary(ox, x, stepX, dx);
+        this.nextY = boundary(oy, y, stepY, dy);
+        this.nextZ = boundary(oz, z, stepZ, dz);
+
+        this.maxDistance = maxDistance;
+    }
+
+    private static double boundary(double origin, int block, int step, double d) {
+        if (step == 0) return Double.POSITIVE_INFINITY;
+        double edge = step > 0 ? block + 1 : block;
+        return (edge - origin) / d;
+    }
+
+    /**
+     * Step into the next block.
+     *
+     * @return false once the ray is past its max distance
+     */
+    public boolean next() {
+        if (nextX < nextY) {
+            if (nextX < nextZ) {
+                x += stepX;
+                distance = nextX;
+                nextX += deltaX;
+            } else {
+                z += stepZ;
+                distance = nextZ;
+                nextZ += deltaZ;
+            }
+        } else if (nextY < nextZ) {
+            y += stepY;
+            distance = nextY;
+            nextY += deltaY;
+        } else {
+            z += stepZ;
+            distance = nextZ;
+            nextZ += deltaZ;
+        }
+        return distance < maxDistance;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Get the distance along the ray at which the current block was entered.
+     */
+    public double getDistance() {
+        return distance;
+    }
+}
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -28,15 +29,12 @@ public class AngelEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        double durabilitySaveChance = definition.getParamDouble("durabilitySaveChance", 0.3);
-        double tokenBonusPercent = definition.getParamDouble("tokenBonusPercent", 0.1);
-
-        // Scale with level
-        double scaledSaveChance = Math.min(durabilitySaveChance + (level * 0.005), 0.9);
-        long tokenBonus = (long) (100 * (tokenBonusPercent + (level * 0.005)));
+        Params params = Params.of(definition);
+        double scaledSaveChance = params.scaledSaveChance(level);
+        long tokenBonus = params.tokenBonus(level);
 
         boolean savedDurability = false;
 
@@ -60,9 +58,9 @@ public class AngelEffect extends AbstractEnchantEffect {
         }
 
         // Visual effect
-        player.getWorld().spawnParticle(Particle.END_ROD,
+        session.getFeedback().particle(Particle.END_ROD,
                 block.getLocation().add(0.5, 0.5, 0.5), 10, 0.3, 0.3, 0.3, 0.02);
-        player.playSound(block.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.3f, 1.5f);
+        session.getFeedback().sound(block.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.3f, 1.5f);
 
         StringBuilder message = new StringBuilder("&f\u2606 Angel: ");
         if (savedDurability) {
@@ -72,7 +70,31 @@ public class AngelEffect extends AbstractEnchantEffect {
             message.append("+").append(tokenBonus).append(" tokens!");
         }
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent(message.toString()));
+        session.getFeedback().actionBar(message.toString());
+    }
+
+    /**
+     * Angel's params: {@code durabilitySaveChance} and {@code tokenBonusPercent}.
+     */
+    public record Params(double durabilitySaveChance, double tokenBonusPercent) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamDouble("durabilitySaveChance", 0.3),
+                    definition.getParamDouble("tokenBonusPercent", 0.1));
+        }
+
+        /**
+         * Chance to save durability at a level: +0.5% per level, at most 90%.
+         */
+        public double scaledSaveChance(int level) {
+            return Math.min(durabilitySaveChance + (level * 0.005), 0.9);
+        }
+
+        /**
+         * Tokens paid per proc at a level.
+         */
+        public long tokenBonus(int level) {
+            return (long) (100 * (tokenBonusPercent + (level * 0.005)));
+        }
     }
 }
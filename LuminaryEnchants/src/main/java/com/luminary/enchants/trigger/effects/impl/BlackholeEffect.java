@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Location;
@@ -31,7 +32,7 @@ public class BlackholeEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         int pickupRadius = definition.getParamInt("pickupRadius", 5);
@@ -94,11 +95,11 @@ public class BlackholeEffect extends AbstractEnchantEffect {
 
         if (collected > 0 || voided > 0) {
             // Visual effect
-            player.getWorld().spawnParticle(Particle.PORTAL,
+            session.getFeedback().particle(Particle.PORTAL,
                     center, 50, scaledRadius * 0.5, scaledRadius * 0.5, scaledRadius * 0.5, 0.5);
-            player.getWorld().spawnParticle(Particle.REVERSE_PORTAL,
+            session.getFeedback().particle(Particle.REVERSE_PORTAL,
                     center, 30, 0.3, 0.3, 0.3, 0.1);
-            player.playSound(center, Sound.ENTITY_ENDERMAN_TELEPORT, 0.5f, 1.5f);
+            session.getFeedback().sound(center, Sound.ENTITY_ENDERMAN_TELEPORT, 0.5f, 1.5f);
 
             StringBuilder message = new StringBuilder("&5\u2B24 Blackhole absorbed " + collected + " items");
             if (voided > 0) {
@@ -106,8 +107,7 @@ public class BlackholeEffect extends AbstractEnchantEffect {
             }
             message.append("!");
 
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent(message.toString()));
+            session.getFeedback().actionBar(message.toString());
         }
     }
 
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -30,7 +31,7 @@ public class DemonEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         double dropMultiplier = definition.getParamDouble("dropMultiplier", 3.0);
@@ -57,12 +58,11 @@ public class DemonEffect extends AbstractEnchantEffect {
                 pickaxe.setItemMeta(meta);
             }
 
-            player.getWorld().spawnParticle(Particle.LAVA,
+            session.getFeedback().particle(Particle.LAVA,
                     player.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.05);
-            player.playSound(player.getLocation(), Sound.ENTITY_BLAZE_HURT, 0.7f, 0.8f);
+            session.getFeedback().sound(player.getLocation(), Sound.ENTITY_BLAZE_HURT, 0.7f, 0.8f);
 
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&4\uD83D\uDD25 Demon backfired! Pickaxe damaged!"));
+            session.getFeedback().actionBar("&4\uD83D\uDD25 Demon backfired! Pickaxe damaged!");
             return;
         }
 
@@ -75,12 +75,11 @@ public class DemonEffect extends AbstractEnchantEffect {
         }
 
         // Visual effect
-        player.getWorld().spawnParticle(Particle.SOUL_FIRE_FLAME,
+        session.getFeedback().particle(Particle.SOUL_FIRE_FLAME,
                 block.getLocation().add(0.5, 0.5, 0.5), 15, 0.3, 0.3, 0.3, 0.05);
-        player.playSound(block.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 0.5f, 1.2f);
+        session.getFeedback().sound(block.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 0.5f, 1.2f);
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&4\uD83D\uDC7F Demon granted " +
-                        String.format("%.0f", scaledMultiplier) + "x drops!"));
+        session.getFeedback().actionBar("&4\uD83D\uDC7F Demon granted " +
+                String.format("%.0f", scaledMultiplier) + "x drops!");
     }
 }
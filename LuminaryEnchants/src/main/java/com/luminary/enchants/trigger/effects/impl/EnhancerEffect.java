@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.block.Block;
@@ -23,24 +24,39 @@ public class EnhancerEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int durationTicks = definition.getParamInt("durationTicks", 100);
-        double procChanceBonus = definition.getParamDouble("procChanceBonus", 0.1);
-
-        // Scale bonus with level
-        double totalBonus = procChanceBonus * level;
+        Params params = Params.of(definition);
+        double totalBonus = params.scaledBonus(level);
 
         // Apply the buff (refreshes duration if already active)
-        plugin.getProcEngine().applyEnhancerBuff(
-                player.getUniqueId(),
-                durationTicks,
-                totalBonus
-        );
-
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&d+Enhancer active! +" +
-                        String.format("%.0f", totalBonus * 100) + "% proc chance"));
+        long now = System.currentTimeMillis();
+        session.applyEnhancerBuff(now + params.durationMs(), totalBonus, now);
+
+        session.getFeedback().actionBar("&d+Enhancer active! +" +
+                String.format("%.0f", totalBonus * 100) + "% proc chance");
+    }
+
+    /**
+     * Enhancer's params: buff {@code durationTicks} and {@code procChanceBonus} per level.
+     */
+    public record Params(int durationTicks, double procChanceBonus) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamInt("durationTicks", 100),
+                    definition.getParamDouble("procChanceBonus", 0.1));
+        }
+
+        public long durationMs() {
+            return durationTicks * 50L;
+        }
+
+        /**
+         * Proc chance bonus the buff gives at a level.
+         */
+        public double scaledBonus(int level) {
+            return procChanceBonus * level;
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -47,7 +48,7 @@ public class FlameEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         double chance = definition.getParamDouble("chance", 1.0);
@@ -78,11 +79,10 @@ public class FlameEffect extends AbstractEnchantEffect {
         addDropsToInventory(player, Collections.singletonList(smelted));
 
         // Visual effect
-        player.getWorld().spawnParticle(Particle.FLAME,
+        session.getFeedback().particle(Particle.FLAME,
                 block.getLocation().add(0.5, 0.5, 0.5), 10, 0.3, 0.3, 0.3, 0.02);
-        player.playSound(block.getLocation(), Sound.BLOCK_FURNACE_FIRE_CRACKLE, 0.5f, 1.2f);
+        session.getFeedback().sound(block.getLocation(), Sound.BLOCK_FURNACE_FIRE_CRACKLE, 0.5f, 1.2f);
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&6\uD83D\uDD25 Flame auto-smelted!"));
+        session.getFeedback().actionBar("&6\uD83D\uDD25 Flame auto-smelted!");
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Particle;
@@ -24,29 +25,32 @@ public class FlashEffect extends AbstractEnchantEffect {
         return "flash";
     }
 
+    /**
+     * Flash's area: radius 1, up to 8 blocks unless configured.
+     */
+    public static AreaParams params(EnchantDefinition definition, int maxBlocksPerProc) {
+        return AreaParams.of(definition, 1, 8, maxBlocksPerProc);
+    }
+
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int radius = definition.getParamInt("radius", 1);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 8),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
+        AreaParams area = params(definition, plugin.getConfigManager().getMaxBlocksPerProc());
 
         // Flash is intentionally small and fast
-        int broken = breakBlocksAOE(player, block, pickaxe, radius, maxBlocks, DropMode.INVENTORY);
+        int broken = breakBlocksShape(player, block, pickaxe, area.kernel(),
+                area.maxBlocks(), DropMode.INVENTORY);
 
         if (broken > 0) {
             // Quick flash effect
-            player.getWorld().spawnParticle(Particle.FLASH,
+            session.getFeedback().particle(Particle.FLASH,
                     block.getLocation().add(0.5, 0.5, 0.5), 1, 0, 0, 0, 0);
-            player.getWorld().spawnParticle(Particle.FIREWORKS_SPARK,
+            session.getFeedback().particle(Particle.FIREWORKS_SPARK,
                     block.getLocation().add(0.5, 0.5, 0.5), 10, 0.3, 0.3, 0.3, 0.1);
-            player.playSound(block.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_BLAST, 0.3f, 2.0f);
+            session.getFeedback().sound(block.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_BLAST, 0.3f, 2.0f);
 
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&e\u26A1 Flash! " + broken + " blocks!"));
+            session.getFeedback().actionBar("&e\u26A1 Flash! " + broken + " blocks!");
         }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.TextUtil;
@@ -29,7 +30,7 @@ public class FreezeEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         int durationTicks = definition.getParamInt("durationTicks", 200);
@@ -50,13 +51,12 @@ public class FreezeEffect extends AbstractEnchantEffect {
         ));
 
         // Visual/sound effects
-        player.getWorld().spawnParticle(Particle.SNOWFLAKE,
+        session.getFeedback().particle(Particle.SNOWFLAKE,
                 player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.05);
-        player.playSound(player.getLocation(), Sound.BLOCK_GLASS_BREAK, 0.5f, 1.5f);
+        session.getFeedback().sound(player.getLocation(), Sound.BLOCK_GLASS_BREAK, 0.5f, 1.5f);
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&b\u2744 Freeze! Haste " + (scaledAmplifier + 1) +
-                        " for " + TextUtil.formatTicks(scaledDuration)));
+        session.getFeedback().actionBar("&b\u2744 Freeze! Haste " + (scaledAmplifier + 1) +
+                " for " + TextUtil.formatTicks(scaledDuration));
 
         // Future: If mine region API exists, call it to freeze regeneration
         // MineRegionAPI.freezeRegeneration(player.getLocation(), durationTicks);
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Material;
@@ -40,11 +41,10 @@ public class GhostriderEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         List<String> skipMaterialsList = definition.getParamStringList("skipMaterials");
-        int extraRange = definition.getParamInt("extraRange", 3);
 
         // Build skip materials set
         Set<Material> skipMaterials;
@@ -59,9 +59,9 @@ public class GhostriderEffect extends AbstractEnchantEffect {
             }
         }
 
-        // Scale range with level
-        int scaledRange = extraRange + (level / 10);
-        int maxBlocks = Math.min(scaledRange, plugin.getConfigManager().getMaxBlocksPerProc());
+        Params params = Params.of(definition);
+        int scaledRange = params.scaledRange(level);
+        int maxBlocks = params.maxBlocks(level, plugin.getConfigManager().getMaxBlocksPerProc());
 
         // Get facing direction
         Vector direction = getFacingAxis(player);
@@ -72,12 +72,35 @@ public class GhostriderEffect extends AbstractEnchantEffect {
 
         if (broken > 0) {
             // Ghost particle effect
-            player.getWorld().spawnParticle(Particle.SOUL,
+            session.getFeedback().particle(Particle.SOUL,
                     block.getLocation().add(0.5, 0.5, 0.5), 20, 0.3, 0.3, 0.3, 0.02);
-            player.playSound(block.getLocation(), Sound.ENTITY_VEX_AMBIENT, 0.4f, 0.5f);
+            session.getFeedback().sound(block.getLocation(), Sound.ENTITY_VEX_AMBIENT, 0.4f, 0.5f);
 
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&8\uD83D\uDC7B Ghostrider phased through " + broken + " blocks!"));
+            session.getFeedback().actionBar("&8\uD83D\uDC7B Ghostrider phased through " + broken + " blocks!");
+        }
+    }
+
+    /**
+     * Ghostrider's params: {@code extraRange}.
+     */
+    public record Params(int extraRange) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamInt("extraRange", 3));
+        }
+
+        /**
+         * Range at a level: one more block every 10 levels. The line checked is twice as long.
+         */
+        public int scaledRange(int level) {
+            return extraRange + (level / 10);
+        }
+
+        /**
+         * Blocks one proc may break at a level.
+         */
+        public int maxBlocks(int level, int maxBlocksPerProc) {
+            return Math.min(scaledRange(level), maxBlocksPerProc);
         }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -29,15 +30,12 @@ public class GoldenEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        double convertChance = definition.getParamDouble("convertChance", 0.2);
-        long bonusValue = definition.getParamLong("bonusValue", 500);
-
-        // Scale with level
-        double scaledChance = Math.min(convertChance + (level * 0.003), 0.8);
-        long scaledBonus = bonusValue + (level * 5);
+        Params params = Params.of(definition);
+        double scaledChance = params.scaledChance(level);
+        long scaledBonus = params.scaledBonus(level);
 
         if (!WeightedRandom.roll(scaledChance)) {
             return;
@@ -53,11 +51,35 @@ public class GoldenEffect extends AbstractEnchantEffect {
         addDropsToInventory(player, Collections.singletonList(goldNugget));
 
         // Visual effect
-        player.getWorld().spawnParticle(Particle.TOTEM,
+        session.getFeedback().particle(Particle.TOTEM,
                 block.getLocation().add(0.5, 0.5, 0.5), 15, 0.3, 0.3, 0.3, 0.1);
-        player.playSound(block.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.3f, 2.0f);
+        session.getFeedback().sound(block.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.3f, 2.0f);
+
+        session.getFeedback().actionBar("&6\u2B50 Golden conversion! +" + scaledBonus + " tokens!");
+    }
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&6\u2B50 Golden conversion! +" + scaledBonus + " tokens!"));
+    /**
+     * Golden's params: {@code convertChance} and {@code bonusValue}.
+     */
+    public record Params(double convertChance, long bonusValue) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamDouble("convertChance", 0.2),
+                    definition.getParamLong("bonusValue", 500));
+        }
+
+        /**
+         * Conversion chance at a level: +0.3% per level, at most 80%.
+         */
+        public double scaledChance(int level) {
+            return Math.min(convertChance + (level * 0.003), 0.8);
+        }
+
+        /**
+         * Tokens a conversion pays at a level.
+         */
+        public long scaledBonus(int level) {
+            return bonusValue + (level * 5L);
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.luminary.enchants.trigger.effects.impl;
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.api.BeaconEffectProvider;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.block.Block;
@@ -24,39 +25,51 @@ public class KeyfinderEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int keysBase = definition.getParamInt("keysBase", 1);
-        int keysPerLevel = definition.getParamInt("keysPerLevel", 0);
-        String keyType = definition.getParamString("keyType", "crate_basic");
-        boolean convertToTokens = definition.getParamBoolean("convertToTokens", false);
-        long tokensPerKey = definition.getParamLong("tokensPerKey", 100);
+        Params params = Params.of(definition);
 
-        // Calculate keys gained
-        int keys = keysBase + (keysPerLevel * level);
-
-        // Apply beacon key gain multiplier
+        // Keys gained, with the beacon key gain multiplier
         double keyMultiplier = getBeaconProvider().multiplier(
                 player.getUniqueId(), BeaconEffectProvider.KEY_GAIN);
-        keys = (int) Math.ceil(keys * keyMultiplier);
+        int keys = params.keys(level, keyMultiplier);
 
         if (keys <= 0) return;
 
-        if (convertToTokens && getTokenEconomy().isAvailable()) {
+        if (params.convertToTokens() && getTokenEconomy().isAvailable()) {
             // Convert keys to tokens
-            long tokens = keys * tokensPerKey;
+            long tokens = keys * params.tokensPerKey();
             depositTokens(player, tokens, "Keyfinder enchant");
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&a+" + tokens + " tokens from Keyfinder!"));
+            session.getFeedback().actionBar("&a+" + tokens + " tokens from Keyfinder!");
         } else {
             // Award virtual keys (would integrate with crate plugin)
             // For now, send message - actual key giving would use external plugin hook
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&a+" + keys + " " + keyType + " key(s)!"));
+            session.getFeedback().actionBar("&a+" + keys + " " + params.keyType() + " key(s)!");
 
             // Future: Hook into crate plugin to give actual keys
             // CratePlugin.giveKeys(player, keyType, keys);
         }
     }
+
+    /**
+     * Keyfinder's params: keys per proc, the key type, and whether keys are paid out as tokens.
+     */
+    public record Params(int keysBase, int keysPerLevel, String keyType, boolean convertToTokens, long tokensPerKey) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamInt("keysBase", 1),
+                    definition.getParamInt("keysPerLevel", 0),
+                    definition.getParamString("keyType", "crate_basic"),
+                    definition.getParamBoolean("convertToTokens", false),
+                    definition.getParamLong("tokensPerKey", 100));
+        }
+
+        /**
+         * Keys one proc gives at a level, rounded up after the key gain multiplier.
+         */
+        public int keys(int level, double keyMultiplier) {
+            return (int) Math.ceil((keysBase + (keysPerLevel * level)) * keyMultiplier);
+        }
+    }
 }
@@ -2,9 +2,11 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Color;
+import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
@@ -12,20 +14,14 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Laser: Mining beam mode - breaks blocks in a straight line.
  * Toggle with sneak-right-click.
  */
 public class LaserEffect extends AbstractEnchantEffect {
 
-    // Track laser mode state per player
-    private final Map<UUID, Boolean> laserEnabled = new ConcurrentHashMap<>();
+    private static final int MAX_BEAM_POINTS = 24;
+    private static final Particle.DustOptions BEAM_DUST = new Particle.DustOptions(Color.RED, 1.0f);
 
     public LaserEffect(LuminaryEnchants plugin) {
         super(plugin);
@@ -37,32 +33,26 @@ public class LaserEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int range = definition.getParamInt("range", 10);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 20),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
-        boolean toggleMode = definition.getParamBoolean("toggleMode", true);
-
-        UUID playerId = player.getUniqueId();
+        Params params = Params.of(definition, plugin.getConfigManager().getMaxBlocksPerProc());
+        boolean toggleMode = params.toggleMode();
 
         // Handle toggle on interact (sneak + right-click)
         if (context == ProcEngine.ProcContext.INTERACT && player.isSneaking()) {
             if (toggleMode) {
-                boolean current = laserEnabled.getOrDefault(playerId, false);
-                laserEnabled.put(playerId, !current);
+                boolean current = session.isLaserEnabled();
+                session.setLaserEnabled(!current);
 
                 if (!current) {
                     player.sendMessage(plugin.getPickaxeDataManager().getLoreRenderer()
                             .createDisplayComponent("&c\u2604 Laser mode &aENABLED"));
-                    player.playSound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.5f, 1.5f);
+                    session.getFeedback().sound(player.getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 0.5f, 1.5f);
                 } else {
                     player.sendMessage(plugin.getPickaxeDataManager().getLoreRenderer()
                             .createDisplayComponent("&c\u2604 Laser mode &cDISABLED"));
-                    player.playSound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 0.5f, 1.5f);
+                    session.getFeedback().sound(player.getLocation(), Sound.BLOCK_BEACON_DEACTIVATE, 0.5f, 1.5f);
                 }
                 return;
             }
@@ -70,42 +60,68 @@ public class LaserEffect extends AbstractEnchantEffect {
 
         // Only fire laser beam on block break if enabled
         if (context == ProcEngine.ProcContext.BLOCK_BREAK) {
-            if (toggleMode && !laserEnabled.getOrDefault(playerId, false)) {
+            if (toggleMode && !session.isLaserEnabled()) {
                 return;
             }
 
-            // Scale range with level
-            int scaledRange = range + (level / 10);
+            int scaledRange = params.scaledRange(level);
 
             // Get facing direction
-            Vector direction = getFacingAxis(player);
+            Vector direction = getLineDirection(player, definition);
 
             // Break blocks in line
-            int broken = breakBlocksLine(player, block, pickaxe, direction, scaledRange, maxBlocks,
+            int broken = breakBlocksLine(player, block, pickaxe, direction, scaledRange, params.maxBlocks(),
                     DropMode.INVENTORY, null);
 
             if (broken > 0) {
-                // Laser beam particle effect
-                Particle.DustOptions dust = new Particle.DustOptions(Color.RED, 1.0f);
-                for (int i = 1; i <= scaledRange; i++) {
-                    player.getWorld().spawnParticle(Particle.REDSTONE,
-                            block.getLocation().add(0.5, 0.5, 0.5)
-                                    .add(direction.clone().multiply(i)),
-                            3, 0.1, 0.1, 0.1, 0, dust);
-                }
-                player.playSound(block.getLocation(), Sound.ENTITY_GUARDIAN_ATTACK, 0.5f, 2.0f);
+                drawBeam(session, block, direction, scaledRange);
+                session.getFeedback().sound(block.getLocation(), Sound.ENTITY_GUARDIAN_ATTACK, 0.5f, 2.0f);
 
-                player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                        .createDisplayComponent("&c\u2604 Laser cut through " + broken + " blocks!"));
+                session.getFeedback().actionBar("&c\u2604 Laser cut through " + broken + " blocks!");
             }
         }
     }
 
-    public boolean isLaserEnabled(UUID playerId) {
-        return laserEnabled.getOrDefault(playerId, false);
+    /**
+     * Draw the beam with at most MAX_BEAM_POINTS particle calls, however long it is.
+     */
+    private void drawBeam(EnchantSession session, Block block, Vector direction, int range) {
+        if (range <= 0) return;
+        Vector step = direction.clone().normalize();
+        int points = Math.min(range, MAX_BEAM_POINTS);
+        double spacing = (double) range / points;
+        step.multiply(spacing);
+
+        // Spread each burst over its stretch of the beam so there are no gaps
+        double spreadX = Math.abs(step.getX()) / 2 + 0.1;
+        double spreadY = Math.abs(step.getY()) / 2 + 0.1;
+        double spreadZ = Math.abs(step.getZ()) / 2 + 0.1;
+        int count = (int) Math.ceil(3 * spacing);
+
+        Location point = block.getLocation().add(0.5, 0.5, 0.5);
+        for (int i = 0; i < points; i++) {
+            point.add(step);
+            session.getFeedback().particle(Particle.REDSTONE, point,
+                    count, spreadX, spreadY, spreadZ, 0, BEAM_DUST);
+        }
     }
 
-    public void setLaserEnabled(UUID playerId, boolean enabled) {
-        laserEnabled.put(playerId, enabled);
+    /**
+     * Laser's params: beam {@code range}, {@code maxBlocks} and {@code toggleMode}.
+     */
+    public record Params(int range, int maxBlocks, boolean toggleMode) {
+
+        public static Params of(EnchantDefinition definition, int maxBlocksPerProc) {
+            return new Params(definition.getParamInt("range", 10),
+                    Math.min(definition.getParamInt("maxBlocks", 20), maxBlocksPerProc),
+                    definition.getParamBoolean("toggleMode", true));
+        }
+
+        /**
+         * Beam range at a level: one more block every 10 levels.
+         */
+        public int scaledRange(int level) {
+            return range + (level / 10);
+        }
     }
 }
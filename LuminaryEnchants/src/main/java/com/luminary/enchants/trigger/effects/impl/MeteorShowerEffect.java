@@ -2,10 +2,11 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
+import com.luminary.enchants.trigger.effects.ShapeKernel;
 import com.luminary.enchants.util.WeightedRandom;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -15,9 +16,12 @@ import org.bukkit.inventory.ItemStack;
 
 /**
  * Meteor Shower: Multiple small bursts around the player over 1-2 seconds.
+ * Strikes go through the effect scheduler.
  */
 public class MeteorShowerEffect extends AbstractEnchantEffect {
 
+    private static final int IMPACT_RADIUS = 1;
+
     public MeteorShowerEffect(LuminaryEnchants plugin) {
         super(plugin);
     }
@@ -28,31 +32,22 @@ public class MeteorShowerEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int meteors = definition.getParamInt("meteors", 5);
-        int radius = definition.getParamInt("radius", 3);
-        int maxBlocksPerMeteor = Math.min(
-                definition.getParamInt("maxBlocksPerMeteor", 10),
-                plugin.getConfigManager().getMaxBlocksPerProc() / meteors
-        );
-        int durationTicks = definition.getParamInt("durationTicks", 40);
-
-        // Scale with level
-        int scaledMeteors = meteors + (level / 20);
+        Params params = Params.of(definition, plugin.getConfigManager().getMaxBlocksPerProc());
+        int radius = params.radius();
+        int maxBlocksPerMeteor = params.maxBlocksPerMeteor();
+        int scaledMeteors = params.scaledMeteors(level);
 
         // Calculate delay between meteors
-        int delayBetween = durationTicks / scaledMeteors;
+        int delayBetween = params.durationTicks() / scaledMeteors;
 
         Location playerLoc = player.getLocation();
 
-        // Schedule meteor strikes
+        // Queue meteor strikes
         for (int i = 0; i < scaledMeteors; i++) {
-            final int meteorIndex = i;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                // Check if player is still online
-                if (!player.isOnline()) return;
+            plugin.getEffectScheduler().submit(player, getEnchantId(), (long) i * delayBetween, () -> {
 
                 // Random location within radius of the original block
                 int offsetX = WeightedRandom.randomInt(-radius, radius);
@@ -69,25 +64,54 @@ public class MeteorShowerEffect extends AbstractEnchantEffect {
                 Location meteorStart = targetBlock.getLocation().add(0.5, 10, 0.5);
                 for (int y = 10; y > 0; y--) {
                     Location trailLoc = meteorStart.clone().add(0, -y, 0);
-                    player.getWorld().spawnParticle(Particle.FLAME, trailLoc, 3, 0.1, 0.1, 0.1, 0.01);
-                    player.getWorld().spawnParticle(Particle.LAVA, trailLoc, 1, 0.1, 0.1, 0.1, 0);
+                    session.getFeedback().particle(Particle.FLAME, trailLoc, 3, 0.1, 0.1, 0.1, 0.01);
+                    session.getFeedback().particle(Particle.LAVA, trailLoc, 1, 0.1, 0.1, 0.1, 0);
                 }
 
                 // Impact effect
-                player.getWorld().spawnParticle(Particle.EXPLOSION_LARGE,
+                session.getFeedback().particle(Particle.EXPLOSION_LARGE,
                         targetBlock.getLocation().add(0.5, 1, 0.5), 1, 0, 0, 0, 0);
-                player.getWorld().spawnParticle(Particle.FLAME,
+                session.getFeedback().particle(Particle.FLAME,
                         targetBlock.getLocation().add(0.5, 0.5, 0.5), 20, 0.5, 0.5, 0.5, 0.1);
-                player.playSound(targetBlock.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.4f, 1.3f);
+                session.getFeedback().sound(targetBlock.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.4f, 1.3f);
 
                 // Break blocks at impact
-                breakBlocksAOE(player, targetBlock, pickaxe, 1, maxBlocksPerMeteor, DropMode.INVENTORY);
-
-            }, (long) i * delayBetween);
+                return breakBlocksAOE(player, targetBlock, pickaxe, IMPACT_RADIUS, maxBlocksPerMeteor,
+                        DropMode.INVENTORY);
+            });
         }
 
         // Initial message
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&c\u2604 Meteor Shower! " + scaledMeteors + " incoming!"));
+        session.getFeedback().actionBar("&c\u2604 Meteor Shower! " + scaledMeteors + " incoming!");
+    }
+
+    /**
+     * Meteor Shower's params. The per-proc block limit is split between the
+     * configured {@code meteors}, of which there are always at least one.
+     */
+    public record Params(int meteors, int radius, int maxBlocksPerMeteor, int durationTicks) {
+
+        public static Params of(EnchantDefinition definition, int maxBlocksPerProc) {
+            int meteors = Math.max(1, definition.getParamInt("meteors", 5));
+            return new Params(meteors,
+                    definition.getParamInt("radius", 3),
+                    Math.min(definition.getParamInt("maxBlocksPerMeteor", 10), maxBlocksPerProc / meteors),
+                    definition.getParamInt("durationTicks", 40));
+        }
+
+        /**
+         * Meteors at a level: one more every 20 levels.
+         */
+        public int scaledMeteors(int level) {
+            return meteors + (level / 20);
+        }
+
+        /**
+         * Blocks one meteor breaks when its whole impact cube can be broken.
+         */
+        public int solidBlocksPerMeteor() {
+            return Math.max(0, Math.min(ShapeKernel.of(ShapeKernel.Shape.CUBE, IMPACT_RADIUS).size(),
+                    maxBlocksPerMeteor));
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -12,18 +13,12 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Collection;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Mirror: Copies the drop outcome of the broken block (duplication).
  */
 public class MirrorEffect extends AbstractEnchantEffect {
 
-    // Track last mirror proc to prevent stacking
-    private final Map<UUID, Long> lastMirrorProc = new ConcurrentHashMap<>();
-
     public MirrorEffect(LuminaryEnchants plugin) {
         super(plugin);
     }
@@ -34,7 +29,7 @@ public class MirrorEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         // Prevent stacking with Second Hand
@@ -48,11 +43,9 @@ public class MirrorEffect extends AbstractEnchantEffect {
         // Scale chance with level
         double scaledChance = Math.min(duplicateChance + (level * 0.003), 0.8);
 
-        UUID playerId = player.getUniqueId();
-
         // Check internal cooldown
-        Long lastProc = lastMirrorProc.get(playerId);
-        if (lastProc != null && (System.currentTimeMillis() - lastProc) < cooldownMs) {
+        long lastProc = session.getLastMirrorProc();
+        if (lastProc != 0 && (System.currentTimeMillis() - lastProc) < cooldownMs) {
             return;
         }
 
@@ -68,22 +61,17 @@ public class MirrorEffect extends AbstractEnchantEffect {
 
         addDropsToInventory(player, drops);
 
-        lastMirrorProc.put(playerId, System.currentTimeMillis());
+        session.setLastMirrorProc(System.currentTimeMillis());
 
         // Visual effect
-        player.getWorld().spawnParticle(Particle.END_ROD,
+        session.getFeedback().particle(Particle.END_ROD,
                 block.getLocation().add(0.5, 0.5, 0.5), 20, 0.3, 0.3, 0.3, 0.05);
         // Create a reflection effect with second particle burst
-        player.getWorld().spawnParticle(Particle.END_ROD,
+        session.getFeedback().particle(Particle.END_ROD,
                 block.getLocation().add(0.5, 0.5, 0.5).add(0.3, 0.3, 0.3),
                 20, 0.3, 0.3, 0.3, 0.05);
-        player.playSound(block.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.6f, 1.2f);
-
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&f\u2728 Mirror duplicated drops!"));
-    }
+        session.getFeedback().sound(block.getLocation(), Sound.BLOCK_AMETHYST_BLOCK_CHIME, 0.6f, 1.2f);
 
-    public void clearPlayer(UUID playerId) {
-        lastMirrorProc.remove(playerId);
+        session.getFeedback().actionBar("&f\u2728 Mirror duplicated drops!");
     }
 }
@@ -2,9 +2,9 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
-import org.bukkit.Bukkit;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
@@ -13,21 +13,13 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Overclock: Stacking mining speed buff while continuously mining, decays when stopping.
  */
 public class OverclockEffect extends AbstractEnchantEffect {
 
-    // Track stacks and last activity per player
-    private final Map<UUID, OverclockState> playerStates = new ConcurrentHashMap<>();
-
     public OverclockEffect(LuminaryEnchants plugin) {
         super(plugin);
-        startDecayTask();
     }
 
     @Override
@@ -36,22 +28,27 @@ public class OverclockEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         int maxStacks = definition.getParamInt("maxStacks", 10);
         int stackGainPerBreak = definition.getParamInt("stackGainPerBreak", 1);
         int hasteAmplifierBase = definition.getParamInt("hasteAmplifierBase", 0);
 
-        UUID playerId = player.getUniqueId();
-        OverclockState state = playerStates.computeIfAbsent(playerId, k -> new OverclockState());
-
         // Add stacks
-        state.stacks = Math.min(state.stacks + stackGainPerBreak, maxStacks);
-        state.lastActivity = System.currentTimeMillis();
+        int stacks = Math.min(session.getOverclockStacks() + stackGainPerBreak, maxStacks);
+        session.setOverclockStacks(stacks);
+        session.setOverclockLastActivity(System.currentTimeMillis());
+
+        // One queued decay check per player, which re-queues itself while stacks remain
+        if (!session.isOverclockDecayQueued()) {
+            session.setOverclockDecayQueued(true);
+            int decayDelayTicks = definition.getParamInt("decayDelayTicks", 40);
+            queueDecay(session, decayDelayTicks, decayDelayTicks + 1L);
+        }
 
         // Calculate haste level based on stacks
-        int hasteLevel = hasteAmplifierBase + (state.stacks / 2);
+        int hasteLevel = hasteAmplifierBase + (stacks / 2);
         hasteLevel = Math.min(hasteLevel, 5); // Cap at Haste VI
 
         // Apply haste effect
@@ -63,51 +60,49 @@ public class OverclockEffect extends AbstractEnchantEffect {
         ));
 
         // Visual feedback at certain thresholds
-        if (state.stacks == maxStacks) {
-            player.getWorld().spawnParticle(Particle.ELECTRIC_SPARK,
+        if (stacks == maxStacks) {
+            session.getFeedback().particle(Particle.ELECTRIC_SPARK,
                     player.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.1);
-            player.playSound(player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 0.3f, 2.0f);
-
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&e\u26A1 OVERCLOCK MAX! Haste " + (hasteLevel + 1)));
-        } else if (state.stacks % 3 == 0) {
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&e\u26A1 Overclock: " + state.stacks + "/" + maxStacks +
-                            " (Haste " + (hasteLevel + 1) + ")"));
+            session.getFeedback().sound(player.getLocation(), Sound.BLOCK_BEACON_POWER_SELECT, 0.3f, 2.0f);
+
+            session.getFeedback().actionBar("&e\u26A1 OVERCLOCK MAX! Haste " + (hasteLevel + 1));
+        } else if (stacks % 3 == 0) {
+            session.getFeedback().actionBar("&e\u26A1 Overclock: " + stacks + "/" + maxStacks +
+                    " (Haste " + (hasteLevel + 1) + ")");
         }
     }
 
-    private void startDecayTask() {
-        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            long now = System.currentTimeMillis();
-            int decayDelayTicks = plugin.getConfigManager().getMainConfig()
-                    .getInt("enchants.overclock.decayDelayTicks", 40) * 50; // Convert to ms
-
-            playerStates.forEach((playerId, state) -> {
-                if (now - state.lastActivity > decayDelayTicks && state.stacks > 0) {
-                    state.stacks = Math.max(0, state.stacks - 1);
-
-                    Player player = Bukkit.getPlayer(playerId);
-                    if (player != null && state.stacks == 0) {
-                        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                                .createDisplayComponent("&7Overclock faded..."));
-                    }
-                }
-            });
-        }, 20L, 20L); // Run every second
+    private void queueDecay(EnchantSession session, int decayDelayTicks, long delayTicks) {
+        plugin.getEffectScheduler().submit(session.getPlayer(), getEnchantId(), delayTicks, () -> {
+            decay(session, decayDelayTicks);
+            return 0;
+        });
     }
 
-    public int getStacks(UUID playerId) {
-        OverclockState state = playerStates.get(playerId);
-        return state != null ? state.stacks : 0;
-    }
+    private void decay(EnchantSession session, int decayDelayTicks) {
+        long idleMs = System.currentTimeMillis() - session.getOverclockLastActivity();
+        long decayDelayMs = decayDelayTicks * 50L; // Convert to ms
 
-    public void clearPlayer(UUID playerId) {
-        playerStates.remove(playerId);
-    }
+        // Still mining, check again once the delay could have passed
+        if (idleMs <= decayDelayMs) {
+            queueDecay(session, decayDelayTicks, (decayDelayMs - idleMs) / 50 + 1);
+            return;
+        }
+
+        int stacks = session.getOverclockStacks();
+        if (stacks > 0) {
+            session.setOverclockStacks(stacks - 1);
+        }
+
+        if (stacks <= 1) {
+            session.setOverclockDecayQueued(false);
+            if (stacks == 1) {
+                session.getFeedback().actionBar("&7Overclock faded...");
+            }
+            return;
+        }
 
-    private static class OverclockState {
-        int stacks = 0;
-        long lastActivity = System.currentTimeMillis();
+        // Lose one stack per second
+        queueDecay(session, decayDelayTicks, 20);
     }
 }
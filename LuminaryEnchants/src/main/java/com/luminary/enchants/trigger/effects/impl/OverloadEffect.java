@@ -2,26 +2,21 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
+import com.luminary.enchants.trigger.effects.ShapeKernel;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Overload: Builds charge from mining; when full, releases a big AOE break + bonus payout.
  */
 public class OverloadEffect extends AbstractEnchantEffect {
 
-    // Track charge per player
-    private final Map<UUID, Integer> playerCharge = new ConcurrentHashMap<>();
-
     public OverloadEffect(LuminaryEnchants plugin) {
         super(plugin);
     }
@@ -32,49 +27,43 @@ public class OverloadEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int chargePerBlock = definition.getParamInt("chargePerBlock", 1);
-        int chargeMax = definition.getParamInt("chargeMax", 100);
-        int burstRadius = definition.getParamInt("burstRadius", 3);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 64),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
-        long bonusTokens = definition.getParamLong("bonusTokens", 1000);
+        Params params = Params.of(definition, plugin.getConfigManager().getMaxBlocksPerProc());
+        int chargeMax = params.chargeMax();
+        int burstRadius = params.burstRadius();
+        long bonusTokens = params.scaledBonusTokens(level);
 
-        UUID playerId = player.getUniqueId();
-        int currentCharge = playerCharge.getOrDefault(playerId, 0) + chargePerBlock;
+        int currentCharge = session.getOverloadCharge() + params.chargePerBlock();
 
         if (currentCharge >= chargeMax) {
             // OVERLOAD BURST!
-            playerCharge.put(playerId, 0);
+            session.setOverloadCharge(0);
 
             // Big AOE break
-            int broken = breakBlocksAOE(player, block, pickaxe, burstRadius, maxBlocks, DropMode.INVENTORY);
+            int broken = breakBlocksShape(player, block, pickaxe, params.burstKernel(),
+                    params.maxBlocks(), DropMode.INVENTORY);
 
             // Bonus tokens
             if (getTokenEconomy().isAvailable()) {
-                long scaledBonus = bonusTokens + (level * 10);
-                depositTokens(player, scaledBonus, "Overload burst");
+                depositTokens(player, bonusTokens, "Overload burst");
             }
 
             // Epic visual effect
-            player.getWorld().spawnParticle(Particle.EXPLOSION_LARGE,
+            session.getFeedback().particle(Particle.EXPLOSION_LARGE,
                     block.getLocation().add(0.5, 0.5, 0.5), 3, 1, 1, 1, 0);
-            player.getWorld().spawnParticle(Particle.FLAME,
+            session.getFeedback().particle(Particle.FLAME,
                     block.getLocation().add(0.5, 0.5, 0.5), 100, burstRadius, burstRadius, burstRadius, 0.1);
-            player.getWorld().spawnParticle(Particle.ELECTRIC_SPARK,
+            session.getFeedback().particle(Particle.ELECTRIC_SPARK,
                     block.getLocation().add(0.5, 0.5, 0.5), 50, burstRadius, burstRadius, burstRadius, 0.2);
-            player.playSound(block.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.2f);
-            player.playSound(block.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.5f, 1.5f);
+            session.getFeedback().sound(block.getLocation(), Sound.ENTITY_GENERIC_EXPLODE, 0.7f, 1.2f);
+            session.getFeedback().sound(block.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.5f, 1.5f);
 
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&c\uD83D\uDCA5 OVERLOAD! " + broken +
-                            " blocks + " + bonusTokens + " tokens!"));
+            session.getFeedback().actionBar("&c\uD83D\uDCA5 OVERLOAD! " + broken +
+                    " blocks + " + bonusTokens + " tokens!");
         } else {
-            playerCharge.put(playerId, currentCharge);
+            session.setOverloadCharge(currentCharge);
 
             // Show charge progress periodically
             if (currentCharge % 20 == 0 || currentCharge >= chargeMax - 10) {
@@ -92,17 +81,39 @@ public class OverloadEffect extends AbstractEnchantEffect {
                 }
                 bar.append("&8] &c").append(percentage).append("%");
 
-                player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                        .createDisplayComponent("&cOverload: " + bar));
+                session.getFeedback().actionBar("&cOverload: " + bar);
             }
         }
     }
 
-    public int getCharge(UUID playerId) {
-        return playerCharge.getOrDefault(playerId, 0);
-    }
+    /**
+     * Overload's params: charge per proc and to fill, and the burst's radius, shape and payout.
+     */
+    public record Params(int chargePerBlock, int chargeMax, int burstRadius, ShapeKernel burstKernel,
+                         int maxBlocks, long bonusTokens) {
+
+        public static Params of(EnchantDefinition definition, int maxBlocksPerProc) {
+            int burstRadius = definition.getParamInt("burstRadius", 3);
+            return new Params(definition.getParamInt("chargePerBlock", 1),
+                    definition.getParamInt("chargeMax", 100),
+                    burstRadius,
+                    getShapeKernel(definition, burstRadius),
+                    Math.min(definition.getParamInt("maxBlocks", 64), maxBlocksPerProc),
+                    definition.getParamLong("bonusTokens", 1000));
+        }
 
-    public void clearPlayer(UUID playerId) {
-        playerCharge.remove(playerId);
+        /**
+         * Burst payout at a level: 10 more tokens per level.
+         */
+        public long scaledBonusTokens(int level) {
+            return bonusTokens + (level * 10L);
+        }
+
+        /**
+         * Blocks a burst breaks when every cell of its shape can be broken.
+         */
+        public int solidBurstBlocks() {
+            return Math.max(0, Math.min(burstKernel.size(), maxBlocks));
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Particle;
@@ -11,7 +12,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Pause: Briefly reduces cooldowns for a subset of enchants.
@@ -28,16 +28,12 @@ public class PauseEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        long cooldownReductionMs = definition.getParamLong("cooldownReductionMs", 500);
-        List<String> affectedEnchantIds = definition.getParamStringList("affectedEnchantIds");
-
-        // Scale with level
-        long scaledReduction = cooldownReductionMs + (level * 10);
-
-        UUID playerId = player.getUniqueId();
+        Params params = Params.of(definition);
+        List<String> affectedEnchantIds = params.affectedEnchantIds();
+        long scaledReduction = params.scaledReduction(level);
 
         // If no specific enchants listed, affect all enchants on the pickaxe
         if (affectedEnchantIds.isEmpty()) {
@@ -48,21 +44,39 @@ public class PauseEffect extends AbstractEnchantEffect {
         int reducedCount = 0;
         for (String enchantId : affectedEnchantIds) {
             if (!enchantId.equals("pause")) { // Don't affect itself
-                plugin.getProcEngine().getCooldownManager()
-                        .reduceCooldown(playerId, enchantId, scaledReduction);
+                session.getCooldowns().reduceCooldown(
+                        plugin.getEnchantRegistry().getOrdinal(enchantId), scaledReduction);
                 reducedCount++;
             }
         }
 
         if (reducedCount > 0) {
             // Visual effect
-            player.getWorld().spawnParticle(Particle.PORTAL,
+            session.getFeedback().particle(Particle.PORTAL,
                     player.getLocation().add(0, 1, 0), 30, 0.5, 0.5, 0.5, 0.1);
-            player.playSound(player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.5f, 1.5f);
+            session.getFeedback().sound(player.getLocation(), Sound.BLOCK_RESPAWN_ANCHOR_CHARGE, 0.5f, 1.5f);
+
+            session.getFeedback().actionBar("&d\u23F8 Pause reduced " + reducedCount +
+                    " cooldowns by " + (scaledReduction / 1000.0) + "s!");
+        }
+    }
+
+    /**
+     * Pause's params: {@code cooldownReductionMs} and {@code affectedEnchantIds}
+     * (empty means every enchant on the pickaxe).
+     */
+    public record Params(long cooldownReductionMs, List<String> affectedEnchantIds) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamLong("cooldownReductionMs", 500),
+                    definition.getParamStringList("affectedEnchantIds"));
+        }
 
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&d\u23F8 Pause reduced " + reducedCount +
-                            " cooldowns by " + (scaledReduction / 1000.0) + "s!"));
+        /**
+         * Cooldown cut at a level: 10ms more per level.
+         */
+        public long scaledReduction(int level) {
+            return cooldownReductionMs + (level * 10L);
         }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.TextUtil;
@@ -9,18 +10,11 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Piggy Bank: Stores tokens internally and pays out in chunks with bonus.
  */
 public class PiggyBankEffect extends AbstractEnchantEffect {
 
-    // Track stored tokens per player
-    private final Map<UUID, Long> storedTokens = new ConcurrentHashMap<>();
-
     public PiggyBankEffect(LuminaryEnchants plugin) {
         super(plugin);
     }
@@ -31,56 +25,62 @@ public class PiggyBankEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        double storePercent = definition.getParamDouble("storePercent", 0.1);
-        long payoutThreshold = definition.getParamLong("payoutThreshold", 10000);
-        double payoutBonusPercent = definition.getParamDouble("payoutBonusPercent", 0.15);
-
-        // Base tokens earned from block (simulated - would integrate with token rewards)
-        long baseTokens = definition.getParamLong("baseTokensPerBlock", 10) * level;
-
-        // Calculate how much to store
-        long toStore = (long) (baseTokens * storePercent);
+        Params params = Params.of(definition);
+        long toStore = params.toStore(level);
 
         if (toStore <= 0) return;
 
-        UUID playerId = player.getUniqueId();
-        long currentStored = storedTokens.getOrDefault(playerId, 0L);
+        long currentStored = session.getPiggyBankStored();
         long newStored = currentStored + toStore;
 
         // Check if threshold reached
-        if (newStored >= payoutThreshold) {
+        if (newStored >= params.payoutThreshold()) {
             // Payout with bonus
-            long bonus = (long) (newStored * payoutBonusPercent);
+            long bonus = params.payoutBonus(newStored);
             long payout = newStored + bonus;
 
             if (getTokenEconomy().isAvailable()) {
                 depositTokens(player, payout, "Piggy Bank payout");
-                player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                        .createDisplayComponent("&6Piggy Bank paid out " +
-                                TextUtil.formatNumber(payout) + " tokens! (+" +
-                                TextUtil.formatNumber(bonus) + " bonus)"));
+                session.getFeedback().actionBar("&6Piggy Bank paid out " +
+                        TextUtil.formatNumber(payout) + " tokens! (+" +
+                        TextUtil.formatNumber(bonus) + " bonus)");
             }
 
-            storedTokens.put(playerId, 0L);
+            session.setPiggyBankStored(0L);
         } else {
-            storedTokens.put(playerId, newStored);
+            session.setPiggyBankStored(newStored);
         }
     }
 
     /**
-     * Get current stored amount for a player.
+     * Piggy Bank's params: how much of each block's tokens is stored, and when and how it pays out.
      */
-    public long getStoredAmount(UUID playerId) {
-        return storedTokens.getOrDefault(playerId, 0L);
-    }
+    public record Params(double storePercent, long payoutThreshold, double payoutBonusPercent,
+                         long baseTokensPerBlock) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamDouble("storePercent", 0.1),
+                    definition.getParamLong("payoutThreshold", 10000),
+                    definition.getParamDouble("payoutBonusPercent", 0.15),
+                    definition.getParamLong("baseTokensPerBlock", 10));
+        }
 
-    /**
-     * Clear stored tokens for a player (on logout or manual clear).
-     */
-    public void clearPlayer(UUID playerId) {
-        storedTokens.remove(playerId);
+        /**
+         * Tokens one proc stores at a level. Block tokens are simulated as
+         * {@code baseTokensPerBlock} per level until token rewards are hooked in.
+         */
+        public long toStore(int level) {
+            return (long) (baseTokensPerBlock * level * storePercent);
+        }
+
+        /**
+         * Bonus on top of a payout of {@code stored} tokens.
+         */
+        public long payoutBonus(long stored) {
+            return (long) (stored * payoutBonusPercent);
+        }
     }
 }
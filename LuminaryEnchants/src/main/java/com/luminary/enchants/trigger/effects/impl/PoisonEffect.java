@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.TextUtil;
@@ -11,18 +12,13 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Poison: Corruption effect that increases ore yields but reduces stone yields.
  */
 public class PoisonEffect extends AbstractEnchantEffect {
 
-    // Track active poison effects per player
-    private final Map<UUID, PoisonBuff> activeBuffs = new ConcurrentHashMap<>();
-
     public PoisonEffect(LuminaryEnchants plugin) {
         super(plugin);
     }
@@ -33,7 +29,7 @@ public class PoisonEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         double oreBonusMultiplier = definition.getParamDouble("oreBonusMultiplier", 1.5);
@@ -44,62 +40,38 @@ public class PoisonEffect extends AbstractEnchantEffect {
         double scaledOreBonus = oreBonusMultiplier + (level * 0.01);
         int scaledDuration = durationTicks + (level * 2);
 
-        UUID playerId = player.getUniqueId();
         long expiresAt = System.currentTimeMillis() + (scaledDuration * 50L);
 
-        activeBuffs.put(playerId, new PoisonBuff(expiresAt, scaledOreBonus, stonePenaltyMultiplier));
+        session.applyPoisonBuff(expiresAt, scaledOreBonus, stonePenaltyMultiplier);
 
         // Visual effect
-        player.getWorld().spawnParticle(Particle.SPELL_WITCH,
+        session.getFeedback().particle(Particle.SPELL_WITCH,
                 player.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.05);
-        player.playSound(player.getLocation(), Sound.ENTITY_WITCH_AMBIENT, 0.5f, 0.8f);
+        session.getFeedback().sound(player.getLocation(), Sound.ENTITY_WITCH_AMBIENT, 0.5f, 0.8f);
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&5\u2620 Poison active! Ores +" +
-                        String.format("%.0f", (scaledOreBonus - 1) * 100) + "%, Stone -" +
-                        String.format("%.0f", (1 - stonePenaltyMultiplier) * 100) + "%"));
+        session.getFeedback().actionBar("&5\u2620 Poison active! Ores +" +
+                String.format("%.0f", (scaledOreBonus - 1) * 100) + "%, Stone -" +
+                String.format("%.0f", (1 - stonePenaltyMultiplier) * 100) + "%");
     }
 
     /**
      * Get ore bonus multiplier for a player (called by drop handlers).
      */
     public double getOreMultiplier(UUID playerId) {
-        PoisonBuff buff = activeBuffs.get(playerId);
-        if (buff != null && buff.isActive()) {
-            return buff.oreBonus;
-        }
-        return 1.0;
+        EnchantSession session = plugin.getProcEngine().findSession(playerId);
+        return session != null ? session.getPoisonOreMultiplier(System.currentTimeMillis()) : 1.0;
     }
 
     /**
      * Get stone penalty multiplier for a player.
      */
     public double getStoneMultiplier(UUID playerId) {
-        PoisonBuff buff = activeBuffs.get(playerId);
-        if (buff != null && buff.isActive()) {
-            return buff.stonePenalty;
-        }
-        return 1.0;
+        EnchantSession session = plugin.getProcEngine().findSession(playerId);
+        return session != null ? session.getPoisonStoneMultiplier(System.currentTimeMillis()) : 1.0;
     }
 
     public boolean hasActiveBuff(UUID playerId) {
-        PoisonBuff buff = activeBuffs.get(playerId);
-        return buff != null && buff.isActive();
-    }
-
-    private static class PoisonBuff {
-        final long expiresAt;
-        final double oreBonus;
-        final double stonePenalty;
-
-        PoisonBuff(long expiresAt, double oreBonus, double stonePenalty) {
-            this.expiresAt = expiresAt;
-            this.oreBonus = oreBonus;
-            this.stonePenalty = stonePenalty;
-        }
-
-        boolean isActive() {
-            return System.currentTimeMillis() < expiresAt;
-        }
+        EnchantSession session = plugin.getProcEngine().findSession(playerId);
+        return session != null && session.hasPoisonBuff(System.currentTimeMillis());
     }
 }
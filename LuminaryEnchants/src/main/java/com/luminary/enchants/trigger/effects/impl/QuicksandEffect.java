@@ -2,8 +2,11 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
+import com.luminary.enchants.trigger.effects.MassBreak;
+import com.luminary.enchants.trigger.effects.ShapeKernel;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
@@ -11,7 +14,6 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
@@ -39,15 +41,19 @@ public class QuicksandEffect extends AbstractEnchantEffect {
         return "quicksand";
     }
 
+    /**
+     * Quicksand's area: radius 3, up to 10 blocks unless configured.
+     */
+    public static AreaParams params(EnchantDefinition definition, int maxBlocksPerProc) {
+        return AreaParams.of(definition, 3, 10, maxBlocksPerProc);
+    }
+
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int radius = definition.getParamInt("radius", 3);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 10),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
+        AreaParams area = params(definition, plugin.getConfigManager().getMaxBlocksPerProc());
+        int radius = area.radius();
         List<String> whitelist = definition.getParamStringList("blockWhitelist");
 
         // Build whitelist set
@@ -64,39 +70,26 @@ public class QuicksandEffect extends AbstractEnchantEffect {
         }
 
         // Find and break nearby loose blocks
-        List<Block> toBreak = new ArrayList<>();
-        for (int x = -radius; x <= radius && toBreak.size() < maxBlocks; x++) {
-            for (int y = -radius; y <= radius && toBreak.size() < maxBlocks; y++) {
-                for (int z = -radius; z <= radius && toBreak.size() < maxBlocks; z++) {
-                    Block nearby = block.getRelative(x, y, z);
-                    if (allowedBlocks.contains(nearby.getType())) {
-                        toBreak.add(nearby);
-                    }
-                }
+        MassBreak massBreak = newMassBreak(player, block, pickaxe, area.maxBlocks());
+        ShapeKernel kernel = area.kernel();
+        int cx = block.getX(), cy = block.getY(), cz = block.getZ();
+        for (int i = 0; i < kernel.size() && !massBreak.isFull(); i++) {
+            int x = cx + kernel.dx(i), y = cy + kernel.dy(i), z = cz + kernel.dz(i);
+            if (allowedBlocks.contains(massBreak.getType(x, y, z))) {
+                massBreak.add(x, y, z);
             }
         }
 
-        if (toBreak.isEmpty()) {
-            return;
-        }
-
-        int broken = 0;
-        for (Block b : toBreak) {
-            if (canBreak(player, b)) {
-                breakBlock(player, b, pickaxe, DropMode.INVENTORY, false);
-                broken++;
-            }
-        }
+        int broken = massBreak.execute(DropMode.INVENTORY).getBroken();
 
         if (broken > 0) {
             // Visual effect
-            player.getWorld().spawnParticle(Particle.FALLING_DUST,
+            session.getFeedback().particle(Particle.FALLING_DUST,
                     block.getLocation().add(0.5, 0.5, 0.5), 30, radius, radius, radius, 0,
                     Material.SAND.createBlockData());
-            player.playSound(block.getLocation(), Sound.BLOCK_SAND_BREAK, 0.7f, 0.8f);
+            session.getFeedback().sound(block.getLocation(), Sound.BLOCK_SAND_BREAK, 0.7f, 0.8f);
 
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&e\u2B07 Quicksand pulled in " + broken + " blocks!"));
+            session.getFeedback().actionBar("&e\u2B07 Quicksand pulled in " + broken + " blocks!");
         }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -36,26 +37,20 @@ public class RainbowEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        // Default weights
-        double tokenWeight = definition.getParamDouble("tokenWeight", 1.0);
-        double keyWeight = definition.getParamDouble("keyWeight", 1.0);
-        double dropWeight = definition.getParamDouble("dropWeight", 1.0);
-        double hasteWeight = definition.getParamDouble("hasteWeight", 1.0);
-
-        // Bonus amounts
-        long tokenBonus = definition.getParamLong("tokenBonus", 200) + (level * 5);
-        int keyBonus = definition.getParamInt("keyBonus", 1);
-        int hasteDuration = definition.getParamInt("hasteDuration", 100) + (level * 2);
+        Params params = Params.of(definition);
+        long tokenBonus = params.scaledTokenBonus(level);
+        int keyBonus = params.keyBonus();
+        int hasteDuration = params.scaledHasteDuration(level);
 
         // Select random bonus type
         WeightedRandom<BonusType> selector = new WeightedRandom<>();
-        selector.add(BonusType.TOKENS, tokenWeight);
-        selector.add(BonusType.KEYS, keyWeight);
-        selector.add(BonusType.DROPS, dropWeight);
-        selector.add(BonusType.HASTE, hasteWeight);
+        selector.add(BonusType.TOKENS, params.tokenWeight());
+        selector.add(BonusType.KEYS, params.keyWeight());
+        selector.add(BonusType.DROPS, params.dropWeight());
+        selector.add(BonusType.HASTE, params.hasteWeight());
 
         BonusType selected = selector.select();
         String message;
@@ -99,17 +94,55 @@ public class RainbowEffect extends AbstractEnchantEffect {
         // Rainbow particle effect
         for (int i = 0; i < RAINBOW_COLORS.length; i++) {
             Particle.DustOptions dust = new Particle.DustOptions(RAINBOW_COLORS[i], 1.0f);
-            player.getWorld().spawnParticle(Particle.REDSTONE,
+            session.getFeedback().particle(Particle.REDSTONE,
                     block.getLocation().add(0.5, 0.5 + (i * 0.2), 0.5),
                     3, 0.2, 0.1, 0.2, 0, dust);
         }
-        player.playSound(block.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.4f, 1.5f);
+        session.getFeedback().sound(block.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 0.4f, 1.5f);
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&c\u2728 &6R&ea&ai&bn&db&5o&dw&f: " + message));
+        session.getFeedback().actionBar("&c\u2728 &6R&ea&ai&bn&db&5o&dw&f: " + message);
     }
 
     private enum BonusType {
         TOKENS, KEYS, DROPS, HASTE
     }
+
+    /**
+     * Rainbow's params: the weight of each bonus type and the bonus amounts.
+     */
+    public record Params(double tokenWeight, double keyWeight, double dropWeight, double hasteWeight,
+                         long tokenBonus, int keyBonus, int hasteDuration) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamDouble("tokenWeight", 1.0),
+                    definition.getParamDouble("keyWeight", 1.0),
+                    definition.getParamDouble("dropWeight", 1.0),
+                    definition.getParamDouble("hasteWeight", 1.0),
+                    definition.getParamLong("tokenBonus", 200),
+                    definition.getParamInt("keyBonus", 1),
+                    definition.getParamInt("hasteDuration", 100));
+        }
+
+        /**
+         * Chance that a proc picks the token bonus.
+         */
+        public double tokenShare() {
+            double totalWeight = tokenWeight + keyWeight + dropWeight + hasteWeight;
+            return totalWeight > 0 ? tokenWeight / totalWeight : 0.0;
+        }
+
+        /**
+         * Tokens the token bonus pays at a level.
+         */
+        public long scaledTokenBonus(int level) {
+            return tokenBonus + (level * 5L);
+        }
+
+        /**
+         * Haste duration in ticks at a level.
+         */
+        public int scaledHasteDuration(int level) {
+            return hasteDuration + (level * 2);
+        }
+    }
 }
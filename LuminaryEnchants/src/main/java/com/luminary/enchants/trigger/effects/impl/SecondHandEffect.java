@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -9,8 +10,6 @@ import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.Map;
-
 /**
  * Second Hand: Chance to re-roll one random eligible enchant proc.
  * Never chains more than once per break.
@@ -27,7 +26,7 @@ public class SecondHandEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         // Don't trigger on secondary rolls (prevent infinite recursion)
@@ -35,25 +34,34 @@ public class SecondHandEffect extends AbstractEnchantEffect {
             return;
         }
 
-        double extraRollChanceBase = definition.getParamDouble("extraRollChanceBase", 0.5);
-        double extraRollChancePerLevel = definition.getParamDouble("extraRollChancePerLevel", 0.01);
-
-        double rollChance = extraRollChanceBase + (extraRollChancePerLevel * level);
-        rollChance = Math.min(rollChance, 1.0);
-
-        if (!WeightedRandom.roll(rollChance)) {
+        if (!WeightedRandom.roll(Params.of(definition).rollChance(level))) {
             return;
         }
 
-        // Get all enchants on the pickaxe
-        Map<String, Integer> enchants = plugin.getPickaxeDataManager().getEnchants(pickaxe);
-
         // Try secondary roll
-        boolean procced = plugin.getProcEngine().trySecondaryRoll(player, pickaxe, block, enchants);
+        boolean procced = plugin.getProcEngine().trySecondaryRoll(session, pickaxe, block,
+                plugin.getPickaxeDataManager().getProfile(pickaxe));
 
         if (procced) {
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&d\u270B Second Hand triggered a bonus proc!"));
+            session.getFeedback().actionBar("&d\u270B Second Hand triggered a bonus proc!");
+        }
+    }
+
+    /**
+     * Second Hand's params: the chance of an extra roll, as a base and a per-level increase.
+     */
+    public record Params(double extraRollChanceBase, double extraRollChancePerLevel) {
+
+        public static Params of(EnchantDefinition definition) {
+            return new Params(definition.getParamDouble("extraRollChanceBase", 0.5),
+                    definition.getParamDouble("extraRollChancePerLevel", 0.01));
+        }
+
+        /**
+         * Chance of an extra roll at a level, at most 100%.
+         */
+        public double rollChance(int level) {
+            return Math.min(extraRollChanceBase + (extraRollChancePerLevel * level), 1.0);
         }
     }
 }
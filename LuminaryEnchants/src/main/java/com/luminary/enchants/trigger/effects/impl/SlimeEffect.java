@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import com.luminary.enchants.util.WeightedRandom;
@@ -29,7 +30,7 @@ public class SlimeEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
         String extraDropItemStr = definition.getParamString("extraDropItem", "SLIME_BALL");
@@ -57,12 +58,11 @@ public class SlimeEffect extends AbstractEnchantEffect {
         addDropsToInventory(player, Collections.singletonList(drop));
 
         // Visual effect
-        player.getWorld().spawnParticle(Particle.SLIME,
+        session.getFeedback().particle(Particle.SLIME,
                 block.getLocation().add(0.5, 0.5, 0.5), 15, 0.3, 0.3, 0.3, 0.05);
-        player.playSound(block.getLocation(), Sound.ENTITY_SLIME_SQUISH, 0.5f, 1.2f);
+        session.getFeedback().sound(block.getLocation(), Sound.ENTITY_SLIME_SQUISH, 0.5f, 1.2f);
 
-        player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                .createDisplayComponent("&a\u2B24 Slime dropped " + quantity + "x " +
-                        dropMaterial.name().toLowerCase().replace("_", " ") + "!"));
+        session.getFeedback().actionBar("&a\u2B24 Slime dropped " + quantity + "x " +
+                dropMaterial.name().toLowerCase().replace("_", " ") + "!");
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Particle;
@@ -26,34 +27,44 @@ public class SonicEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int range = definition.getParamInt("range", 5);
-        int width = definition.getParamInt("width", 1);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 15),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
-
-        // Scale with level
-        int scaledRange = range + (level / 20);
+        Params params = Params.of(definition, plugin.getConfigManager().getMaxBlocksPerProc());
+        int scaledRange = params.scaledRange(level);
 
         // Get facing direction
-        Vector direction = getFacingAxis(player);
+        Vector direction = getLineDirection(player, definition);
 
         // Break blocks in line
-        int broken = breakBlocksLine(player, block, pickaxe, direction, scaledRange, maxBlocks,
+        int broken = breakBlocksLine(player, block, pickaxe, direction, scaledRange, params.maxBlocks(),
                 DropMode.INVENTORY, null);
 
         // Visual effect - sonic boom particles
-        player.getWorld().spawnParticle(Particle.SONIC_BOOM,
+        session.getFeedback().particle(Particle.SONIC_BOOM,
                 block.getLocation().add(0.5, 0.5, 0.5), 1, 0, 0, 0, 0);
-        player.playSound(block.getLocation(), Sound.ENTITY_WARDEN_SONIC_BOOM, 0.3f, 1.5f);
+        session.getFeedback().sound(block.getLocation(), Sound.ENTITY_WARDEN_SONIC_BOOM, 0.3f, 1.5f);
 
         if (broken > 0) {
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&9\u27A1 Sonic wave blasted " + broken + " blocks!"));
+            session.getFeedback().actionBar("&9\u27A1 Sonic wave blasted " + broken + " blocks!");
+        }
+    }
+
+    /**
+     * Sonic's params: wave {@code range} and {@code maxBlocks}.
+     */
+    public record Params(int range, int maxBlocks) {
+
+        public static Params of(EnchantDefinition definition, int maxBlocksPerProc) {
+            return new Params(definition.getParamInt("range", 5),
+                    Math.min(definition.getParamInt("maxBlocks", 15), maxBlocksPerProc));
+        }
+
+        /**
+         * Wave range at a level: one more block every 20 levels.
+         */
+        public int scaledRange(int level) {
+            return range + (level / 20);
         }
     }
 }
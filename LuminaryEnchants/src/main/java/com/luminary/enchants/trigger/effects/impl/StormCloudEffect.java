@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Particle;
@@ -24,29 +25,33 @@ public class StormCloudEffect extends AbstractEnchantEffect {
         return "storm_cloud";
     }
 
+    /**
+     * Storm Cloud's area: radius 1, up to 27 blocks unless configured.
+     */
+    public static AreaParams params(EnchantDefinition definition, int maxBlocksPerProc) {
+        return AreaParams.of(definition, 1, 27, maxBlocksPerProc);
+    }
+
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int radius = definition.getParamInt("radius", 1);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 27),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
+        AreaParams area = params(definition, plugin.getConfigManager().getMaxBlocksPerProc());
+        int radius = area.radius();
 
         // Visual effect - storm particles
-        player.getWorld().spawnParticle(Particle.CLOUD,
+        session.getFeedback().particle(Particle.CLOUD,
                 block.getLocation().add(0.5, 1.5, 0.5), 30, radius, 0.5, radius, 0.02);
-        player.getWorld().spawnParticle(Particle.FALLING_WATER,
+        session.getFeedback().particle(Particle.FALLING_WATER,
                 block.getLocation().add(0.5, 1, 0.5), 20, radius, 0.3, radius, 0);
-        player.playSound(block.getLocation(), Sound.WEATHER_RAIN, 0.5f, 0.8f);
+        session.getFeedback().sound(block.getLocation(), Sound.WEATHER_RAIN, 0.5f, 0.8f);
 
         // Break blocks in AOE
-        int broken = breakBlocksAOE(player, block, pickaxe, radius, maxBlocks, DropMode.INVENTORY);
+        int broken = breakBlocksShape(player, block, pickaxe, area.kernel(),
+                area.maxBlocks(), DropMode.INVENTORY);
 
         if (broken > 0) {
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&7\u2601 Storm Cloud washed away " + broken + " blocks!"));
+            session.getFeedback().actionBar("&7\u2601 Storm Cloud washed away " + broken + " blocks!");
         }
     }
 }
@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.Location;
@@ -25,30 +26,33 @@ public class ThorEffect extends AbstractEnchantEffect {
         return "thor";
     }
 
+    /**
+     * Thor's area: radius 2, up to 64 blocks unless configured.
+     */
+    public static AreaParams params(EnchantDefinition definition, int maxBlocksPerProc) {
+        return AreaParams.of(definition, 2, 64, maxBlocksPerProc);
+    }
+
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int radius = definition.getParamInt("radius", 2);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 64),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
+        AreaParams area = params(definition, plugin.getConfigManager().getMaxBlocksPerProc());
         String dropModeStr = definition.getParamString("dropMode", "INVENTORY");
         DropMode dropMode = DropMode.valueOf(dropModeStr.toUpperCase());
 
         // Visual effect - lightning strike
         Location loc = block.getLocation().add(0.5, 1, 0.5);
         player.getWorld().strikeLightningEffect(loc);
-        player.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, loc, 50, 1, 1, 1, 0.1);
-        player.playSound(loc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.5f, 1.2f);
+        session.getFeedback().particle(Particle.ELECTRIC_SPARK, loc, 50, 1, 1, 1, 0.1);
+        session.getFeedback().sound(loc, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.5f, 1.2f);
 
         // Break blocks in AOE
-        int broken = breakBlocksAOE(player, block, pickaxe, radius, maxBlocks, dropMode);
+        int broken = breakBlocksShape(player, block, pickaxe, area.kernel(),
+                area.maxBlocks(), dropMode);
 
         if (broken > 0) {
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&e\u26A1 Thor struck " + broken + " blocks!"));
+            session.getFeedback().actionBar("&e\u26A1 Thor struck " + broken + " blocks!");
         }
     }
 }
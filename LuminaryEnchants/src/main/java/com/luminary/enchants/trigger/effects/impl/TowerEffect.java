@@ -2,6 +2,7 @@ package com.luminary.enchants.trigger.effects.impl;
 
 import com.luminary.enchants.LuminaryEnchants;
 import com.luminary.enchants.pickaxe.EnchantDefinition;
+import com.luminary.enchants.trigger.EnchantSession;
 import com.luminary.enchants.trigger.ProcEngine;
 import com.luminary.enchants.trigger.effects.AbstractEnchantEffect;
 import org.bukkit.block.Block;
@@ -23,30 +24,41 @@ public class TowerEffect extends AbstractEnchantEffect {
     }
 
     @Override
-    public void execute(Player player, ItemStack pickaxe, Block block,
+    public void execute(EnchantSession session, Player player, ItemStack pickaxe, Block block,
                         EnchantDefinition definition, int level, ProcEngine.ProcContext context) {
 
-        int height = definition.getParamInt("height", 5);
-        int maxBlocks = Math.min(
-                definition.getParamInt("maxBlocks", 10),
-                plugin.getConfigManager().getMaxBlocksPerProc()
-        );
-        boolean requiresSneak = definition.getParamBoolean("requiresSneak", false);
+        Params params = Params.of(definition, plugin.getConfigManager().getMaxBlocksPerProc());
 
         // Check sneak requirement
-        if (requiresSneak && !player.isSneaking()) {
+        if (params.requiresSneak() && !player.isSneaking()) {
             return;
         }
 
-        // Scale height with level (optional)
-        int scaledHeight = height + (level / 10);
-
         // Break blocks upward
-        int broken = breakBlocksColumn(player, block, pickaxe, scaledHeight, maxBlocks, DropMode.INVENTORY);
+        int broken = breakBlocksColumn(player, block, pickaxe, params.scaledHeight(level), params.maxBlocks(),
+                DropMode.INVENTORY);
 
         if (broken > 0) {
-            player.sendActionBar(plugin.getPickaxeDataManager().getLoreRenderer()
-                    .createDisplayComponent("&f\u2B06 Tower mined " + broken + " blocks upward!"));
+            session.getFeedback().actionBar("&f\u2B06 Tower mined " + broken + " blocks upward!");
+        }
+    }
+
+    /**
+     * Tower's params: column {@code height}, {@code maxBlocks} and {@code requiresSneak}.
+     */
+    public record Params(int height, int maxBlocks, boolean requiresSneak) {
+
+        public static Params of(EnchantDefinition definition, int maxBlocksPerProc) {
+            return new Params(definition.getParamInt("height", 5),
+                    Math.min(definition.getParamInt("maxBlocks", 10), maxBlocksPerProc),
+                    definition.getParamBoolean("requiresSneak", false));
+        }
+
+        /**
+         * Column height at a level: one more block every 10 levels.
+         */
+        public int scaledHeight(int level) {
+            return height + (level / 10);
         }
     }
 }
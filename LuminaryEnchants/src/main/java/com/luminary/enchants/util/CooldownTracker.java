@@ -0,0 +1,105 @@
+package com.luminary.enchants.util;
+
+import java.util.Arrays;
+
+/**
+ * Tracks enchant cooldowns and proc rate limits for one player.
+ * <p>
+ * State is kept in arrays indexed by enchant ordinal (see
+ * {@code PickEnchantRegistry#getOrdinal}), so checks never box or allocate.
+ * Callers pass the current time in. Rate limits are token buckets holding up
+ * to {@code maxProcsPerSecond} procs and refilling at the same rate per second.
+ */
+public final class CooldownTracker {
+
+    private static final long NEVER = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] lastProc = newTimestamps(INITIAL_CAPACITY);
+    private double[] tokens = new double[INITIAL_CAPACITY];
+    private long[] tokensUpdated = newTimestamps(INITIAL_CAPACITY); // NEVER = bucket never used
+
+    /**
+     * Check if an enchant is on cooldown.
+     */
+    public boolean isOnCooldown(int ordinal, long cooldownMs, long now) {
+        return getRemainingCooldown(ordinal, cooldownMs, now) > 0;
+    }
+
+    /**
+     * Get the remaining cooldown time in milliseconds.
+     */
+    public long getRemainingCooldown(int ordinal, long cooldownMs, long now) {
+        if (cooldownMs <= 0 || ordinal < 0 || ordinal >= lastProc.length) return 0;
+
+        long last = lastProc[ordinal];
+        if (last == NEVER) return 0;
+
+        return Math.max(0, cooldownMs - (now - last));
+    }
+
+    /**
+     * Check if the enchant has used up its procs for now. Refills the bucket up to {@code now}.
+     */
+    public boolean hasExceededProcLimit(int ordinal, int maxProcsPerSecond, long now) {
+        if (maxProcsPerSecond <= 0 || ordinal < 0 || ordinal >= tokens.length) return false;
+
+        return refill(ordinal, maxProcsPerSecond, now) < 1.0;
+    }
+
+    /**
+     * Record a proc for cooldown tracking and rate limiting.
+     */
+    public void recordProc(int ordinal, int maxProcsPerSecond, long now) {
+        if (ordinal < 0) return;
+        ensureCapacity(ordinal);
+
+        lastProc[ordinal] = now;
+        if (maxProcsPerSecond > 0) {
+            tokens[ordinal] = Math.max(0.0, refill(ordinal, maxProcsPerSecond, now) - 1.0);
+        }
+    }
+
+    /**
+     * Move the last proc time back, reducing the remaining cooldown.
+     */
+    public void reduceCooldown(int ordinal, long reductionMs) {
+        if (ordinal < 0 || ordinal >= lastProc.length || lastProc[ordinal] == NEVER) return;
+
+        lastProc[ordinal] -= reductionMs;
+    }
+
+    private double refill(int ordinal, int maxProcsPerSecond, long now) {
+        long updated = tokensUpdated[ordinal];
+        double available;
+        if (updated == NEVER) {
+            available = maxProcsPerSecond; // first use starts with a full bucket
+        } else {
+            available = Math.min(maxProcsPerSecond,
+                    tokens[ordinal] + (now - updated) * maxProcsPerSecond / 1000.0);
+        }
+
+        tokens[ordinal] = available;
+        tokensUpdated[ordinal] = now;
+        return available;
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal < lastProc.length) return;
+
+        // Only happens when enchants are added on reload
+        int size = Math.max(ordinal + 1, lastProc.length * 2);
+        int oldSize = lastProc.length;
+        lastProc = Arrays.copyOf(lastProc, size);
+        Arrays.fill(lastProc, oldSize, size, NEVER);
+        tokens = Arrays.copyOf(tokens, size);
+        tokensUpdated = Arrays.copyOf(tokensUpdated, size);
+        Arrays.fill(tokensUpdated, oldSize, size, NEVER);
+    }
+
+    private static long[] newTimestamps(int size) {
+        long[] array = new long[size];
+        Arrays.fill(array, NEVER);
+        return array;
+    }
+}
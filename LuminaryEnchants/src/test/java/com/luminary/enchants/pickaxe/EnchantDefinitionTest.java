@@ -0,0 +1,94 @@
+package com.luminary.enchants.pickaxe;
+
+import org.junit.jupiter.api.Test;
+
+import static com.luminary.enchants.pickaxe.EnchantFixtures.loopCost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the closed-form upgrade pricing against the old per-level sum.
+ */
+class EnchantDefinitionTest {
+
+    @Test
+    void linearCostMatchesPerLevelSum() {
+        EnchantDefinition definition = definition(1000, 150, 1.0);
+        for (int current : new int[]{0, 1, 50, 9_999}) {
+            for (int levels : new int[]{1, 2, 3, 100, 10_001}) {
+                assertEquals(loopCost(definition, current, levels), definition.calculateUpgradeCost(current, levels),
+                        "from " + current + " by " + levels);
+            }
+        }
+    }
+
+    @Test
+    void growingExponentialCostIsWithinOneTokenPerLevel() {
+        assertExponentialClose(definition(1000, 0, 1.01), 50, 1_000);
+        assertExponentialClose(definition(250, 0, 1.15), 10, 200);
+    }
+
+    @Test
+    void shrinkingExponentialCostIsWithinOneTokenPerLevel() {
+        assertExponentialClose(definition(1_000_000, 0, 0.99), 0, 500);
+        assertExponentialClose(definition(5000, 0, 0.5), 3, 40);
+    }
+
+    @Test
+    void costSaturatesInsteadOfOverflowing() {
+        assertEquals(Long.MAX_VALUE, definition(1000, 0, 2.0).calculateUpgradeCost(0, 100));
+        assertEquals(Long.MAX_VALUE, definition(Long.MAX_VALUE / 2, 0, 1.0).calculateUpgradeCost(0, 3));
+        assertEquals(Long.MAX_VALUE, definition(0, Long.MAX_VALUE / 4, 1.0).calculateUpgradeCost(1_000_000, 10));
+    }
+
+    @Test
+    void zeroBaseExponentialCostIsFree() {
+        EnchantDefinition definition = definition(0, 0, 2.0);
+        assertEquals(0, definition.calculateUpgradeCost(0, 10));
+        assertEquals(0, definition.calculateUpgradeCost(5_000, 5_000));
+    }
+
+    @Test
+    void nothingIsAffordableWithNoBalance() {
+        assertEquals(0, definition(1000, 150, 1.0).calculateAffordableLevels(10, 100, 0));
+        assertEquals(0, definition(1000, 0, 1.05).calculateAffordableLevels(10, 100, 0));
+    }
+
+    @Test
+    void exactBalanceAffordsExactlyThoseLevels() {
+        for (EnchantDefinition definition : new EnchantDefinition[]{
+                definition(1000, 150, 1.0), definition(1000, 0, 1.05), definition(1000, 0, 0.9)}) {
+            for (int levels : new int[]{1, 7, 20}) {
+                long cost = definition.calculateUpgradeCost(20, levels);
+                assertEquals(levels, definition.calculateAffordableLevels(20, 100, cost));
+                assertEquals(levels - 1, definition.calculateAffordableLevels(20, 100, cost - 1));
+            }
+        }
+    }
+
+    @Test
+    void maxBalanceStopsAtSaturation() {
+        assertEquals(100_000, definition(1000, 150, 1.0).calculateAffordableLevels(0, 100_000, Long.MAX_VALUE));
+
+        // 1000 * (2^n - 1) first passes Long.MAX_VALUE at n = 54
+        EnchantDefinition doubling = definition(1000, 0, 2.0);
+        int levels = doubling.calculateAffordableLevels(0, 1_000, Long.MAX_VALUE);
+        assertEquals(53, levels);
+        assertTrue(doubling.calculateUpgradeCost(0, levels) < Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, doubling.calculateUpgradeCost(0, levels + 1));
+    }
+
+    private static void assertExponentialClose(EnchantDefinition definition, int current, int maxLevels) {
+        for (int levels = 1; levels <= maxLevels; levels++) {
+            long expected = loopCost(definition, current, levels);
+            long actual = definition.calculateUpgradeCost(current, levels);
+            // The loop truncates every level, the closed form only the total
+            assertTrue(Math.abs(actual - expected) <= levels,
+                    "from " + current + " by " + levels + ": " + actual + " vs " + expected);
+        }
+    }
+
+    private static EnchantDefinition definition(long base, long perLevel, double exponentialFactor) {
+        return EnchantFixtures.definition("test", base, perLevel, exponentialFactor);
+    }
+}
@@ -0,0 +1,90 @@
+package com.luminary.enchants.trigger.effects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that kernels hold every cell of their shape once, nearest first,
+ * and stay centered when cut short.
+ */
+class ShapeKernelTest {
+
+    @Test
+    void kernelHoldsEveryCellOnceExceptTheCenter() {
+        for (ShapeKernel.Shape shape : ShapeKernel.Shape.values()) {
+            for (int r = 0; r <= 6; r++) {
+                ShapeKernel kernel = ShapeKernel.of(shape, r);
+                Set<Long> seen = new HashSet<>();
+                for (int i = 0; i < kernel.size(); i++) {
+                    int dx = kernel.dx(i), dy = kernel.dy(i), dz = kernel.dz(i);
+                    assertFalse(dx == 0 && dy == 0 && dz == 0, shape + " r=" + r + " includes the center");
+                    assertTrue(Math.abs(dx) <= r && Math.abs(dy) <= r && Math.abs(dz) <= r);
+                    assertTrue(seen.add(((long) dx << 40) ^ ((long) dy << 20) ^ dz), shape + " r=" + r + " repeats a cell");
+                }
+                assertEquals(countCells(shape, r), kernel.size(), shape + " r=" + r);
+            }
+        }
+    }
+
+    @Test
+    void cellsComeNearestFirst() {
+        for (ShapeKernel.Shape shape : ShapeKernel.Shape.values()) {
+            ShapeKernel kernel = ShapeKernel.of(shape, 5);
+            int last = 0;
+            for (int i = 0; i < kernel.size(); i++) {
+                int distance = kernel.dx(i) * kernel.dx(i) + kernel.dy(i) * kernel.dy(i) + kernel.dz(i) * kernel.dz(i);
+                assertTrue(distance >= last, shape + " cell " + i + " is nearer than the one before");
+                last = distance;
+            }
+        }
+    }
+
+    @Test
+    void truncatedKernelStaysCentered() {
+        // Any prefix, e.g. cut at maxBlocks in the middle of a shell, is off by at most one cell per axis
+        for (ShapeKernel.Shape shape : ShapeKernel.Shape.values()) {
+            for (int r = 1; r <= 6; r++) {
+                ShapeKernel kernel = ShapeKernel.of(shape, r);
+                long sumX = 0, sumY = 0, sumZ = 0;
+                for (int i = 0; i < kernel.size(); i++) {
+                    sumX += kernel.dx(i);
+                    sumY += kernel.dy(i);
+                    sumZ += kernel.dz(i);
+                    assertTrue(Math.abs(sumX) <= r && Math.abs(sumY) <= r && Math.abs(sumZ) <= r,
+                            shape + " r=" + r + " leans (" + sumX + ", " + sumY + ", " + sumZ + ") after " + (i + 1) + " cells");
+                    if (i % 2 == 1) {
+                        // Mirror pairs cancel out
+                        assertTrue(sumX == 0 && sumY == 0 && sumZ == 0,
+                                shape + " r=" + r + " is off balance after " + (i + 1) + " cells");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void shapeNamesParseInAnyCase() {
+        assertEquals(ShapeKernel.Shape.SPHERE, ShapeKernel.Shape.fromString("sphere", ShapeKernel.Shape.CUBE));
+        assertEquals(ShapeKernel.Shape.DISC, ShapeKernel.Shape.fromString("Disc", ShapeKernel.Shape.CUBE));
+        assertEquals(ShapeKernel.Shape.CUBE, ShapeKernel.Shape.fromString("blob", ShapeKernel.Shape.CUBE));
+        assertEquals(ShapeKernel.Shape.CUBE, ShapeKernel.Shape.fromString(null, ShapeKernel.Shape.CUBE));
+    }
+
+    private static int countCells(ShapeKernel.Shape shape, int r) {
+        int count = 0;
+        for (int dx = -r; dx <= r; dx++) {
+            for (int dy = -r; dy <= r; dy++) {
+                for (int dz = -r; dz <= r; dz++) {
+                    if ((dx | dy | dz) != 0 && shape.contains(dx, dy, dz, r)) count++;
+                }
+            }
+        }
+        return count;
+    }
+}
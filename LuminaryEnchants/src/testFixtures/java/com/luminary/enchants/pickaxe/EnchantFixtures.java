@@ -0,0 +1,66 @@
+package com.luminary.enchants.pickaxe;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enchant definitions shared by the tests and the benchmarks, so both measure
+ * and check the same configuration.
+ */
+public final class EnchantFixtures {
+
+    private EnchantFixtures() {
+    }
+
+    /**
+     * Build {@code count} BLOCK_BREAK enchants named enchant_0, enchant_1, ...
+     * with a small proc chance, no cooldown and linear upgrade pricing.
+     */
+    public static List<EnchantDefinition> definitions(int count) {
+        List<EnchantDefinition> definitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            definitions.add(definition("enchant_" + i, 1000, 150, 1.0));
+        }
+        return definitions;
+    }
+
+    /**
+     * A BLOCK_BREAK enchant with the given upgrade pricing, up to level 1,000,000.
+     */
+    public static EnchantDefinition definition(String id, long costBase, long costPerLevel, double exponentialFactor) {
+        ConfigurationSection section = new MemoryConfiguration().createSection(id);
+        section.set("trigger", "BLOCK_BREAK");
+        section.set("maxLevel", 1_000_000);
+        section.set("cooldownMs", 0);
+        section.set("chance.base", 0.01);
+        section.set("chance.perLevel", 0.001);
+        section.set("chance.cap", 0.5);
+        section.set("upgrade.cost.base", costBase);
+        section.set("upgrade.cost.perLevel", costPerLevel);
+        section.set("upgrade.cost.exponentialFactor", exponentialFactor);
+        return new EnchantDefinition(section);
+    }
+
+    /**
+     * The per-level sum calculateUpgradeCost used before the closed form.
+     */
+    public static long loopCost(EnchantDefinition definition, int currentLevel, int levelsToAdd) {
+        long base = definition.getUpgradeCostBase();
+        long perLevel = definition.getUpgradeCostPerLevel();
+        double factor = definition.getUpgradeCostExponentialFactor();
+
+        long totalCost = 0;
+        for (int i = 1; i <= levelsToAdd; i++) {
+            int targetLevel = currentLevel + i;
+            if (factor != 1.0) {
+                totalCost += (long) (base * Math.pow(factor, targetLevel - 1));
+            } else {
+                totalCost += base + (perLevel * (targetLevel - 1));
+            }
+        }
+        return totalCost;
+    }
+}
@@ -70,9 +70,14 @@ public class LuminaryMines extends JavaPlugin {
 
     @Override
     public void onDisable() {
-        // Stop reset task
+        // Finish mines still being pasted first; their callbacks queue the initial fill
+        if (schematicManager != null) {
+            schematicManager.shutdown();
+        }
+
+        // Stop reset task, filling whatever is still queued
         if (resetTask != null) {
-            resetTask.stop();
+            resetTask.shutdown();
         }
 
         // Save all mines
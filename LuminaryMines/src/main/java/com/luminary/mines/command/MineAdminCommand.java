@@ -2,7 +2,11 @@ package com.luminary.mines.command;
 
 import com.luminary.mines.LuminaryMines;
 import com.luminary.mines.mine.Mine;
+import com.luminary.mines.mine.MineFillJob;
+import com.luminary.mines.mine.MineResetQueue;
 import com.luminary.mines.schematic.MineSchematic;
+import com.luminary.mines.schematic.SchematicPasteJob;
+import com.luminary.mines.schematic.SchematicPasteQueue;
 import com.luminary.mines.util.TextUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
@@ -45,6 +49,8 @@ public class MineAdminCommand implements CommandExecutor, TabCompleter {
             case "delete" -> handleDelete(sender, args);
             case "reset" -> handleReset(sender, args);
             case "resetall" -> handleResetAll(sender);
+            case "recount" -> handleRecount(sender, args);
+            case "queue" -> handleQueue(sender);
             case "tp", "teleport" -> handleTeleport(sender, args);
             case "list" -> handleList(sender, args);
             case "info" -> handleInfo(sender, args);
@@ -68,6 +74,8 @@ public class MineAdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(TextUtil.colorize("&e/mineadmin delete <player> &7- Delete a player's mine"));
         sender.sendMessage(TextUtil.colorize("&e/mineadmin reset <player> &7- Reset a player's mine"));
         sender.sendMessage(TextUtil.colorize("&e/mineadmin resetall &7- Reset all mines"));
+        sender.sendMessage(TextUtil.colorize("&e/mineadmin recount <player> &7- Recount mined blocks from the world"));
+        sender.sendMessage(TextUtil.colorize("&e/mineadmin queue &7- View the reset and paste queues"));
         sender.sendMessage(TextUtil.colorize("&e/mineadmin tp <player> &7- Teleport to a player's mine"));
         sender.sendMessage(TextUtil.colorize("&e/mineadmin list [page] &7- List all mines"));
         sender.sendMessage(TextUtil.colorize("&e/mineadmin info <player> &7- View mine info"));
@@ -117,19 +125,26 @@ public class MineAdminCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        boolean pasted = plugin.getSchematicManager().pasteSchematic(mine, schematic);
-        if (!pasted) {
-            sender.sendMessage(TextUtil.colorize("&cFailed to paste schematic!"));
-            plugin.getMineManager().deleteMine(target.getUniqueId());
-            return;
-        }
+        boolean started = plugin.getSchematicManager().pasteSchematic(mine, schematic, pasted -> {
+            if (!pasted) {
+                sender.sendMessage(TextUtil.colorize("&cFailed to paste schematic!"));
+                plugin.getMineManager().deleteMine(target.getUniqueId());
+                return;
+            }
 
-        plugin.getResetTask().forceReset(mine);
+            plugin.getResetTask().forceReset(mine);
+
+            sender.sendMessage(TextUtil.colorize("&aCreated mine for " + playerName + "!"));
 
-        sender.sendMessage(TextUtil.colorize("&aCreated mine for " + playerName + "!"));
+            Player online = target.getPlayer();
+            if (online != null) {
+                online.sendMessage(TextUtil.colorize("&aAn admin has created a private mine for you!"));
+            }
+        });
 
-        if (target.isOnline()) {
-            ((Player) target).sendMessage(TextUtil.colorize("&aAn admin has created a private mine for you!"));
+        if (!started) {
+            sender.sendMessage(TextUtil.colorize("&cFailed to paste schematic!"));
+            plugin.getMineManager().deleteMine(target.getUniqueId());
         }
     }
 
@@ -166,7 +181,7 @@ public class MineAdminCommand implements CommandExecutor, TabCompleter {
         }
 
         plugin.getResetTask().forceReset(mine);
-        sender.sendMessage(TextUtil.colorize("&aReset mine for " + args[1] + "!"));
+        sender.sendMessage(TextUtil.colorize("&aQueued reset for " + args[1] + "'s mine!"));
     }
 
     private void handleResetAll(CommandSender sender) {
@@ -178,7 +193,70 @@ public class MineAdminCommand implements CommandExecutor, TabCompleter {
             count++;
         }
 
-        sender.sendMessage(TextUtil.colorize("&aReset " + count + " mines!"));
+        sender.sendMessage(TextUtil.colorize("&aQueued " + count + " mines for reset!"));
+    }
+
+    private void handleQueue(CommandSender sender) {
+        MineResetQueue queue = plugin.getResetTask().getResetQueue();
+        MineFillJob current = queue.getCurrentJob();
+
+        sender.sendMessage(TextUtil.colorize("&6&l━━━━━ Reset Queue ━━━━━"));
+        sender.sendMessage(TextUtil.colorize("&eQueued: &f" + queue.getQueueDepth() +
+                " &7(" + queue.getOccupiedCount() + " occupied, " + queue.getIdleCount() + " empty)"));
+        if (current != null) {
+            sender.sendMessage(TextUtil.colorize("&eFilling: &f" + current.getMine().getOwnerName() +
+                    " &7(" + (current.isDelta() ? "delta, " : "full, ") +
+                    TextUtil.formatPercentage(current.getProgress() * 100) + " of " +
+                    current.getTotalBlocks() + " blocks)"));
+        }
+        long stale = plugin.getMineManager().getAllMines().stream().filter(Mine::isStale).count();
+        sender.sendMessage(TextUtil.colorize("&eStale (reset on entry): &f" + stale));
+        sender.sendMessage(TextUtil.colorize("&eOldest wait: &f" + queue.getOldestWaitMs() + "ms"));
+        sender.sendMessage(TextUtil.colorize("&eLast wait: &f" + queue.getLastWaitMs() + "ms &7(max " + queue.getMaxWaitMs() + "ms)"));
+        sender.sendMessage(TextUtil.colorize("&eTick usage: &f" + String.format("%.2f", queue.getLastTickMs()) +
+                "ms &7/ " + plugin.getConfigManager().getResetTickBudgetMs() + "ms budget"));
+        sender.sendMessage(TextUtil.colorize("&eCompleted: &f" + queue.getCompletedResets()));
+
+        SchematicPasteQueue pastes = plugin.getSchematicManager().getPasteQueue();
+        sender.sendMessage(TextUtil.colorize("&6&lMine Creation:"));
+        sender.sendMessage(TextUtil.colorize("&ePending pastes: &f" + pastes.getPendingCount()));
+        SchematicPasteJob paste = pastes.getCurrentJob();
+        if (paste != null) {
+            sender.sendMessage(TextUtil.colorize("&ePasting: &f" + paste.getMine().getOwnerName() +
+                    " &7(" + TextUtil.formatPercentage(paste.getProgress() * 100) + ")"));
+        }
+        sender.sendMessage(TextUtil.colorize("&eLast creation: &f" + String.format("%.1f", pastes.getLastCreationMs()) +
+                "ms &7(" + String.format("%.1f", pastes.getLastChunkWaitMs()) + "ms chunk load, " +
+                String.format("%.1f", pastes.getLastPasteMs()) + "ms pasting)"));
+        sender.sendMessage(TextUtil.colorize("&eLongest paste slice: &f" + String.format("%.2f", pastes.getMaxSliceMs()) +
+                "ms &7/ " + plugin.getConfigManager().getPasteTickBudgetMs() + "ms budget"));
+        sender.sendMessage(TextUtil.colorize("&eCompleted: &f" + pastes.getCompletedPastes()));
+        sender.sendMessage(TextUtil.colorize("&6&l━━━━━━━━━━━━━━━━━━━━━━━━━━━"));
+    }
+
+    private void handleRecount(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(TextUtil.colorize("&cUsage: /mineadmin recount <player>"));
+            return;
+        }
+
+        OfflinePlayer target = Bukkit.getOfflinePlayer(args[1]);
+        Mine mine = plugin.getMineManager().getMine(target.getUniqueId());
+
+        if (mine == null) {
+            sender.sendMessage(TextUtil.colorize("&cPlayer doesn't have a mine!"));
+            return;
+        }
+
+        double minedPercent = plugin.getResetTask().recountBlocks(mine);
+        if (minedPercent < 0) {
+            sender.sendMessage(TextUtil.colorize("&cCould not find mine location!"));
+            return;
+        }
+
+        sender.sendMessage(TextUtil.colorize("&aRecounted " + args[1] + "'s mine: &f" +
+                mine.getRemainingBlocks() + "/" + mine.getTotalBlocks() + " &ablocks remaining (" +
+                TextUtil.formatPercentage(minedPercent) + " mined)"));
     }
 
     private void handleTeleport(CommandSender sender, String[] args) {
@@ -474,12 +552,12 @@ public class MineAdminCommand implements CommandExecutor, TabCompleter {
         }
 
         if (args.length == 1) {
-            completions.addAll(Arrays.asList("help", "create", "delete", "reset", "resetall",
+            completions.addAll(Arrays.asList("help", "create", "delete", "reset", "resetall", "recount", "queue",
                     "tp", "list", "info", "settier", "schematics", "reload",
                     "paste", "setregion", "clearregion", "setspawn", "clearspawn"));
         } else if (args.length == 2) {
             String sub = args[0].toLowerCase();
-            if (sub.equals("create") || sub.equals("delete") || sub.equals("reset") ||
+            if (sub.equals("create") || sub.equals("delete") || sub.equals("reset") || sub.equals("recount") ||
                     sub.equals("tp") || sub.equals("info") || sub.equals("settier")) {
                 // Add all players with mines
                 for (Mine mine : plugin.getMineManager().getAllMines()) {
@@ -120,24 +120,34 @@ public class MineCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        // Paste the schematic
-        boolean pasted = plugin.getSchematicManager().pasteSchematic(mine, schematic);
-        if (!pasted) {
-            player.sendMessage(TextUtil.colorize("&cFailed to generate mine structure!"));
-            plugin.getMineManager().deleteMine(player.getUniqueId());
-            return;
-        }
+        // Paste the schematic, then fill and teleport once it is done
+        boolean started = plugin.getSchematicManager().pasteSchematic(mine, schematic, pasted -> {
+            if (!pasted) {
+                player.sendMessage(TextUtil.colorize("&cFailed to generate mine structure!"));
+                plugin.getMineManager().deleteMine(player.getUniqueId());
+                return;
+            }
 
-        // Fill the mine with blocks
-        plugin.getResetTask().forceReset(mine);
+            // Fill the mine with blocks
+            plugin.getResetTask().forceReset(mine);
 
-        player.sendMessage(TextUtil.colorize(plugin.getConfigManager().getMessage("mine.created")));
+            if (!player.isOnline()) {
+                return;
+            }
 
-        // Teleport player to their new mine
-        org.bukkit.Location spawn = mine.getSpawnLocation();
-        if (spawn != null && spawn.getWorld() != null) {
-            player.teleport(spawn);
-            player.sendMessage(TextUtil.colorize("&aYou have been teleported to your new mine!"));
+            player.sendMessage(TextUtil.colorize(plugin.getConfigManager().getMessage("mine.created")));
+
+            // Teleport player to their new mine
+            org.bukkit.Location spawn = mine.getSpawnLocation();
+            if (spawn != null && spawn.getWorld() != null) {
+                player.teleport(spawn);
+                player.sendMessage(TextUtil.colorize("&aYou have been teleported to your new mine!"));
+            }
+        });
+
+        if (!started) {
+            player.sendMessage(TextUtil.colorize("&cFailed to generate mine structure!"));
+            plugin.getMineManager().deleteMine(player.getUniqueId());
         }
     }
 
@@ -153,6 +153,22 @@ public class ConfigManager {
         return mainConfig.getInt("reset.reset-check-interval", 20);
     }
 
+    public double getResetTickBudgetMs() {
+        return mainConfig.getDouble("reset.tick-budget-ms", 10.0);
+    }
+
+    public boolean isLazyResetEnabled() {
+        return mainConfig.getBoolean("reset.lazy-idle-mines", true);
+    }
+
+    public boolean isDeltaResetEnabled() {
+        return mainConfig.getBoolean("reset.delta-resets", true);
+    }
+
+    public double getDeltaResetMaxPercent() {
+        return mainConfig.getDouble("reset.delta-max-mined-percent", 60.0);
+    }
+
     // Whitelist settings
     public int getMaxWhitelistSize() {
         return mainConfig.getInt("whitelist.max-size", 10);
@@ -175,6 +191,10 @@ public class ConfigManager {
         return mainConfig.getBoolean("schematics.allow-choice", true);
     }
 
+    public double getPasteTickBudgetMs() {
+        return mainConfig.getDouble("schematics.paste-tick-budget-ms", 5.0);
+    }
+
     public File getSchematicsFolderFile() {
         return new File(plugin.getDataFolder(), getSchematicsFolder());
     }
@@ -201,6 +221,10 @@ public class ConfigManager {
         return mainConfig.getString("storage.data-folder", "data");
     }
 
+    public int getSaveDelay() {
+        return mainConfig.getInt("storage.save-delay", 5);
+    }
+
     // Default blocks for tier
     public Map<String, Integer> getBlocksForTier(int tier) {
         String path = "tiers." + tier + ".blocks";
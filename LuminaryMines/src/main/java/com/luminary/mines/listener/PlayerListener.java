@@ -42,8 +42,10 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        // Track block break for reset percentage
-        plugin.getResetTask().trackBlockBreak(mine);
+        // Track block break for reset percentage (interior blocks only)
+        if (isInMineRegion(blockLoc, mine)) {
+            plugin.getResetTask().trackBlockBreak(mine, blockLoc.getBlockX(), blockLoc.getBlockY(), blockLoc.getBlockZ());
+        }
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -92,7 +94,11 @@ public class PlayerListener implements Listener {
             // Push player back
             event.setCancelled(true);
             player.sendMessage(plugin.getConfigManager().getMessage("mine.no-access"));
+            return;
         }
+
+        // Someone is inside now - run a deferred reset or fill a queued one first
+        plugin.getResetTask().onMineEntered(mine);
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
@@ -114,6 +120,19 @@ public class PlayerListener implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleported(PlayerTeleportEvent event) {
+        Location to = event.getTo();
+        if (to == null) return;
+
+        // Only once no other plugin can cancel the teleport any more. This is
+        // the one place teleports into a mine (including /mine tp) are counted.
+        Mine mine = plugin.getMineManager().getMineEnteredAt(to);
+        if (mine != null) {
+            plugin.getResetTask().onMineEntered(mine);
+        }
+    }
+
     /**
      * Check if a player has access to a mine.
      */
@@ -138,55 +157,18 @@ public class PlayerListener implements Listener {
      * Get the mine at a specific location.
      */
     private Mine getMineAtLocation(Location location) {
-        String worldName = location.getWorld() != null ? location.getWorld().getName() : null;
-        if (worldName == null) {
-            return null;
-        }
-
-        // Check all mines
-        for (Mine mine : plugin.getMineManager().getAllMines()) {
-            if (!worldName.equals(mine.getWorldName())) {
-                continue;
-            }
-
-            // Check if location is within mine bounds
-            if (isInMineBounds(location, mine)) {
-                return mine;
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Check if a location is within a mine's full bounds (including structure).
-     */
-    private boolean isInMineBounds(Location loc, Mine mine) {
-        int x = loc.getBlockX();
-        int y = loc.getBlockY();
-        int z = loc.getBlockZ();
-
-        return x >= mine.getMinX() && x <= mine.getMaxX() &&
-               y >= mine.getMinY() && y <= mine.getMaxY() &&
-               z >= mine.getMinZ() && z <= mine.getMaxZ();
+        return plugin.getMineManager().getMineAt(location);
     }
 
     /**
      * Check if a location is within the mineable region of a mine.
      */
     private boolean isInMineRegion(Location loc, Mine mine) {
-        // Get the mine region from schematic manager
-        var region = plugin.getSchematicManager().getMineRegion(mine);
+        var region = plugin.getMineManager().getMineRegion(mine);
         if (region == null) {
             return false;
         }
 
-        int x = loc.getBlockX();
-        int y = loc.getBlockY();
-        int z = loc.getBlockZ();
-
-        return x >= region.minX && x <= region.maxX &&
-               y >= region.minY && y <= region.maxY &&
-               z >= region.minZ && z <= region.maxZ;
+        return region.contains(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
     }
 }
@@ -0,0 +1,143 @@
+package com.luminary.mines.mine;
+
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples blocks from a mine's composition in constant time using
+ * Walker's alias method (Vose's construction). Weights are used exactly,
+ * so small weights such as a 0.5% ore are never rounded away.
+ */
+public class BlockSampler {
+
+    private final Material[] materials;
+    private final BlockData[] blockData;
+    private final double[] probability;
+    private final int[] alias;
+
+    private BlockSampler(Material[] materials, double[] weights) {
+        this.materials = materials;
+        this.blockData = new BlockData[materials.length];
+        for (int i = 0; i < materials.length; i++) {
+            blockData[i] = materials[i].createBlockData();
+        }
+        this.probability = new double[materials.length];
+        this.alias = new int[materials.length];
+        buildAliasTable(weights, probability, alias);
+    }
+
+    /**
+     * Compile a composition (material name to weight) into a sampler.
+     * Unknown or non-block materials are skipped; an empty result samples stone.
+     */
+    public static BlockSampler compile(Map<String, Integer> composition) {
+        List<Material> materials = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> entry : composition.entrySet()) {
+            Material material = Material.matchMaterial(entry.getKey());
+            if (material != null && material.isBlock() && entry.getValue() != null && entry.getValue() > 0) {
+                materials.add(material);
+                weights.add(entry.getValue().doubleValue());
+            }
+        }
+
+        if (materials.isEmpty()) {
+            materials.add(Material.STONE);
+            weights.add(1.0);
+        }
+
+        double[] weightArray = new double[weights.size()];
+        for (int i = 0; i < weightArray.length; i++) {
+            weightArray[i] = weights.get(i);
+        }
+        return new BlockSampler(materials.toArray(new Material[0]), weightArray);
+    }
+
+    /**
+     * Build the alias table for a set of positive weights.
+     */
+    static void buildAliasTable(double[] weights, double[] probability, int[] alias) {
+        int n = weights.length;
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        // Scale so the average bucket is exactly 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    /**
+     * Pick the index of the next outcome.
+     */
+    private int sampleIndex() {
+        // One draw: integer part picks the bucket, fraction picks bucket or alias
+        double u = ThreadLocalRandom.current().nextDouble() * probability.length;
+        int bucket = Math.min((int) u, probability.length - 1);
+        return (u - bucket) < probability[bucket] ? bucket : alias[bucket];
+    }
+
+    /**
+     * Sample the block data to place.
+     */
+    public BlockData sample() {
+        return blockData[sampleIndex()];
+    }
+
+    /**
+     * Sample a material.
+     */
+    public Material sampleMaterial() {
+        return materials[sampleIndex()];
+    }
+
+    public int size() {
+        return materials.length;
+    }
+}
@@ -34,9 +34,17 @@ public class Mine {
     private boolean autoReset = true;
     private final Set<UUID> whitelist = new HashSet<>();
     private final Map<String, Integer> blockComposition = new LinkedHashMap<>();
+    private BlockSampler blockSampler; // compiled lazily from blockComposition
+
+    // Block counters (interior region), maintained incrementally
+    private int totalBlocks;
+    private int remainingBlocks;
+    private MinedBlockMask minedMask; // mined positions since the last reset, null until one runs
 
     // State
     private boolean dirty = false;
+    private boolean countersDirty = false; // counters changed since the last save
+    private boolean stale = false; // reset is due but deferred until someone enters
 
     public Mine(UUID ownerId, String ownerName, String schematicName) {
         this.mineId = UUID.randomUUID();
@@ -94,6 +102,10 @@ public class Mine {
                 blockComposition.put(block.toUpperCase(), blocksSection.getInt(block));
             }
         }
+
+        // Load block counters
+        this.totalBlocks = section.getInt("counter.total", 0);
+        this.remainingBlocks = section.getInt("counter.remaining", totalBlocks);
     }
 
     public void save(ConfigurationSection section) {
@@ -140,7 +152,12 @@ public class Mine {
             section.set("blocks." + entry.getKey(), entry.getValue());
         }
 
+        // Save block counters
+        section.set("counter.total", totalBlocks);
+        section.set("counter.remaining", remainingBlocks);
+
         dirty = false;
+        countersDirty = false;
     }
 
     // Location methods
@@ -183,6 +200,13 @@ public class Mine {
         return new Location(world, spawnX, spawnY, spawnZ, spawnYaw, spawnPitch);
     }
 
+    /**
+     * Check whether a block position is this mine's spawn block.
+     */
+    public boolean isSpawnBlock(int x, int y, int z) {
+        return (int) Math.floor(spawnX) == x && (int) Math.floor(spawnY) == y && (int) Math.floor(spawnZ) == z;
+    }
+
     public Location getMinCorner() {
         World world = Bukkit.getWorld(worldName);
         if (world == null) return null;
@@ -232,9 +256,23 @@ public class Mine {
     public void setBlockComposition(Map<String, Integer> composition) {
         blockComposition.clear();
         blockComposition.putAll(composition);
+        blockSampler = null;
         dirty = true;
     }
 
+    /**
+     * Get the compiled sampler for this mine's composition.
+     * Built on first use and cached until the composition changes.
+     */
+    public BlockSampler getBlockSampler() {
+        BlockSampler sampler = blockSampler;
+        if (sampler == null) {
+            sampler = BlockSampler.compile(blockComposition);
+            blockSampler = sampler;
+        }
+        return sampler;
+    }
+
     public Map<String, Integer> getBlockComposition() {
         return Collections.unmodifiableMap(blockComposition);
     }
@@ -256,6 +294,66 @@ public class Mine {
         dirty = true;
     }
 
+    // Block counters
+    /**
+     * Set the counters after the interior has been completely filled.
+     * Blocks already marked in the mined mask (broken while the fill ran) stay counted.
+     */
+    public void resetBlockCounter(int totalBlocks) {
+        int mined = minedMask != null ? minedMask.getMinedCount() : 0;
+        setBlockCounter(totalBlocks, totalBlocks - mined);
+    }
+
+    /**
+     * Set the counters from an explicit count (e.g. an admin recount).
+     */
+    public void setBlockCounter(int totalBlocks, int remainingBlocks) {
+        this.totalBlocks = Math.max(0, totalBlocks);
+        this.remainingBlocks = Math.max(0, Math.min(remainingBlocks, this.totalBlocks));
+        countersDirty = true;
+    }
+
+    /**
+     * Record a block being mined from the interior.
+     * With a mined mask each position is only counted once.
+     */
+    public void recordBlockMined(int x, int y, int z) {
+        if (minedMask != null && !minedMask.mark(x, y, z)) {
+            return;
+        }
+        if (remainingBlocks > 0) {
+            remainingBlocks--;
+            countersDirty = true;
+        }
+    }
+
+    public MinedBlockMask getMinedMask() {
+        return minedMask;
+    }
+
+    public void setMinedMask(MinedBlockMask minedMask) {
+        this.minedMask = minedMask;
+    }
+
+    public int getTotalBlocks() {
+        return totalBlocks;
+    }
+
+    public int getRemainingBlocks() {
+        return remainingBlocks;
+    }
+
+    public int getMinedBlocks() {
+        return totalBlocks - remainingBlocks;
+    }
+
+    /**
+     * Get the percentage of the interior that has been mined.
+     */
+    public double getMinedPercentage() {
+        return totalBlocks > 0 ? (getMinedBlocks() * 100.0 / totalBlocks) : 0;
+    }
+
     // Getters and setters
     public UUID getMineId() {
         return mineId;
@@ -318,6 +416,14 @@ public class Mine {
         return lastReset;
     }
 
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void setStale(boolean stale) {
+        this.stale = stale;
+    }
+
     public boolean isDirty() {
         return dirty;
     }
@@ -326,6 +432,14 @@ public class Mine {
         this.dirty = dirty;
     }
 
+    /**
+     * Check if only the block counters changed since the last save.
+     * These are written on the slower auto-save interval.
+     */
+    public boolean hasCounterChanges() {
+        return countersDirty;
+    }
+
     public int getVolume() {
         return (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
     }
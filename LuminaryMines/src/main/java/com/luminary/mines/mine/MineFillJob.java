@@ -0,0 +1,278 @@
+package com.luminary.mines.mine;
+
+import com.luminary.mines.schematic.SchematicManager;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Fills a mine's interior one chunk section (16x16x16) at a time.
+ * The region is split into section-aligned boxes up front and every box is
+ * written through a single chunk handle with pre-built block data, so the
+ * per-block cost is just the state write. A job can be run in slices and
+ * resumes at the exact block it stopped on.
+ * <p>
+ * A delta job only refills the positions recorded in a {@link MinedBlockMask},
+ * so its cost scales with how much of the mine was actually mined.
+ */
+public class MineFillJob {
+
+    private static final int SECTION_SIZE = 16;
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+    private final Mine mine;
+    private final World world;
+    private final SchematicManager.MineRegion region;
+    private final BlockSampler sampler;
+
+    // Delta mode: positions to refill, decoded through the mask's layout
+    private final MinedBlockMask deltaLayout;
+    private final BitSet deltaPositions;
+    private final int deltaTotal;
+    private final Set<Long> deltaSections = new HashSet<>();
+    private long lastSectionKey = Long.MIN_VALUE;
+    private int deltaCursor;
+
+    // Section boxes, 6 ints each: minX, minY, minZ, maxX, maxY, maxZ
+    private final int[] sections;
+    private final int sectionCount;
+
+    // Progress
+    private int sectionIndex;
+    private int cursor;
+    private Chunk currentChunk;
+    private long blocksPlaced;
+    private int sectionsTouched;
+    private long nanosSpent;
+
+    private MineFillJob(Mine mine, World world, SchematicManager.MineRegion region, BlockSampler sampler,
+                        MinedBlockMask deltaLayout, BitSet deltaPositions) {
+        this.mine = mine;
+        this.world = world;
+        this.region = region;
+        this.sampler = sampler;
+        this.deltaLayout = deltaLayout;
+        this.deltaPositions = deltaPositions;
+        this.deltaTotal = deltaPositions != null ? deltaPositions.cardinality() : 0;
+        this.sections = deltaPositions != null ? new int[0] : splitSections(region);
+        this.sectionCount = sections.length / 6;
+    }
+
+    /**
+     * Create a job that fills the entire region.
+     */
+    public static MineFillJob full(Mine mine, World world, SchematicManager.MineRegion region, BlockSampler sampler) {
+        return new MineFillJob(mine, world, region, sampler, null, null);
+    }
+
+    /**
+     * Create a job that only refills the given mined positions.
+     */
+    public static MineFillJob delta(Mine mine, World world, SchematicManager.MineRegion region, BlockSampler sampler,
+                                    MinedBlockMask layout, BitSet minedPositions) {
+        return new MineFillJob(mine, world, region, sampler, layout, minedPositions);
+    }
+
+    /**
+     * Split a region into boxes that each lie within one chunk section.
+     * Sections of the same chunk are kept together so the chunk is only looked up once.
+     */
+    private static int[] splitSections(SchematicManager.MineRegion region) {
+        int minCX = region.minX >> 4, maxCX = region.maxX >> 4;
+        int minCZ = region.minZ >> 4, maxCZ = region.maxZ >> 4;
+        int minSY = region.minY >> 4, maxSY = region.maxY >> 4;
+
+        int count = (maxCX - minCX + 1) * (maxCZ - minCZ + 1) * (maxSY - minSY + 1);
+        int[] boxes = new int[Math.max(0, count) * 6];
+        int i = 0;
+
+        for (int cx = minCX; cx <= maxCX; cx++) {
+            for (int cz = minCZ; cz <= maxCZ; cz++) {
+                for (int sy = minSY; sy <= maxSY; sy++) {
+                    boxes[i++] = Math.max(region.minX, cx * SECTION_SIZE);
+                    boxes[i++] = Math.max(region.minY, sy * SECTION_SIZE);
+                    boxes[i++] = Math.max(region.minZ, cz * SECTION_SIZE);
+                    boxes[i++] = Math.min(region.maxX, cx * SECTION_SIZE + SECTION_SIZE - 1);
+                    boxes[i++] = Math.min(region.maxY, sy * SECTION_SIZE + SECTION_SIZE - 1);
+                    boxes[i++] = Math.min(region.maxZ, cz * SECTION_SIZE + SECTION_SIZE - 1);
+                }
+            }
+        }
+
+        return boxes;
+    }
+
+    /**
+     * Fill blocks until the job completes or the deadline passes.
+     *
+     * @param deadlineNanos System.nanoTime() value to stop at
+     * @return true if the whole region has been filled
+     */
+    public boolean run(long deadlineNanos) {
+        long start = System.nanoTime();
+
+        if (deltaPositions != null) {
+            runDelta(deadlineNanos);
+            nanosSpent += System.nanoTime() - start;
+            return isComplete();
+        }
+
+        while (sectionIndex < sectionCount) {
+            if (!fillSection(deadlineNanos)) {
+                break;
+            }
+            sectionIndex++;
+            cursor = 0;
+        }
+
+        nanosSpent += System.nanoTime() - start;
+        return isComplete();
+    }
+
+    /**
+     * Fill (the rest of) the current section.
+     *
+     * @return true if the section was finished, false if the deadline hit first
+     */
+    private boolean fillSection(long deadlineNanos) {
+        int base = sectionIndex * 6;
+        int minX = sections[base], minY = sections[base + 1], minZ = sections[base + 2];
+        int maxX = sections[base + 3], maxY = sections[base + 4], maxZ = sections[base + 5];
+
+        int sizeX = maxX - minX + 1;
+        int sizeZ = maxZ - minZ + 1;
+        int volume = sizeX * (maxY - minY + 1) * sizeZ;
+
+        loadChunk(minX >> 4, minZ >> 4);
+        if (cursor == 0) {
+            sectionsTouched++;
+        }
+
+        // x innermost to follow the section's storage order
+        while (cursor < volume) {
+            int x = minX + cursor % sizeX;
+            int z = minZ + (cursor / sizeX) % sizeZ;
+            int y = minY + cursor / (sizeX * sizeZ);
+
+            currentChunk.getBlock(x & 15, y, z & 15).setBlockData(sampler.sample(), false);
+            cursor++;
+            blocksPlaced++;
+
+            if (cursor % DEADLINE_CHECK_INTERVAL == 0 && cursor < volume && System.nanoTime() >= deadlineNanos) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Refill the recorded positions in index order until done or out of time.
+     */
+    private void runDelta(long deadlineNanos) {
+        int index = deltaPositions.nextSetBit(deltaCursor);
+        int sinceCheck = 0;
+
+        while (index >= 0) {
+            int x = deltaLayout.xOf(index);
+            int y = deltaLayout.yOf(index);
+            int z = deltaLayout.zOf(index);
+
+            long sectionKey = ((long) (x >> 4) << 40) ^ ((long) (z >> 4) << 16) ^ (y >> 4);
+            if (sectionKey != lastSectionKey) {
+                lastSectionKey = sectionKey;
+                if (deltaSections.add(sectionKey)) {
+                    sectionsTouched++;
+                }
+            }
+
+            loadChunk(x >> 4, z >> 4);
+            currentChunk.getBlock(x & 15, y, z & 15).setBlockData(sampler.sample(), false);
+            blocksPlaced++;
+
+            deltaCursor = index + 1;
+            index = deltaPositions.nextSetBit(deltaCursor);
+
+            if (++sinceCheck == DEADLINE_CHECK_INTERVAL) {
+                sinceCheck = 0;
+                if (index >= 0 && System.nanoTime() >= deadlineNanos) {
+                    return;
+                }
+            }
+        }
+
+        deltaCursor = -1;
+    }
+
+    /**
+     * Make the given chunk current, looking it up only when it changes.
+     */
+    private void loadChunk(int chunkX, int chunkZ) {
+        if (currentChunk == null || currentChunk.getX() != chunkX || currentChunk.getZ() != chunkZ) {
+            currentChunk = world.getChunkAt(chunkX, chunkZ);
+        }
+    }
+
+    public boolean isComplete() {
+        if (deltaPositions != null) {
+            return deltaCursor < 0;
+        }
+        return sectionIndex >= sectionCount;
+    }
+
+    public boolean isDelta() {
+        return deltaPositions != null;
+    }
+
+    public Mine getMine() {
+        return mine;
+    }
+
+    public SchematicManager.MineRegion getRegion() {
+        return region;
+    }
+
+    public long getBlocksPlaced() {
+        return blocksPlaced;
+    }
+
+    public int getSectionsTouched() {
+        return sectionsTouched;
+    }
+
+    public int getSectionCount() {
+        return sectionCount;
+    }
+
+    /**
+     * Get the number of blocks this job will place in total.
+     */
+    public int getTotalBlocks() {
+        return deltaPositions != null ? deltaTotal : region.getVolume();
+    }
+
+    public long getNanosSpent() {
+        return nanosSpent;
+    }
+
+    /**
+     * Get the fill rate in blocks per millisecond of main-thread time.
+     */
+    public double getBlocksPerMs() {
+        return nanosSpent > 0 ? blocksPlaced / (nanosSpent / 1_000_000.0) : 0;
+    }
+
+    /**
+     * Get the fraction of the region filled so far (0-1).
+     */
+    public double getProgress() {
+        if (deltaPositions != null) {
+            return deltaTotal > 0 ? Math.min(1.0, blocksPlaced / (double) deltaTotal) : 1.0;
+        }
+        int volume = region.getVolume();
+        return volume > 0 ? Math.min(1.0, blocksPlaced / (double) volume) : 1.0;
+    }
+}
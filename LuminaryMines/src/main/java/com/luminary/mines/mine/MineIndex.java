@@ -0,0 +1,178 @@
+package com.luminary.mines.mine;
+
+import com.luminary.mines.schematic.SchematicManager;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spatial index of mines keyed by world and grid cell.
+ * Each mine is registered in every cell its bounds overlap, so a lookup
+ * only has to check the few mines that share the location's cell.
+ */
+public class MineIndex {
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    private final int cellSize;
+    private final Map<String, Map<Long, Entry[]>> cellsByWorld = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry> entriesByMine = new ConcurrentHashMap<>();
+
+    public MineIndex(int cellSize) {
+        this.cellSize = Math.max(16, cellSize);
+    }
+
+    /**
+     * Add or re-index a mine with its interior region.
+     */
+    public void add(Mine mine, SchematicManager.MineRegion region) {
+        remove(mine);
+
+        if (mine.getWorldName() == null) {
+            return;
+        }
+
+        Entry entry = new Entry(mine, region);
+        entriesByMine.put(mine.getMineId(), entry);
+
+        Map<Long, Entry[]> cells = cellsByWorld.computeIfAbsent(mine.getWorldName(), k -> new ConcurrentHashMap<>());
+        for (int cellX = toCell(entry.minX); cellX <= toCell(entry.maxX); cellX++) {
+            for (int cellZ = toCell(entry.minZ); cellZ <= toCell(entry.maxZ); cellZ++) {
+                cells.compute(cellKey(cellX, cellZ), (key, existing) -> {
+                    if (existing == null) {
+                        return new Entry[]{entry};
+                    }
+                    Entry[] grown = Arrays.copyOf(existing, existing.length + 1);
+                    grown[existing.length] = entry;
+                    return grown;
+                });
+            }
+        }
+    }
+
+    /**
+     * Remove a mine from the index.
+     */
+    public void remove(Mine mine) {
+        Entry entry = entriesByMine.remove(mine.getMineId());
+        if (entry == null) {
+            return;
+        }
+
+        Map<Long, Entry[]> cells = cellsByWorld.get(entry.worldName);
+        if (cells == null) {
+            return;
+        }
+
+        for (int cellX = toCell(entry.minX); cellX <= toCell(entry.maxX); cellX++) {
+            for (int cellZ = toCell(entry.minZ); cellZ <= toCell(entry.maxZ); cellZ++) {
+                cells.computeIfPresent(cellKey(cellX, cellZ), (key, existing) -> {
+                    Entry[] kept = Arrays.stream(existing).filter(e -> e != entry).toArray(Entry[]::new);
+                    return kept.length == 0 ? null : kept;
+                });
+            }
+        }
+    }
+
+    /**
+     * Get the entry whose bounds contain a block position.
+     */
+    public Entry getEntryAt(String worldName, int x, int y, int z) {
+        Map<Long, Entry[]> cells = cellsByWorld.get(worldName);
+        if (cells == null) {
+            return null;
+        }
+
+        Entry[] candidates = cells.getOrDefault(cellKey(toCell(x), toCell(z)), EMPTY);
+        for (Entry entry : candidates) {
+            if (entry.isInBounds(x, y, z)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the entry whose mine spawn is at a block position. Only mines indexed
+     * in the same cell are checked, which covers spawns placed over the mine.
+     */
+    public Entry getEntryBySpawn(String worldName, int x, int y, int z) {
+        Map<Long, Entry[]> cells = cellsByWorld.get(worldName);
+        if (cells == null) {
+            return null;
+        }
+
+        Entry[] candidates = cells.getOrDefault(cellKey(toCell(x), toCell(z)), EMPTY);
+        for (Entry entry : candidates) {
+            if (entry.mine.isSpawnBlock(x, y, z)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the indexed entry for a mine.
+     */
+    public Entry getEntry(Mine mine) {
+        return entriesByMine.get(mine.getMineId());
+    }
+
+    public void clear() {
+        cellsByWorld.clear();
+        entriesByMine.clear();
+    }
+
+    public int size() {
+        return entriesByMine.size();
+    }
+
+    private int toCell(int coord) {
+        return Math.floorDiv(coord, cellSize);
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * A mine with a snapshot of its bounds and its cached interior region.
+     */
+    public static final class Entry {
+        private final Mine mine;
+        private final SchematicManager.MineRegion region;
+        private final String worldName;
+        private final int minX, minY, minZ;
+        private final int maxX, maxY, maxZ;
+
+        private Entry(Mine mine, SchematicManager.MineRegion region) {
+            this.mine = mine;
+            this.region = region;
+            this.worldName = mine.getWorldName();
+            this.minX = mine.getMinX();
+            this.minY = mine.getMinY();
+            this.minZ = mine.getMinZ();
+            this.maxX = mine.getMaxX();
+            this.maxY = mine.getMaxY();
+            this.maxZ = mine.getMaxZ();
+        }
+
+        public Mine getMine() {
+            return mine;
+        }
+
+        public SchematicManager.MineRegion getRegion() {
+            return region;
+        }
+
+        public boolean isInBounds(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        public boolean isInInterior(int x, int y, int z) {
+            return region.contains(x, y, z);
+        }
+    }
+}
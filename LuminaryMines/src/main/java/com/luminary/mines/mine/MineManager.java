@@ -1,6 +1,7 @@
 package com.luminary.mines.mine;
 
 import com.luminary.mines.LuminaryMines;
+import com.luminary.mines.schematic.SchematicManager;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
@@ -20,6 +21,8 @@ public class MineManager {
     private final LuminaryMines plugin;
     private final Map<UUID, Mine> minesByPlayer = new ConcurrentHashMap<>();
     private final Map<UUID, Mine> minesById = new ConcurrentHashMap<>();
+    private MineIndex mineIndex;
+    private MineStorage storage;
 
     // Grid position tracking for mine placement
     private int nextGridX = 0;
@@ -31,17 +34,55 @@ public class MineManager {
     }
 
     public void loadMines() {
+        if (storage != null) {
+            // Write pending changes before re-reading from disk
+            storage.shutdown(minesById.values());
+        }
+
         minesByPlayer.clear();
         minesById.clear();
+        mineIndex = new MineIndex(plugin.getConfigManager().getMineSpacing());
+        storage = new MineStorage(plugin);
+
+        long start = System.currentTimeMillis();
+        List<Mine> loaded = storage.loadAll();
+
+        int[] grid = storage.loadGrid();
+        if (grid != null) {
+            nextGridX = grid[0];
+            nextGridZ = grid[1];
+        }
+
+        if (loaded.isEmpty() && !storage.hasMineFiles()) {
+            loaded = loadLegacyMines();
+        }
 
+        for (Mine mine : loaded) {
+            minesByPlayer.put(mine.getOwnerId(), mine);
+            minesById.put(mine.getMineId(), mine);
+            indexMine(mine);
+        }
+
+        storage.start(minesById.values());
+
+        plugin.getLogger().info("Loaded " + minesById.size() + " private mines in " +
+                (System.currentTimeMillis() - start) + "ms.");
+    }
+
+    /**
+     * Import mines from the old single-file mines.yml, if present.
+     * Imported mines are marked dirty so they get written to their own files,
+     * and the old section is removed once it has been read.
+     */
+    private List<Mine> loadLegacyMines() {
+        List<Mine> loaded = new ArrayList<>();
         FileConfiguration config = plugin.getConfigManager().getMinesData();
         ConfigurationSection minesSection = config.getConfigurationSection("mines");
 
         if (minesSection == null) {
-            return;
+            return loaded;
         }
 
-        // Load grid position
         nextGridX = config.getInt("grid.next-x", 0);
         nextGridZ = config.getInt("grid.next-z", 0);
 
@@ -50,41 +91,44 @@ public class MineManager {
             if (section != null) {
                 try {
                     Mine mine = new Mine(section);
-                    minesByPlayer.put(mine.getOwnerId(), mine);
-                    minesById.put(mine.getMineId(), mine);
+                    mine.setDirty(true);
+                    loaded.add(mine);
                 } catch (Exception e) {
                     plugin.getLogger().warning("Failed to load mine '" + key + "': " + e.getMessage());
                 }
             }
         }
 
-        plugin.getLogger().info("Loaded " + minesById.size() + " private mines.");
+        // Write the new files right away, then drop the old data
+        storage.start(loaded);
+        storage.shutdown(loaded);
+        storage.saveGrid(nextGridX, nextGridZ);
+
+        if (storage.hasMineFiles() || loaded.isEmpty()) {
+            config.set("mines", null);
+            config.set("grid", null);
+            plugin.getConfigManager().saveMinesData();
+            plugin.getLogger().info("Migrated " + loaded.size() + " mines from mines.yml to " +
+                    storage.getMinesFolder().getPath());
+        }
+
+        return loaded;
     }
 
+    /**
+     * Write all pending mine changes and stop the storage writer (blocking).
+     */
     public void saveAll() {
-        FileConfiguration config = plugin.getConfigManager().getMinesData();
-
-        // Clear existing data
-        config.set("mines", null);
-
-        // Save grid position
-        config.set("grid.next-x", nextGridX);
-        config.set("grid.next-z", nextGridZ);
-
-        // Save all mines
-        for (Mine mine : minesById.values()) {
-            ConfigurationSection section = config.createSection("mines." + mine.getMineId().toString());
-            mine.save(section);
+        if (storage != null) {
+            storage.shutdown(minesById.values());
         }
-
-        plugin.getConfigManager().saveMinesData();
     }
 
+    /**
+     * Mark a mine for saving. The write happens on the next storage flush.
+     */
     public void saveMine(Mine mine) {
-        FileConfiguration config = plugin.getConfigManager().getMinesData();
-        ConfigurationSection section = config.createSection("mines." + mine.getMineId().toString());
-        mine.save(section);
-        plugin.getConfigManager().saveMinesData();
+        mine.setDirty(true);
     }
 
     /**
@@ -116,6 +160,7 @@ public class MineManager {
         // Register mine
         minesByPlayer.put(ownerId, mine);
         minesById.put(mine.getMineId(), mine);
+        indexMine(mine);
 
         // Advance grid position
         advanceGridPosition();
@@ -237,9 +282,7 @@ public class MineManager {
         }
 
         // Save grid position
-        FileConfiguration config = plugin.getConfigManager().getMinesData();
-        config.set("grid.next-x", nextGridX);
-        config.set("grid.next-z", nextGridZ);
+        storage.saveGrid(nextGridX, nextGridZ);
     }
 
     /**
@@ -250,11 +293,11 @@ public class MineManager {
         if (mine == null) return false;
 
         minesById.remove(mine.getMineId());
+        mineIndex.remove(mine);
+        plugin.getResetTask().getResetQueue().cancel(mine);
 
-        // Remove from config
-        FileConfiguration config = plugin.getConfigManager().getMinesData();
-        config.set("mines." + mine.getMineId().toString(), null);
-        plugin.getConfigManager().saveMinesData();
+        // Remove its file
+        storage.delete(mine);
 
         return true;
     }
@@ -298,12 +341,61 @@ public class MineManager {
      * Find which mine a location is in.
      */
     public Mine getMineAt(Location location) {
+        MineIndex.Entry entry = getIndexEntryAt(location);
+        return entry != null ? entry.getMine() : null;
+    }
+
+    /**
+     * Find the mine a player arriving at a location is entering: the mine the
+     * location is in, or the mine whose spawn it is (spawns sit above the bounds).
+     */
+    public Mine getMineEnteredAt(Location location) {
+        MineIndex.Entry entry = getIndexEntryAt(location);
+        if (entry == null && location.getWorld() != null) {
+            entry = mineIndex.getEntryBySpawn(location.getWorld().getName(),
+                    location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
+        return entry != null ? entry.getMine() : null;
+    }
+
+    /**
+     * Find the index entry (mine plus cached interior region) for a location.
+     */
+    public MineIndex.Entry getIndexEntryAt(Location location) {
+        if (location.getWorld() == null) {
+            return null;
+        }
+        return mineIndex.getEntryAt(location.getWorld().getName(),
+                location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Get the cached interior region of a mine.
+     */
+    public SchematicManager.MineRegion getMineRegion(Mine mine) {
+        MineIndex.Entry entry = mineIndex.getEntry(mine);
+        if (entry != null) {
+            return entry.getRegion();
+        }
+        return plugin.getSchematicManager().getMineRegion(mine);
+    }
+
+    /**
+     * Add or refresh a mine in the spatial index.
+     * Call whenever a mine's bounds or its schematic region change.
+     */
+    public void indexMine(Mine mine) {
+        mineIndex.add(mine, plugin.getSchematicManager().getMineRegion(mine));
+    }
+
+    /**
+     * Rebuild the spatial index for all mines (e.g. after a schematic region changed).
+     */
+    public void rebuildIndex() {
+        mineIndex.clear();
         for (Mine mine : minesById.values()) {
-            if (mine.isInMine(location)) {
-                return mine;
-            }
+            indexMine(mine);
         }
-        return null;
     }
 
     /**
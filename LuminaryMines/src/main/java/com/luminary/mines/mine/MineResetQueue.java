@@ -0,0 +1,308 @@
+package com.luminary.mines.mine;
+
+import com.luminary.mines.LuminaryMines;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Global queue of pending mine resets, drained under a per-tick time budget.
+ * Mines with players inside are served before empty ones. A mine that is only
+ * partially filled keeps its fill job and resumes on the next tick.
+ */
+public class MineResetQueue {
+
+    private final LuminaryMines plugin;
+    private final MineResetTask resetTask;
+
+    private final Deque<PendingReset> occupied = new ArrayDeque<>();
+    private final Deque<PendingReset> idle = new ArrayDeque<>();
+    private final Map<UUID, PendingReset> pending = new HashMap<>();
+    private PendingReset current;
+    private BukkitTask tickTask;
+
+    // Metrics
+    private long lastTickNanos;
+    private long completedResets;
+    private long lastWaitMs;
+    private long maxWaitMs;
+
+    public MineResetQueue(LuminaryMines plugin, MineResetTask resetTask) {
+        this.plugin = plugin;
+        this.resetTask = resetTask;
+    }
+
+    public void start() {
+        if (tickTask == null) {
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+
+    /**
+     * Run every queued reset to completion right away, e.g. on shutdown.
+     */
+    public void flush() {
+        while (!pending.isEmpty()) {
+            if (current == null) {
+                current = pollNext();
+                if (current == null) {
+                    break;
+                }
+            }
+
+            if (current.job == null) {
+                current.job = resetTask.createFillJob(current.mine);
+                if (current.job == null) {
+                    finish(current, false);
+                    continue;
+                }
+            }
+
+            current.job.run(Long.MAX_VALUE);
+            finish(current, true);
+        }
+    }
+
+    /**
+     * Queue a mine for reset.
+     *
+     * @return true if the mine was queued, false if it was already pending
+     */
+    public boolean enqueue(Mine mine) {
+        return enqueue(mine, false);
+    }
+
+    /**
+     * Queue a mine for reset.
+     *
+     * @param priority treat the mine as occupied (e.g. a player is on the way in)
+     * @return true if the mine was queued, false if it was already pending
+     */
+    public boolean enqueue(Mine mine, boolean priority) {
+        PendingReset existing = pending.get(mine.getMineId());
+        if (existing != null) {
+            promote(mine);
+            return false;
+        }
+
+        PendingReset reset = new PendingReset(mine);
+        pending.put(mine.getMineId(), reset);
+
+        if (priority || isOccupied(mine)) {
+            reset.state = State.OCCUPIED;
+            occupied.addLast(reset);
+        } else {
+            idle.addLast(reset);
+        }
+        return true;
+    }
+
+    /**
+     * Move a queued mine ahead of empty mines (e.g. a player just walked in).
+     */
+    public void promote(Mine mine) {
+        PendingReset reset = pending.get(mine.getMineId());
+        if (reset != null && reset.state == State.IDLE) {
+            // The idle entry stays behind and is skipped when polled
+            reset.state = State.OCCUPIED;
+            occupied.addLast(reset);
+        }
+    }
+
+    /**
+     * Drop a mine from the queue (e.g. it was deleted).
+     */
+    public void cancel(Mine mine) {
+        PendingReset reset = pending.remove(mine.getMineId());
+        if (reset == null) {
+            return;
+        }
+        if (reset == current) {
+            current = null;
+        }
+        reset.state = State.DONE;
+    }
+
+    /**
+     * Drop all pending resets. Mines that are still due get queued again by the next check.
+     */
+    public void clear() {
+        pending.clear();
+        occupied.clear();
+        idle.clear();
+        current = null;
+    }
+
+    public boolean isQueued(Mine mine) {
+        return pending.containsKey(mine.getMineId());
+    }
+
+    /**
+     * Run queued resets until this tick's budget is spent.
+     */
+    private void tick() {
+        if (pending.isEmpty()) {
+            lastTickNanos = 0;
+            return;
+        }
+
+        long start = System.nanoTime();
+        long budgetNanos = (long) (plugin.getConfigManager().getResetTickBudgetMs() * 1_000_000L);
+        long deadline = start + Math.max(1_000_000L, budgetNanos);
+
+        while (System.nanoTime() < deadline) {
+            if (current == null) {
+                current = pollNext();
+                if (current == null) {
+                    break;
+                }
+            }
+
+            if (current.job == null) {
+                current.job = resetTask.createFillJob(current.mine);
+                if (current.job == null) {
+                    // Mine has no region or world - nothing to fill
+                    finish(current, false);
+                    continue;
+                }
+            }
+
+            if (!current.job.run(deadline)) {
+                break;
+            }
+            finish(current, true);
+        }
+
+        lastTickNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Take the next reset to run, occupied mines first. Entries that were
+     * promoted or cancelled since they were queued are dropped on the way.
+     */
+    private PendingReset pollNext() {
+        PendingReset next = poll(occupied, State.OCCUPIED);
+        return next != null ? next : poll(idle, State.IDLE);
+    }
+
+    private PendingReset poll(Deque<PendingReset> queue, State state) {
+        PendingReset reset;
+        while ((reset = queue.pollFirst()) != null) {
+            if (reset.state == state) {
+                reset.state = State.RUNNING;
+                return reset;
+            }
+        }
+        return null;
+    }
+
+    private void finish(PendingReset reset, boolean filled) {
+        pending.remove(reset.mine.getMineId());
+        reset.state = State.DONE;
+        current = null;
+
+        if (filled) {
+            lastWaitMs = System.currentTimeMillis() - reset.queuedAt;
+            maxWaitMs = Math.max(maxWaitMs, lastWaitMs);
+            completedResets++;
+            resetTask.finishReset(reset.job, lastWaitMs);
+        }
+    }
+
+    private boolean isOccupied(Mine mine) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (mine.isInMine(player.getLocation())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of mines waiting for or currently being reset.
+     */
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    public int getOccupiedCount() {
+        return count(State.OCCUPIED);
+    }
+
+    public int getIdleCount() {
+        return count(State.IDLE);
+    }
+
+    private int count(State state) {
+        int count = 0;
+        for (PendingReset reset : pending.values()) {
+            if (reset.state == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the reset currently being filled, or null.
+     */
+    public MineFillJob getCurrentJob() {
+        return current != null ? current.job : null;
+    }
+
+    /**
+     * Get how long the oldest pending reset has been waiting, in ms.
+     */
+    public long getOldestWaitMs() {
+        long oldest = 0;
+        long now = System.currentTimeMillis();
+        for (PendingReset reset : pending.values()) {
+            oldest = Math.max(oldest, now - reset.queuedAt);
+        }
+        return oldest;
+    }
+
+    public double getLastTickMs() {
+        return lastTickNanos / 1_000_000.0;
+    }
+
+    public long getCompletedResets() {
+        return completedResets;
+    }
+
+    public long getLastWaitMs() {
+        return lastWaitMs;
+    }
+
+    public long getMaxWaitMs() {
+        return maxWaitMs;
+    }
+
+    private enum State {
+        IDLE, OCCUPIED, RUNNING, DONE
+    }
+
+    private static class PendingReset {
+        private final Mine mine;
+        private final long queuedAt = System.currentTimeMillis();
+        private State state = State.IDLE;
+        private MineFillJob job;
+
+        private PendingReset(Mine mine) {
+            this.mine = mine;
+        }
+    }
+}
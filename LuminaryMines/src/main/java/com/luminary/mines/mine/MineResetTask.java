@@ -1,14 +1,11 @@
 package com.luminary.mines.mine;
 
 import com.luminary.mines.LuminaryMines;
-import com.luminary.mines.schematic.MineSchematic;
 import com.luminary.mines.schematic.SchematicManager;
 import com.luminary.mines.util.TextUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 
@@ -16,23 +13,23 @@ import java.util.*;
 
 /**
  * Handles periodic mine resets and block filling.
+ * Resets are queued and filled by the {@link MineResetQueue} under a per-tick budget.
  */
 public class MineResetTask {
 
     private final LuminaryMines plugin;
+    private final MineResetQueue resetQueue;
     private BukkitTask checkTask;
-    private final Random random = new Random();
-
-    // Block fill rate (blocks per tick for async filling)
-    private static final int BLOCKS_PER_TICK = 5000;
 
     public MineResetTask(LuminaryMines plugin) {
         this.plugin = plugin;
+        this.resetQueue = new MineResetQueue(plugin, this);
     }
 
     public void start() {
         // Check every second for mines that need resetting
         checkTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkMines, 20L, 20L);
+        resetQueue.start();
     }
 
     public void stop() {
@@ -40,21 +37,55 @@ public class MineResetTask {
             checkTask.cancel();
             checkTask = null;
         }
+        resetQueue.stop();
+    }
+
+    /**
+     * Stop the task and fill any mines still queued for reset, so a mine
+     * created just before shutdown isn't left empty.
+     */
+    public void shutdown() {
+        stop();
+        resetQueue.flush();
     }
 
     public void reload() {
         stop();
+        // Mines were reloaded, so queued entries point at stale objects
+        resetQueue.clear();
         start();
     }
 
     /**
-     * Track a block break for auto-reset threshold.
+     * Track a block broken in a mine's interior (counters, delta mask and auto-reset threshold).
      */
-    public void trackBlockBreak(Mine mine) {
+    public void trackBlockBreak(Mine mine, int x, int y, int z) {
+        mine.recordBlockMined(x, y, z);
+        checkThreshold(mine);
+    }
+
+    /**
+     * Track many broken blocks at once, checking the auto-reset threshold only at the end.
+     * Blocks outside the entry's interior are ignored.
+     *
+     * @param coords Block coordinates as x, y, z triples
+     */
+    public void trackBlockBreaks(MineIndex.Entry entry, int[] coords, int count) {
+        Mine mine = entry.getMine();
+        for (int i = 0; i < count; i++) {
+            int x = coords[i * 3], y = coords[i * 3 + 1], z = coords[i * 3 + 2];
+            if (entry.isInInterior(x, y, z)) {
+                mine.recordBlockMined(x, y, z);
+            }
+        }
+        checkThreshold(mine);
+    }
+
+    private void checkThreshold(Mine mine) {
         // Check if we should auto-reset based on threshold
         double threshold = plugin.getConfigManager().getAutoResetThreshold();
         if (threshold > 0) {
-            double minedPercent = getMinedPercentage(mine);
+            double minedPercent = mine.getMinedPercentage();
             if (minedPercent >= threshold && mine.isAutoReset()) {
                 forceReset(mine);
             }
@@ -66,9 +97,15 @@ public class MineResetTask {
      */
     private void checkMines() {
         List<Mine> needsReset = plugin.getMineManager().getMinesNeedingReset();
+        if (needsReset.isEmpty()) {
+            return;
+        }
+
+        boolean lazy = plugin.getConfigManager().isLazyResetEnabled();
+        Set<UUID> occupiedMines = lazy ? getOccupiedMines() : Collections.emptySet();
 
         for (Mine mine : needsReset) {
-            if (!mine.isAutoReset()) {
+            if (!mine.isAutoReset() || mine.isStale()) {
                 continue;
             }
 
@@ -79,107 +116,123 @@ public class MineResetTask {
                 notifyMinePlayers(mine, plugin.getConfigManager().getRawMessage("mine.reset-warning"));
             }
 
-            // Reset the mine
-            if (timeUntil <= 0) {
-                resetMine(mine);
+            if (timeUntil > 0) {
+                continue;
             }
+
+            // Nobody around to see it - defer until someone enters
+            if (lazy && !occupiedMines.contains(mine.getMineId()) && !hasMembersOnline(mine)) {
+                mine.setStale(true);
+                continue;
+            }
+
+            // Reset the mine
+            resetMine(mine);
         }
     }
 
     /**
-     * Reset a mine (fill with blocks).
+     * Called when a player enters or teleports into a mine.
+     * Runs a deferred reset and moves a queued one ahead of empty mines.
      */
-    public void resetMine(Mine mine) {
-        MineSchematic schematic = plugin.getSchematicManager().getSchematic(mine.getSchematicName());
-
-        // Get the interior region to fill
-        SchematicManager.MineRegion region;
-        if (schematic != null) {
-            region = plugin.getSchematicManager().getInteriorRegion(mine, schematic);
+    public void onMineEntered(Mine mine) {
+        if (mine.isStale()) {
+            mine.setStale(false);
+            resetQueue.enqueue(mine, true);
         } else {
-            // Fallback: use mine bounds with 1 block inset
-            Location min = mine.getMinCorner();
-            Location max = mine.getMaxCorner();
-            if (min == null || max == null) return;
-
-            region = new SchematicManager.MineRegion(
-                    min.getBlockX() + 1, min.getBlockY() + 1, min.getBlockZ() + 1,
-                    max.getBlockX() - 1, max.getBlockY() - 1, max.getBlockZ() - 1
-            );
+            resetQueue.promote(mine);
         }
+    }
 
-        // Fill the mine with blocks (players stay in place)
-        fillMine(mine, region);
+    /**
+     * Get the IDs of all mines that currently have a player inside.
+     */
+    private Set<UUID> getOccupiedMines() {
+        Set<UUID> occupied = new HashSet<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Mine mine = plugin.getMineManager().getMineAt(player.getLocation());
+            if (mine != null) {
+                occupied.add(mine.getMineId());
+            }
+        }
+        return occupied;
+    }
 
-        // Mark as reset
-        mine.markReset();
-        plugin.getMineManager().saveMine(mine);
+    /**
+     * Check if the owner or any whitelisted player is online.
+     */
+    private boolean hasMembersOnline(Mine mine) {
+        if (Bukkit.getPlayer(mine.getOwnerId()) != null) {
+            return true;
+        }
+        for (UUID whitelisted : mine.getWhitelist()) {
+            if (Bukkit.getPlayer(whitelisted) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        // Notify players
-        notifyMinePlayers(mine, plugin.getConfigManager().getMessage("mine.reset-complete"));
+    /**
+     * Reset a mine (fill with blocks).
+     * The fill is queued and spread over the following ticks.
+     */
+    public void resetMine(Mine mine) {
+        mine.setStale(false);
+        resetQueue.enqueue(mine);
     }
 
     /**
-     * Fill a mine region with blocks based on composition.
+     * Prepare the fill job for a queued reset.
+     *
+     * @return the job, or null if the mine has no region or world to fill
      */
-    private void fillMine(Mine mine, SchematicManager.MineRegion region) {
+    MineFillJob createFillJob(Mine mine) {
+        // Get the interior region to fill
+        SchematicManager.MineRegion region = plugin.getMineManager().getMineRegion(mine);
+        if (region == null) return null;
+
         World world = Bukkit.getWorld(mine.getWorldName());
-        if (world == null) return;
+        if (world == null) return null;
 
-        Map<String, Integer> composition = mine.getBlockComposition();
-        if (composition.isEmpty()) {
-            // Default composition
-            composition = new LinkedHashMap<>();
-            composition.put("STONE", 100);
-        }
+        // A delta reset needs a mask that has tracked every break since the last reset
+        MinedBlockMask mask = mine.getMinedMask();
+        boolean delta = plugin.getConfigManager().isDeltaResetEnabled() &&
+                mask != null && mask.matches(region) &&
+                mine.getMinedPercentage() <= plugin.getConfigManager().getDeltaResetMaxPercent();
 
-        // Build weighted block list
-        List<Material> weightedBlocks = buildWeightedBlockList(composition);
-        if (weightedBlocks.isEmpty()) return;
+        if (mask == null || !mask.matches(region)) {
+            mask = new MinedBlockMask(region);
+            mine.setMinedMask(mask);
+        }
 
-        // Fill synchronously in chunks to avoid lag
-        int totalBlocks = region.getVolume();
-        int blocksPlaced = 0;
+        // Take the mined positions; breaks during the fill go into a fresh mask
+        BitSet minedPositions = mask.drain();
 
-        for (int x = region.minX; x <= region.maxX; x++) {
-            for (int y = region.minY; y <= region.maxY; y++) {
-                for (int z = region.minZ; z <= region.maxZ; z++) {
-                    Block block = world.getBlockAt(x, y, z);
-                    Material material = weightedBlocks.get(random.nextInt(weightedBlocks.size()));
-                    block.setType(material, false);
-                    blocksPlaced++;
-                }
-            }
+        // Fill the mine with blocks (players stay in place)
+        if (delta) {
+            return MineFillJob.delta(mine, world, region, mine.getBlockSampler(), mask, minedPositions);
         }
-
-        plugin.getLogger().info("Reset mine for " + mine.getOwnerName() +
-                " - " + blocksPlaced + " blocks filled");
+        return MineFillJob.full(mine, world, region, mine.getBlockSampler());
     }
 
     /**
-     * Build a weighted list of materials for random selection.
+     * Complete a reset once its fill job has finished.
      */
-    private List<Material> buildWeightedBlockList(Map<String, Integer> composition) {
-        List<Material> weighted = new ArrayList<>();
-        int totalWeight = composition.values().stream().mapToInt(Integer::intValue).sum();
+    void finishReset(MineFillJob job, long waitMs) {
+        Mine mine = job.getMine();
 
-        // Normalize to 100 entries for easy random selection
-        for (Map.Entry<String, Integer> entry : composition.entrySet()) {
-            Material material = Material.matchMaterial(entry.getKey());
-            if (material != null && material.isBlock()) {
-                int count = (entry.getValue() * 100) / totalWeight;
-                for (int i = 0; i < count; i++) {
-                    weighted.add(material);
-                }
-            }
-        }
+        // Mark as reset
+        mine.resetBlockCounter(job.getRegion().getVolume());
+        mine.markReset();
+        plugin.getMineManager().saveMine(mine);
 
-        // Ensure at least one block type
-        if (weighted.isEmpty()) {
-            weighted.add(Material.STONE);
-        }
+        plugin.getLogger().info(String.format("Reset mine for %s (%s) - %d blocks in %d sections (%.1f ms, %.0f blocks/ms, queued %d ms)",
+                mine.getOwnerName(), job.isDelta() ? "delta" : "full", job.getBlocksPlaced(), job.getSectionsTouched(),
+                job.getNanosSpent() / 1_000_000.0, job.getBlocksPerMs(), waitMs));
 
-        return weighted;
+        // Notify players
+        notifyMinePlayers(mine, plugin.getConfigManager().getMessage("mine.reset-complete"));
     }
 
     /**
@@ -217,6 +270,13 @@ public class MineResetTask {
         }
     }
 
+    /**
+     * Get the global reset queue.
+     */
+    public MineResetQueue getResetQueue() {
+        return resetQueue;
+    }
+
     /**
      * Manually reset a specific mine.
      */
@@ -226,30 +286,39 @@ public class MineResetTask {
 
     /**
      * Get the percentage of blocks mined in a mine.
+     * Reads the mine's block counter, so this is safe to call on every break.
      */
     public double getMinedPercentage(Mine mine) {
-        Location min = mine.getMinCorner();
-        Location max = mine.getMaxCorner();
-        if (min == null || max == null) return 0;
-
-        World world = min.getWorld();
-        if (world == null) return 0;
-
-        int total = 0;
-        int air = 0;
-
-        // Count air blocks in the interior
-        for (int x = min.getBlockX() + 1; x < max.getBlockX(); x++) {
-            for (int y = min.getBlockY() + 1; y < max.getBlockY(); y++) {
-                for (int z = min.getBlockZ() + 1; z < max.getBlockZ(); z++) {
-                    total++;
-                    if (world.getBlockAt(x, y, z).getType() == Material.AIR) {
-                        air++;
+        return mine.getMinedPercentage();
+    }
+
+    /**
+     * Rebuild a mine's block counter by scanning the interior.
+     * This walks every block in the region - only run on admin request.
+     *
+     * @return the mined percentage after the recount, or -1 if the mine has no region
+     */
+    public double recountBlocks(Mine mine) {
+        SchematicManager.MineRegion region = plugin.getMineManager().getMineRegion(mine);
+        if (region == null) return -1;
+
+        World world = Bukkit.getWorld(mine.getWorldName());
+        if (world == null) return -1;
+
+        // Rebuild the mined mask from the air blocks as well
+        MinedBlockMask mask = new MinedBlockMask(region);
+        for (int x = region.minX; x <= region.maxX; x++) {
+            for (int y = region.minY; y <= region.maxY; y++) {
+                for (int z = region.minZ; z <= region.maxZ; z++) {
+                    if (world.getBlockAt(x, y, z).getType().isAir()) {
+                        mask.mark(x, y, z);
                     }
                 }
             }
         }
 
-        return total > 0 ? (air * 100.0 / total) : 0;
+        mine.setMinedMask(mask);
+        mine.setBlockCounter(region.getVolume(), region.getVolume() - mask.getMinedCount());
+        return mine.getMinedPercentage();
     }
 }
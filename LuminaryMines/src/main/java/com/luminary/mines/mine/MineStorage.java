@@ -0,0 +1,241 @@
+package com.luminary.mines.mine;
+
+import com.luminary.mines.LuminaryMines;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores every mine in its own file: {@code <data-folder>/mines/<mine-id>.yml}.
+ * <p>
+ * Saving is debounced: callers only mark a mine dirty, and a periodic flush
+ * serializes the dirty mines on the main thread and hands the text to a
+ * single background writer. Block counter changes are only written on the
+ * auto-save interval. Files are replaced atomically. Startup parses all mine
+ * files in parallel.
+ */
+public class MineStorage {
+
+    private final LuminaryMines plugin;
+    private final File dataFolder;
+    private final File minesFolder;
+    private final File gridFile;
+    private ExecutorService writer;
+    private BukkitTask flushTask;
+    private long lastCounterSave = System.currentTimeMillis();
+
+    public MineStorage(LuminaryMines plugin) {
+        this.plugin = plugin;
+        this.dataFolder = new File(plugin.getDataFolder(), plugin.getConfigManager().getDataFolder());
+        this.minesFolder = new File(dataFolder, "mines");
+        this.gridFile = new File(dataFolder, "grid.yml");
+    }
+
+    /**
+     * Start the background writer and the periodic flush.
+     */
+    public void start(Collection<Mine> mines) {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "LuminaryMines-Storage");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (flushTask == null) {
+            long delay = Math.max(1, plugin.getConfigManager().getSaveDelay()) * 20L;
+            flushTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> flush(mines, isCounterSaveDue()), delay, delay);
+        }
+    }
+
+    /**
+     * Write all dirty mines, wait for pending writes and stop the writer.
+     */
+    public void shutdown(Collection<Mine> mines) {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush(mines, true);
+
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                    plugin.getLogger().warning("Timed out waiting for mine data to be written!");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+    }
+
+    /**
+     * Load every mine file, parsing them in parallel.
+     */
+    public List<Mine> loadAll() {
+        File[] files = minesFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null || files.length == 0) {
+            return new ArrayList<>();
+        }
+
+        return Arrays.stream(files)
+                .parallel()
+                .map(this::loadMine)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Mine loadMine(File file) {
+        try {
+            YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+            Mine mine = new Mine(config);
+            mine.setDirty(false);
+            return mine;
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to load mine '" + file.getName() + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean hasMineFiles() {
+        String[] names = minesFolder.list((dir, name) -> name.endsWith(".yml"));
+        return names != null && names.length > 0;
+    }
+
+    private boolean isCounterSaveDue() {
+        long interval = plugin.getConfigManager().getAutoSaveInterval() * 1000L;
+        if (System.currentTimeMillis() - lastCounterSave < interval) {
+            return false;
+        }
+        lastCounterSave = System.currentTimeMillis();
+        return true;
+    }
+
+    /**
+     * Serialize dirty mines and queue them for writing.
+     * Must be called on the main thread.
+     *
+     * @param includeCounters also write mines whose only change is their block counters
+     * @return the number of mines queued
+     */
+    public int flush(Collection<Mine> mines, boolean includeCounters) {
+        if (writer == null) {
+            return 0;
+        }
+
+        int queued = 0;
+        for (Mine mine : mines) {
+            if (!mine.isDirty() && !(includeCounters && mine.hasCounterChanges())) {
+                continue;
+            }
+
+            YamlConfiguration config = new YamlConfiguration();
+            mine.save(config); // clears the dirty flags
+            String data = config.saveToString();
+            File file = getMineFile(mine.getMineId());
+
+            writer.execute(() -> {
+                try {
+                    writeAtomically(file, data);
+                } catch (IOException e) {
+                    plugin.getLogger().warning("Failed to save mine " + mine.getMineId() + ": " + e.getMessage());
+                    // Try again on the next flush
+                    if (plugin.isEnabled()) {
+                        Bukkit.getScheduler().runTask(plugin, () -> mine.setDirty(true));
+                    }
+                }
+            });
+            queued++;
+        }
+        return queued;
+    }
+
+    /**
+     * Delete a mine's file.
+     */
+    public void delete(Mine mine) {
+        File file = getMineFile(mine.getMineId());
+        Runnable delete = () -> {
+            try {
+                Files.deleteIfExists(file.toPath());
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to delete mine file " + file.getName() + ": " + e.getMessage());
+            }
+        };
+
+        if (writer != null) {
+            writer.execute(delete);
+        } else {
+            delete.run();
+        }
+    }
+
+    /**
+     * Load the next grid position for mine placement.
+     */
+    public int[] loadGrid() {
+        if (!gridFile.exists()) {
+            return null;
+        }
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(gridFile);
+        return new int[]{config.getInt("next-x", 0), config.getInt("next-z", 0)};
+    }
+
+    /**
+     * Save the next grid position for mine placement.
+     */
+    public void saveGrid(int nextX, int nextZ) {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("next-x", nextX);
+        config.set("next-z", nextZ);
+        String data = config.saveToString();
+
+        Runnable write = () -> {
+            try {
+                writeAtomically(gridFile, data);
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to save grid position: " + e.getMessage());
+            }
+        };
+
+        if (writer != null) {
+            writer.execute(write);
+        } else {
+            write.run();
+        }
+    }
+
+    private File getMineFile(UUID mineId) {
+        return new File(minesFolder, mineId + ".yml");
+    }
+
+    private void writeAtomically(File file, String data) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        Files.writeString(temp, data, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public File getMinesFolder() {
+        return minesFolder;
+    }
+}
@@ -0,0 +1,90 @@
+package com.luminary.mines.mine;
+
+import com.luminary.mines.schematic.SchematicManager;
+
+import java.util.BitSet;
+
+/**
+ * Bitset of mined positions in a mine's interior, indexed by offset from
+ * the region's minimum corner (x fastest, then z, then y). Used for delta
+ * resets and to count mined blocks without touching the world.
+ */
+public class MinedBlockMask {
+
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private BitSet bits = new BitSet();
+    private int minedCount;
+
+    public MinedBlockMask(SchematicManager.MineRegion region) {
+        this.minX = region.minX;
+        this.minY = region.minY;
+        this.minZ = region.minZ;
+        this.sizeX = region.maxX - region.minX + 1;
+        this.sizeY = region.maxY - region.minY + 1;
+        this.sizeZ = region.maxZ - region.minZ + 1;
+    }
+
+    /**
+     * Mark a position as mined.
+     *
+     * @return true if the position is inside the region and was not already marked
+     */
+    public boolean mark(int x, int y, int z) {
+        int index = indexOf(x, y, z);
+        if (index < 0 || bits.get(index)) {
+            return false;
+        }
+        bits.set(index);
+        minedCount++;
+        return true;
+    }
+
+    /**
+     * Take the current set of mined positions and start over with an empty mask.
+     */
+    public BitSet drain() {
+        BitSet drained = bits;
+        bits = new BitSet();
+        minedCount = 0;
+        return drained;
+    }
+
+    /**
+     * Check whether this mask was built for the given region.
+     */
+    public boolean matches(SchematicManager.MineRegion region) {
+        return region.minX == minX && region.minY == minY && region.minZ == minZ &&
+               region.maxX - region.minX + 1 == sizeX &&
+               region.maxY - region.minY + 1 == sizeY &&
+               region.maxZ - region.minZ + 1 == sizeZ;
+    }
+
+    private int indexOf(int x, int y, int z) {
+        int dx = x - minX, dy = y - minY, dz = z - minZ;
+        if (dx < 0 || dy < 0 || dz < 0 || dx >= sizeX || dy >= sizeY || dz >= sizeZ) {
+            return -1;
+        }
+        return (dy * sizeZ + dz) * sizeX + dx;
+    }
+
+    public int xOf(int index) {
+        return minX + index % sizeX;
+    }
+
+    public int yOf(int index) {
+        return minY + index / (sizeX * sizeZ);
+    }
+
+    public int zOf(int index) {
+        return minZ + (index / sizeX) % sizeZ;
+    }
+
+    public int getMinedCount() {
+        return minedCount;
+    }
+
+    public int getVolume() {
+        return sizeX * sizeY * sizeZ;
+    }
+}
@@ -0,0 +1,300 @@
+package com.luminary.mines.schematic;
+
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.block.data.BlockData;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A schematic flattened into a palette and one palette index per block
+ * (x fastest, then z, then y). This is what gets pasted, and it is cached
+ * on disk so schematics don't have to go through WorldEdit on every startup.
+ * <p>
+ * Blocks with NBT data and entities can't be represented here; their
+ * positions are recorded so the paste can take them from the clipboard.
+ */
+public class CompiledSchematic {
+
+    private static final int MAGIC = 0x4C4D5343; // "LMSC"
+    private static final int VERSION = 1;
+    private static final int MAX_PALETTE = 65536;
+
+    private final String sourceHash;
+    private final int width, height, length;
+    private final int offsetX, offsetY, offsetZ; // clipboard origin relative to its min corner
+    private final String[] palette;
+    private final short[] blocks;
+    private final int[] nbtIndices;
+    private final boolean hasEntities;
+
+    private BlockData[] resolvedPalette;
+
+    private CompiledSchematic(String sourceHash, int width, int height, int length,
+                              int offsetX, int offsetY, int offsetZ,
+                              String[] palette, short[] blocks, int[] nbtIndices, boolean hasEntities) {
+        this.sourceHash = sourceHash;
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.offsetZ = offsetZ;
+        this.palette = palette;
+        this.blocks = blocks;
+        this.nbtIndices = nbtIndices;
+        this.hasEntities = hasEntities;
+    }
+
+    /**
+     * Flatten a WorldEdit clipboard.
+     */
+    public static CompiledSchematic compile(Clipboard clipboard, String sourceHash) throws IOException {
+        BlockVector3 min = clipboard.getMinimumPoint();
+        BlockVector3 max = clipboard.getMaximumPoint();
+        BlockVector3 offset = clipboard.getOrigin().subtract(min);
+
+        int width = max.getBlockX() - min.getBlockX() + 1;
+        int height = max.getBlockY() - min.getBlockY() + 1;
+        int length = max.getBlockZ() - min.getBlockZ() + 1;
+
+        Map<String, Integer> paletteIds = new HashMap<>();
+        List<String> palette = new ArrayList<>();
+        List<Integer> nbt = new ArrayList<>();
+        short[] blocks = new short[width * height * length];
+
+        int index = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    BaseBlock block = clipboard.getFullBlock(min.add(x, y, z));
+                    String state = block.toImmutableState().getAsString();
+
+                    Integer id = paletteIds.get(state);
+                    if (id == null) {
+                        if (palette.size() >= MAX_PALETTE) {
+                            throw new IOException("Too many block states (max " + MAX_PALETTE + ")");
+                        }
+                        id = palette.size();
+                        paletteIds.put(state, id);
+                        palette.add(state);
+                    }
+
+                    blocks[index] = (short) id.intValue();
+                    if (block.hasNbtData()) {
+                        nbt.add(index);
+                    }
+                    index++;
+                }
+            }
+        }
+
+        int[] nbtIndices = nbt.stream().mapToInt(Integer::intValue).toArray();
+        return new CompiledSchematic(sourceHash, width, height, length,
+                offset.getBlockX(), offset.getBlockY(), offset.getBlockZ(),
+                palette.toArray(new String[0]), blocks, nbtIndices, !clipboard.getEntities().isEmpty());
+    }
+
+    /**
+     * Read a cache file.
+     *
+     * @return the compiled schematic, or null if the file is from another version or source
+     */
+    public static CompiledSchematic read(File file, String expectedHash) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            String hash = in.readUTF();
+            if (!hash.equals(expectedHash)) {
+                return null;
+            }
+
+            int width = in.readInt();
+            int height = in.readInt();
+            int length = in.readInt();
+            int offsetX = in.readInt();
+            int offsetY = in.readInt();
+            int offsetZ = in.readInt();
+
+            String[] palette = new String[in.readInt()];
+            for (int i = 0; i < palette.length; i++) {
+                palette[i] = in.readUTF();
+            }
+
+            short[] blocks = new short[width * height * length];
+            byte[] raw = new byte[blocks.length * 2];
+            in.readFully(raw);
+            ByteBuffer.wrap(raw).asShortBuffer().get(blocks);
+
+            int[] nbtIndices = new int[in.readInt()];
+            for (int i = 0; i < nbtIndices.length; i++) {
+                nbtIndices[i] = in.readInt();
+            }
+            boolean hasEntities = in.readBoolean();
+
+            return new CompiledSchematic(hash, width, height, length, offsetX, offsetY, offsetZ,
+                    palette, blocks, nbtIndices, hasEntities);
+        }
+    }
+
+    /**
+     * Write this schematic to a cache file. The data goes to a temp file that
+     * is then moved into place, so a crash mid-write never leaves a truncated cache.
+     */
+    public void write(File file) throws IOException {
+        Files.createDirectories(file.getParentFile().toPath());
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        try {
+            writeTo(temp.toFile());
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeTo(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(new FileOutputStream(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(sourceHash);
+
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(length);
+            out.writeInt(offsetX);
+            out.writeInt(offsetY);
+            out.writeInt(offsetZ);
+
+            out.writeInt(palette.length);
+            for (String state : palette) {
+                out.writeUTF(state);
+            }
+
+            ByteBuffer raw = ByteBuffer.allocate(blocks.length * 2);
+            raw.asShortBuffer().put(blocks);
+            out.write(raw.array());
+
+            out.writeInt(nbtIndices.length);
+            for (int index : nbtIndices) {
+                out.writeInt(index);
+            }
+            out.writeBoolean(hasEntities);
+        }
+    }
+
+    /**
+     * Parse the palette into Bukkit block data. Must run on the main thread.
+     * States this server doesn't know are replaced with air.
+     */
+    public void resolvePalette(Logger logger) {
+        BlockData[] resolved = new BlockData[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            try {
+                resolved[i] = Bukkit.createBlockData(palette[i]);
+            } catch (IllegalArgumentException e) {
+                logger.warning("Unknown block state in schematic: " + palette[i]);
+                resolved[i] = Material.AIR.createBlockData();
+            }
+        }
+        resolvedPalette = resolved;
+    }
+
+    /**
+     * Get the palette as Bukkit block data (see {@link #resolvePalette(Logger)}).
+     */
+    public BlockData[] getPalette() {
+        return resolvedPalette;
+    }
+
+    /**
+     * Get the palette index of the block at a flat index.
+     */
+    public int getBlock(int index) {
+        return blocks[index] & 0xFFFF;
+    }
+
+    public int xOf(int index) {
+        return index % width;
+    }
+
+    public int yOf(int index) {
+        return index / (width * length);
+    }
+
+    public int zOf(int index) {
+        return (index / width) % length;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getVolume() {
+        return blocks.length;
+    }
+
+    public int getOffsetX() {
+        return offsetX;
+    }
+
+    public int getOffsetY() {
+        return offsetY;
+    }
+
+    public int getOffsetZ() {
+        return offsetZ;
+    }
+
+    public int getPaletteSize() {
+        return palette.length;
+    }
+
+    /**
+     * Get the flat indices of blocks that carry NBT data.
+     */
+    public int[] getNbtIndices() {
+        return nbtIndices;
+    }
+
+    public boolean hasEntities() {
+        return hasEntities;
+    }
+
+    /**
+     * Check if pasting needs the original clipboard (for NBT blocks or entities).
+     */
+    public boolean needsClipboard() {
+        return nbtIndices.length > 0 || hasEntities;
+    }
+}
@@ -1,15 +1,24 @@
 package com.luminary.mines.schematic;
 
 import com.sk89q.worldedit.extent.clipboard.Clipboard;
-import com.sk89q.worldedit.regions.Region;
+import com.sk89q.worldedit.extent.clipboard.io.ClipboardFormat;
+import com.sk89q.worldedit.extent.clipboard.io.ClipboardFormats;
+import com.sk89q.worldedit.extent.clipboard.io.ClipboardReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 
 /**
- * Wrapper for a WorldEdit schematic/clipboard representing a mine layout.
+ * A mine layout: the compiled block data used for pasting, plus the source
+ * schematic file, which is only read through WorldEdit when needed.
  */
 public class MineSchematic {
 
     private final String name;
-    private final Clipboard clipboard;
+    private final File sourceFile;
+    private final CompiledSchematic compiled;
+    private volatile Clipboard clipboard; // loaded on first use
     private final int width;
     private final int height;
     private final int length;
@@ -25,24 +34,53 @@ public class MineSchematic {
     private double spawnOffsetX, spawnOffsetY, spawnOffsetZ;
     private float spawnYaw, spawnPitch;
 
-    public MineSchematic(String name, Clipboard clipboard) {
+    public MineSchematic(String name, File sourceFile, CompiledSchematic compiled) {
         this.name = name;
-        this.clipboard = clipboard;
-
-        Region region = clipboard.getRegion();
-        this.width = region.getWidth();
-        this.height = region.getHeight();
-        this.length = region.getLength();
+        this.sourceFile = sourceFile;
+        this.compiled = compiled;
+        this.width = compiled.getWidth();
+        this.height = compiled.getHeight();
+        this.length = compiled.getLength();
     }
 
     public String getName() {
         return name;
     }
 
-    public Clipboard getClipboard() {
+    public CompiledSchematic getCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Get the WorldEdit clipboard, reading the schematic file on first use.
+     * Safe to call off the main thread.
+     */
+    public synchronized Clipboard getClipboard() throws IOException {
+        if (clipboard == null) {
+            clipboard = readClipboard(sourceFile);
+        }
         return clipboard;
     }
 
+    /**
+     * Read a schematic file through WorldEdit.
+     */
+    public static Clipboard readClipboard(File file) throws IOException {
+        ClipboardFormat format = ClipboardFormats.findByFile(file);
+        if (format == null) {
+            throw new IOException("Unknown schematic format");
+        }
+
+        try (ClipboardReader reader = format.getReader(new FileInputStream(file))) {
+            return reader.read();
+        }
+    }
+
+    // Offset of the paste origin from the schematic's min corner
+    public int getOriginOffsetX() { return compiled.getOffsetX(); }
+    public int getOriginOffsetY() { return compiled.getOffsetY(); }
+    public int getOriginOffsetZ() { return compiled.getOffsetZ(); }
+
     public int getWidth() {
         return width;
     }
@@ -7,9 +7,6 @@ import com.sk89q.worldedit.IncompleteRegionException;
 import com.sk89q.worldedit.WorldEdit;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.extent.clipboard.Clipboard;
-import com.sk89q.worldedit.extent.clipboard.io.ClipboardFormat;
-import com.sk89q.worldedit.extent.clipboard.io.ClipboardFormats;
-import com.sk89q.worldedit.extent.clipboard.io.ClipboardReader;
 import com.sk89q.worldedit.function.operation.Operation;
 import com.sk89q.worldedit.function.operation.Operations;
 import com.sk89q.worldedit.math.BlockVector3;
@@ -21,9 +18,12 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Manages mine schematics using WorldEdit.
@@ -34,9 +34,11 @@ public class SchematicManager {
     private final Map<String, MineSchematic> schematics = new LinkedHashMap<>();
     private File regionsFile;
     private YamlConfiguration regionsConfig;
+    private final SchematicPasteQueue pasteQueue;
 
     public SchematicManager(LuminaryMines plugin) {
         this.plugin = plugin;
+        this.pasteQueue = new SchematicPasteQueue(plugin, this);
     }
 
     public void loadSchematics() {
@@ -60,25 +62,35 @@ public class SchematicManager {
             return;
         }
 
+        long start = System.currentTimeMillis();
+        int fromCache = 0;
+
         for (File file : files) {
             String name = file.getName();
             String id = name.substring(0, name.lastIndexOf('.'));
 
             try {
-                MineSchematic schematic = loadSchematic(file);
-                if (schematic != null) {
-                    // Load custom region if defined
-                    loadSchematicRegion(id.toLowerCase(), schematic);
-                    schematics.put(id.toLowerCase(), schematic);
-
-                    String regionInfo = schematic.hasCustomRegion() ? " [custom region]" : "";
-                    plugin.getLogger().info("Loaded schematic: " + id +
-                            " (" + schematic.getWidth() + "x" + schematic.getHeight() + "x" + schematic.getLength() + ")" + regionInfo);
+                LoadResult result = loadSchematic(file, id.toLowerCase());
+                MineSchematic schematic = result.schematic();
+                schematic.getCompiled().resolvePalette(plugin.getLogger());
+                if (result.cached()) {
+                    fromCache++;
                 }
+
+                // Load custom region if defined
+                loadSchematicRegion(id.toLowerCase(), schematic);
+                schematics.put(id.toLowerCase(), schematic);
+
+                String regionInfo = schematic.hasCustomRegion() ? " [custom region]" : "";
+                plugin.getLogger().info("Loaded schematic: " + id +
+                        " (" + schematic.getWidth() + "x" + schematic.getHeight() + "x" + schematic.getLength() + ")" + regionInfo);
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load schematic '" + name + "': " + e.getMessage());
             }
         }
+
+        plugin.getLogger().info("Loaded " + schematics.size() + " schematics in " +
+                (System.currentTimeMillis() - start) + "ms (" + fromCache + " from cache).");
     }
 
     private void loadRegionsConfig() {
@@ -161,16 +173,10 @@ public class SchematicManager {
 
         Location playerLoc = player.getLocation();
 
-        // Calculate spawn offset relative to schematic origin
-        Clipboard clipboard = schematic.getClipboard();
-        BlockVector3 clipMin = clipboard.getMinimumPoint();
-        BlockVector3 origin = clipboard.getOrigin();
-        BlockVector3 offset = origin.subtract(clipMin);
-
-        // The paste origin minus the offset gives us the schematic's min corner world position
-        double schematicMinX = pasteOrigin.getBlockX() - offset.getBlockX();
-        double schematicMinY = pasteOrigin.getBlockY() - offset.getBlockY();
-        double schematicMinZ = pasteOrigin.getBlockZ() - offset.getBlockZ();
+        // The paste origin minus the origin offset gives us the schematic's min corner world position
+        double schematicMinX = pasteOrigin.getBlockX() - schematic.getOriginOffsetX();
+        double schematicMinY = pasteOrigin.getBlockY() - schematic.getOriginOffsetY();
+        double schematicMinZ = pasteOrigin.getBlockZ() - schematic.getOriginOffsetZ();
 
         // Calculate spawn offsets relative to schematic min corner
         double spawnOffsetX = playerLoc.getX() - schematicMinX;
@@ -203,18 +209,51 @@ public class SchematicManager {
         return true;
     }
 
-    private MineSchematic loadSchematic(File file) throws IOException {
-        ClipboardFormat format = ClipboardFormats.findByFile(file);
-        if (format == null) {
-            throw new IOException("Unknown schematic format");
+    /**
+     * Load a schematic from its compiled cache file, or compile it through WorldEdit
+     * and write the cache if the file is missing or the source changed.
+     */
+    private LoadResult loadSchematic(File file, String id) throws IOException {
+        String hash = hashFile(file);
+        File cacheFile = new File(getCacheFolder(), id + ".bin");
+
+        if (cacheFile.exists()) {
+            try {
+                CompiledSchematic compiled = CompiledSchematic.read(cacheFile, hash);
+                if (compiled != null) {
+                    return new LoadResult(new MineSchematic(file.getName(), file, compiled), true);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().warning("Ignoring unreadable schematic cache " + cacheFile.getName() + ": " + e.getMessage());
+            }
+        }
+
+        Clipboard clipboard = MineSchematic.readClipboard(file);
+        CompiledSchematic compiled = CompiledSchematic.compile(clipboard, hash);
+        try {
+            compiled.write(cacheFile);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write schematic cache " + cacheFile.getName() + ": " + e.getMessage());
         }
+        return new LoadResult(new MineSchematic(file.getName(), file, compiled), false);
+    }
+
+    private File getCacheFolder() {
+        return new File(plugin.getDataFolder(), "cache");
+    }
 
-        try (ClipboardReader reader = format.getReader(new FileInputStream(file))) {
-            Clipboard clipboard = reader.read();
-            return new MineSchematic(file.getName(), clipboard);
+    private static String hashFile(File file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file.toPath())));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
         }
     }
 
+    private record LoadResult(MineSchematic schematic, boolean cached) {
+    }
+
     /**
      * Set the mine region for a schematic using WorldEdit selection.
      * The selection should be made relative to where the schematic was pasted.
@@ -244,16 +283,10 @@ public class SchematicManager {
             BlockVector3 selMin = selection.getMinimumPoint();
             BlockVector3 selMax = selection.getMaximumPoint();
 
-            // Calculate offsets relative to the schematic's min corner
-            Clipboard clipboard = schematic.getClipboard();
-            BlockVector3 clipMin = clipboard.getMinimumPoint();
-            BlockVector3 origin = clipboard.getOrigin();
-            BlockVector3 offset = origin.subtract(clipMin);
-
-            // The paste origin minus the offset gives us the schematic's min corner world position
-            int schematicMinX = pasteOrigin.getBlockX() - offset.getBlockX();
-            int schematicMinY = pasteOrigin.getBlockY() - offset.getBlockY();
-            int schematicMinZ = pasteOrigin.getBlockZ() - offset.getBlockZ();
+            // The paste origin minus the origin offset gives us the schematic's min corner world position
+            int schematicMinX = pasteOrigin.getBlockX() - schematic.getOriginOffsetX();
+            int schematicMinY = pasteOrigin.getBlockY() - schematic.getOriginOffsetY();
+            int schematicMinZ = pasteOrigin.getBlockZ() - schematic.getOriginOffsetZ();
 
             // Calculate region offsets relative to schematic min corner
             int minX = selMin.getBlockX() - schematicMinX;
@@ -273,6 +306,9 @@ public class SchematicManager {
             schematic.setCustomRegion(minX, minY, minZ, maxX, maxY, maxZ);
             saveSchematicRegion(schematicName.toLowerCase(), minX, minY, minZ, maxX, maxY, maxZ);
 
+            // Cached interior regions are now stale
+            plugin.getMineManager().rebuildIndex();
+
             return true;
 
         } catch (IncompleteRegionException e) {
@@ -296,6 +332,9 @@ public class SchematicManager {
         } catch (IOException e) {
             plugin.getLogger().warning("Could not save schematic-regions.yml: " + e.getMessage());
         }
+
+        // Cached interior regions are now stale
+        plugin.getMineManager().rebuildIndex();
         return true;
     }
 
@@ -353,67 +392,83 @@ public class SchematicManager {
     }
 
     /**
-     * Paste a schematic at a location and setup the mine.
+     * Paste a schematic for a new mine and set up its bounds and spawn.
+     * Chunks are loaded asynchronously and the paste is spread over several
+     * ticks; the callback runs on the main thread once the mine is ready.
+     *
+     * @return false if the paste could not be started
      */
-    public boolean pasteSchematic(Mine mine, MineSchematic schematic) {
+    public boolean pasteSchematic(Mine mine, MineSchematic schematic, Consumer<Boolean> callback) {
         Location origin = mine.getOrigin();
         if (origin == null || origin.getWorld() == null) {
             return false;
         }
 
-        try {
-            World bukkitWorld = origin.getWorld();
-            com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(bukkitWorld);
+        BlockVector3 pasteMin = getPasteMin(origin, schematic);
+        SchematicPasteJob job = new SchematicPasteJob(mine, schematic, origin.getWorld(), pasteMin, callback);
+        pasteQueue.submit(job,
+                pasteMin.getBlockX(), pasteMin.getBlockZ(),
+                pasteMin.getBlockX() + schematic.getWidth() - 1, pasteMin.getBlockZ() + schematic.getLength() - 1);
+        return true;
+    }
 
-            Clipboard clipboard = schematic.getClipboard();
-            BlockVector3 pastePoint = BlockVector3.at(origin.getBlockX(), origin.getBlockY(), origin.getBlockZ());
+    /**
+     * Get the world position of a schematic's min corner when pasted at an origin.
+     */
+    private BlockVector3 getPasteMin(Location origin, MineSchematic schematic) {
+        return BlockVector3.at(
+                origin.getBlockX() - schematic.getOriginOffsetX(),
+                origin.getBlockY() - schematic.getOriginOffsetY(),
+                origin.getBlockZ() - schematic.getOriginOffsetZ());
+    }
 
-            try (EditSession editSession = WorldEdit.getInstance().newEditSession(weWorld)) {
-                Operation operation = new ClipboardHolder(clipboard)
-                        .createPaste(editSession)
-                        .to(pastePoint)
-                        .ignoreAirBlocks(false)
-                        .build();
-                Operations.complete(operation);
-            }
+    /**
+     * Set a mine's bounds and spawn for a schematic pasted at its origin.
+     */
+    void applyPastedBounds(Mine mine, MineSchematic schematic) {
+        Location origin = mine.getOrigin();
+        World bukkitWorld = origin.getWorld();
+        BlockVector3 pasteMin = getPasteMin(origin, schematic);
+
+        int minX = pasteMin.getBlockX();
+        int minY = pasteMin.getBlockY();
+        int minZ = pasteMin.getBlockZ();
+        int maxX = minX + schematic.getWidth() - 1;
+        int maxY = minY + schematic.getHeight() - 1;
+        int maxZ = minZ + schematic.getLength() - 1;
+
+        mine.setBounds(minX, minY, minZ, maxX, maxY, maxZ);
+
+        // Set spawn point
+        if (schematic.hasCustomSpawn()) {
+            // Use custom spawn offset
+            double spawnX = minX + schematic.getSpawnOffsetX();
+            double spawnY = minY + schematic.getSpawnOffsetY();
+            double spawnZ = minZ + schematic.getSpawnOffsetZ();
+            Location spawn = new Location(bukkitWorld, spawnX, spawnY, spawnZ,
+                    schematic.getSpawnYaw(), schematic.getSpawnPitch());
+            mine.setSpawn(spawn);
+        } else {
+            // Default: top center of the mine
+            double spawnX = (minX + maxX) / 2.0 + 0.5;
+            double spawnY = maxY + 2;
+            double spawnZ = (minZ + maxZ) / 2.0 + 0.5;
+            mine.setSpawn(new Location(bukkitWorld, spawnX, spawnY, spawnZ));
+        }
 
-            // Calculate bounds from schematic
-            BlockVector3 min = clipboard.getMinimumPoint();
-            BlockVector3 max = clipboard.getMaximumPoint();
-            BlockVector3 offset = clipboard.getOrigin().subtract(min);
-
-            int minX = origin.getBlockX() - offset.getBlockX();
-            int minY = origin.getBlockY() - offset.getBlockY();
-            int minZ = origin.getBlockZ() - offset.getBlockZ();
-            int maxX = minX + clipboard.getRegion().getWidth() - 1;
-            int maxY = minY + clipboard.getRegion().getHeight() - 1;
-            int maxZ = minZ + clipboard.getRegion().getLength() - 1;
-
-            mine.setBounds(minX, minY, minZ, maxX, maxY, maxZ);
-
-            // Set spawn point
-            if (schematic.hasCustomSpawn()) {
-                // Use custom spawn offset
-                double spawnX = minX + schematic.getSpawnOffsetX();
-                double spawnY = minY + schematic.getSpawnOffsetY();
-                double spawnZ = minZ + schematic.getSpawnOffsetZ();
-                Location spawn = new Location(bukkitWorld, spawnX, spawnY, spawnZ,
-                        schematic.getSpawnYaw(), schematic.getSpawnPitch());
-                mine.setSpawn(spawn);
-            } else {
-                // Default: top center of the mine
-                double spawnX = (minX + maxX) / 2.0 + 0.5;
-                double spawnY = maxY + 2;
-                double spawnZ = (minZ + maxZ) / 2.0 + 0.5;
-                mine.setSpawn(new Location(bukkitWorld, spawnX, spawnY, spawnZ));
-            }
+        // Bounds changed - refresh the spatial index
+        plugin.getMineManager().indexMine(mine);
+    }
 
-            return true;
+    public SchematicPasteQueue getPasteQueue() {
+        return pasteQueue;
+    }
 
-        } catch (Exception e) {
-            plugin.getLogger().severe("Failed to paste schematic: " + e.getMessage());
-            return false;
-        }
+    /**
+     * Finish any pending mine pastes (called on disable).
+     */
+    public void shutdown() {
+        pasteQueue.stop();
     }
 
     /**
@@ -435,20 +490,12 @@ public class SchematicManager {
         }
 
         // Fallback: use wall thickness inset
-        int inset = schematic.getWallThickness();
-
-        int minX = mine.getMinCorner().getBlockX() + inset;
-        int minY = mine.getMinCorner().getBlockY() + inset;
-        int minZ = mine.getMinCorner().getBlockZ() + inset;
-        int maxX = mine.getMaxCorner().getBlockX() - inset;
-        int maxY = mine.getMaxCorner().getBlockY() - inset;
-        int maxZ = mine.getMaxCorner().getBlockZ() - inset;
-
-        return new MineRegion(minX, minY, minZ, maxX, maxY, maxZ);
+        return insetRegion(mine, schematic.getWallThickness());
     }
 
     /**
      * Get the mine region using stored schematic information.
+     * Prefer {@link com.luminary.mines.mine.MineManager#getMineRegion(Mine)}, which caches the result.
      */
     public MineRegion getMineRegion(Mine mine) {
         MineSchematic schematic = getSchematic(mine.getSchematicName());
@@ -456,15 +503,14 @@ public class SchematicManager {
             return getInteriorRegion(mine, schematic);
         }
         // Fallback: 1 block inset
-        int inset = 1;
-        int minX = mine.getMinCorner().getBlockX() + inset;
-        int minY = mine.getMinCorner().getBlockY() + inset;
-        int minZ = mine.getMinCorner().getBlockZ() + inset;
-        int maxX = mine.getMaxCorner().getBlockX() - inset;
-        int maxY = mine.getMaxCorner().getBlockY() - inset;
-        int maxZ = mine.getMaxCorner().getBlockZ() - inset;
-
-        return new MineRegion(minX, minY, minZ, maxX, maxY, maxZ);
+        return insetRegion(mine, 1);
+    }
+
+    private MineRegion insetRegion(Mine mine, int inset) {
+        return new MineRegion(
+                mine.getMinX() + inset, mine.getMinY() + inset, mine.getMinZ() + inset,
+                mine.getMaxX() - inset, mine.getMaxY() - inset, mine.getMaxZ() - inset
+        );
     }
 
     /**
@@ -486,5 +532,9 @@ public class SchematicManager {
         public int getVolume() {
             return (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
         }
+
+        public boolean contains(int x, int y, int z) {
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
     }
 }
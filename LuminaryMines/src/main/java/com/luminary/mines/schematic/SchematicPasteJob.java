@@ -0,0 +1,287 @@
+package com.luminary.mines.schematic;
+
+import com.luminary.mines.mine.Mine;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.entity.BaseEntity;
+import com.sk89q.worldedit.entity.Entity;
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.math.Vector3;
+import com.sk89q.worldedit.util.SideEffectSet;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Pastes a schematic for a new mine in slices, so a large paste is spread
+ * over several ticks. Blocks are written straight from the compiled palette
+ * array. Blocks with NBT (chests, signs, ...) and entities are then placed
+ * through WorldEdit from the clipboard, under the same deadline, so their data
+ * is kept.
+ */
+public class SchematicPasteJob {
+
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+    private final Mine mine;
+    private final MineSchematic schematic;
+    private final CompiledSchematic compiled;
+    private final World world;
+    private final Consumer<Boolean> callback;
+
+    // World position of the schematic's min corner
+    private final int pasteMinX, pasteMinY, pasteMinZ;
+
+    private final List<Chunk> loadedChunks = new ArrayList<>();
+    private BlockData[] palette;
+    private Clipboard clipboard;
+    private List<? extends Entity> entities;
+    private final List<Entity> createdEntities = new ArrayList<>();
+
+    // Progress
+    private int cursor;
+    private int extrasCursor;
+    private long blocksPlaced;
+
+    // Metrics
+    private final long submittedAt = System.nanoTime();
+    private long chunksReadyAt;
+    private long nanosSpent;
+    private long maxSliceNanos;
+
+    public SchematicPasteJob(Mine mine, MineSchematic schematic, World world, BlockVector3 pasteMin,
+                             Consumer<Boolean> callback) {
+        this.mine = mine;
+        this.schematic = schematic;
+        this.compiled = schematic.getCompiled();
+        this.world = world;
+        this.callback = callback;
+        this.pasteMinX = pasteMin.getBlockX();
+        this.pasteMinY = pasteMin.getBlockY();
+        this.pasteMinZ = pasteMin.getBlockZ();
+    }
+
+    /**
+     * Called once all target chunks are loaded and held, and the clipboard is read.
+     *
+     * @param clipboard the schematic's clipboard, or null if the paste doesn't need it
+     */
+    void onChunksReady(List<Chunk> chunks, Clipboard clipboard) {
+        loadedChunks.addAll(chunks);
+        this.clipboard = clipboard;
+        chunksReadyAt = System.nanoTime();
+    }
+
+    /**
+     * Check whether this paste places NBT blocks or entities from the clipboard.
+     */
+    public boolean needsClipboard() {
+        return compiled.needsClipboard();
+    }
+
+    /**
+     * Paste blocks until the job completes or the deadline passes.
+     *
+     * @param deadlineNanos System.nanoTime() value to stop at
+     * @return true if the whole schematic has been pasted
+     */
+    public boolean run(long deadlineNanos) throws IOException {
+        long start = System.nanoTime();
+
+        if (palette == null) {
+            palette = compiled.getPalette();
+        }
+
+        int volume = compiled.getVolume();
+
+        // Same order as the compiled array: y outermost so the structure builds up from the floor
+        while (cursor < volume) {
+            BlockData data = palette[compiled.getBlock(cursor)];
+            world.getBlockAt(pasteMinX + compiled.xOf(cursor), pasteMinY + compiled.yOf(cursor),
+                    pasteMinZ + compiled.zOf(cursor)).setBlockData(data, false);
+            cursor++;
+            blocksPlaced++;
+
+            if (cursor % DEADLINE_CHECK_INTERVAL == 0 && cursor < volume && System.nanoTime() >= deadlineNanos) {
+                recordSlice(start);
+                return false;
+            }
+        }
+
+        if (compiled.needsClipboard() && !pasteExtras(deadlineNanos)) {
+            recordSlice(start);
+            return false;
+        }
+
+        recordSlice(start);
+        return true;
+    }
+
+    /**
+     * Place NBT blocks and entities, which the compiled array can't carry,
+     * until done or the deadline passes.
+     *
+     * @return true once every NBT block and entity has been placed
+     */
+    private boolean pasteExtras(long deadlineNanos) throws IOException {
+        if (clipboard == null) {
+            // Only when the queue is stopping before the async read finished
+            clipboard = schematic.getClipboard();
+        }
+        if (entities == null) {
+            entities = clipboard.getEntities();
+        }
+
+        com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
+        BlockVector3 clipMin = clipboard.getMinimumPoint();
+        int[] nbtIndices = compiled.getNbtIndices();
+        int total = nbtIndices.length + entities.size();
+
+        // These go through WorldEdit and cost far more than a plain block, so check the deadline after each
+        while (extrasCursor < total) {
+            if (extrasCursor < nbtIndices.length) {
+                pasteNbtBlock(weWorld, clipboard, clipMin, nbtIndices[extrasCursor]);
+            } else {
+                pasteEntity(weWorld, clipMin, entities.get(extrasCursor - nbtIndices.length));
+            }
+            extrasCursor++;
+
+            if (extrasCursor < total && System.nanoTime() >= deadlineNanos) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void pasteNbtBlock(com.sk89q.worldedit.world.World weWorld, Clipboard clipboard, BlockVector3 clipMin, int index) {
+        int dx = compiled.xOf(index), dy = compiled.yOf(index), dz = compiled.zOf(index);
+        BaseBlock block = clipboard.getFullBlock(clipMin.add(dx, dy, dz));
+        try {
+            weWorld.setBlock(BlockVector3.at(pasteMinX + dx, pasteMinY + dy, pasteMinZ + dz), block, SideEffectSet.none());
+        } catch (Exception ignored) {
+            // Keep the plain state already placed
+        }
+    }
+
+    private void pasteEntity(com.sk89q.worldedit.world.World weWorld, BlockVector3 clipMin, Entity entity) {
+        BaseEntity state = entity.getState();
+        if (state == null) {
+            return;
+        }
+
+        Vector3 position = entity.getLocation().toVector()
+                .subtract(clipMin.toVector3())
+                .add(pasteMinX, pasteMinY, pasteMinZ);
+        Entity created = weWorld.createEntity(new com.sk89q.worldedit.util.Location(weWorld, position), state);
+        if (created != null) {
+            createdEntities.add(created);
+        }
+    }
+
+    /**
+     * Remove everything this paste has placed so far, so a failed paste
+     * doesn't leave half a structure behind. Mines are pasted into the void
+     * world, so placed blocks go back to air.
+     */
+    void rollback() {
+        BlockData air = Material.AIR.createBlockData();
+        for (int i = 0; i < cursor; i++) {
+            world.getBlockAt(pasteMinX + compiled.xOf(i), pasteMinY + compiled.yOf(i),
+                    pasteMinZ + compiled.zOf(i)).setBlockData(air, false);
+        }
+        for (Entity entity : createdEntities) {
+            entity.remove();
+        }
+        createdEntities.clear();
+
+        cursor = 0;
+        extrasCursor = 0;
+        blocksPlaced = 0;
+    }
+
+    private void recordSlice(long start) {
+        long slice = System.nanoTime() - start;
+        nanosSpent += slice;
+        maxSliceNanos = Math.max(maxSliceNanos, slice);
+    }
+
+    /**
+     * Release the chunks held for this paste.
+     */
+    void releaseChunks(Plugin plugin) {
+        for (Chunk chunk : loadedChunks) {
+            chunk.removePluginChunkTicket(plugin);
+        }
+        loadedChunks.clear();
+    }
+
+    void complete(boolean success) {
+        if (callback != null) {
+            callback.accept(success);
+        }
+    }
+
+    public Mine getMine() {
+        return mine;
+    }
+
+    public MineSchematic getSchematic() {
+        return schematic;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public boolean isReady() {
+        return chunksReadyAt > 0;
+    }
+
+    public long getBlocksPlaced() {
+        return blocksPlaced;
+    }
+
+    /**
+     * Get the fraction of blocks pasted so far (0-1).
+     */
+    public double getProgress() {
+        int volume = compiled.getVolume();
+        return volume > 0 ? Math.min(1.0, cursor / (double) volume) : 1.0;
+    }
+
+    /**
+     * Get how long the target chunks took to load, in ms.
+     */
+    public double getChunkWaitMs() {
+        return chunksReadyAt > 0 ? (chunksReadyAt - submittedAt) / 1_000_000.0 : 0;
+    }
+
+    /**
+     * Get the time from submission until now, in ms.
+     */
+    public double getElapsedMs() {
+        return (System.nanoTime() - submittedAt) / 1_000_000.0;
+    }
+
+    /**
+     * Get the main-thread time spent pasting, in ms.
+     */
+    public double getPasteMs() {
+        return nanosSpent / 1_000_000.0;
+    }
+
+    /**
+     * Get the longest single slice, in ms.
+     */
+    public double getMaxSliceMs() {
+        return maxSliceNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,249 @@
+package com.luminary.mines.schematic;
+
+import com.luminary.mines.LuminaryMines;
+import com.sk89q.worldedit.extent.clipboard.Clipboard;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Runs mine schematic pastes in the background. Target chunks are loaded
+ * asynchronously first, and the schematic's clipboard is read off the main
+ * thread alongside them if the paste needs it; once both are in, the paste is
+ * applied in slices
+ * under a per-tick time budget, one job at a time in submission order. A paste
+ * that fails is cleared again before its callback runs.
+ */
+public class SchematicPasteQueue {
+
+    private final LuminaryMines plugin;
+    private final SchematicManager schematicManager;
+
+    private final List<SchematicPasteJob> loading = new ArrayList<>();
+    private final Deque<SchematicPasteJob> ready = new ArrayDeque<>();
+    private SchematicPasteJob current;
+    private BukkitTask tickTask;
+
+    // Metrics
+    private long completedPastes;
+    private double lastCreationMs;
+    private double lastChunkWaitMs;
+    private double lastPasteMs;
+    private double maxSliceMs;
+
+    public SchematicPasteQueue(LuminaryMines plugin, SchematicManager schematicManager) {
+        this.plugin = plugin;
+        this.schematicManager = schematicManager;
+    }
+
+    public void start() {
+        if (tickTask == null) {
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop the queue, finishing any queued pastes right away so no mine is left half built.
+     */
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+
+        List<SchematicPasteJob> remaining = new ArrayList<>();
+        if (current != null) {
+            remaining.add(current);
+            current = null;
+        }
+        remaining.addAll(ready);
+        remaining.addAll(loading);
+        ready.clear();
+        loading.clear();
+
+        for (SchematicPasteJob job : remaining) {
+            try {
+                job.run(Long.MAX_VALUE); // loads any missing chunks and the clipboard synchronously
+                finish(job, true);
+            } catch (Exception e) {
+                plugin.getLogger().severe("Failed to paste schematic: " + e.getMessage());
+                finish(job, false);
+            }
+        }
+    }
+
+    /**
+     * Queue a paste and start loading its chunks and, if needed, its clipboard.
+     */
+    public void submit(SchematicPasteJob job, int minX, int minZ, int maxX, int maxZ) {
+        start();
+        loading.add(job);
+
+        World world = job.getWorld();
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                futures.add(world.getChunkAtAsync(cx, cz));
+            }
+        }
+
+        // Reading the .schem file is disk and NBT parsing work, so keep it off the main thread too
+        CompletableFuture<Clipboard> clipboard = new CompletableFuture<>();
+        if (job.needsClipboard()) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                try {
+                    clipboard.complete(job.getSchematic().getClipboard());
+                } catch (Exception e) {
+                    clipboard.completeExceptionally(e);
+                }
+            });
+        } else {
+            clipboard.complete(null);
+        }
+
+        CompletableFuture<Void> chunksLoaded = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        chunksLoaded.thenCombine(clipboard, (ignored, loaded) -> loaded).whenComplete((loaded, error) -> {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> onChunksLoaded(job, futures, loaded, error));
+            }
+        });
+    }
+
+    private void onChunksLoaded(SchematicPasteJob job, List<CompletableFuture<Chunk>> futures, Clipboard clipboard,
+                                Throwable error) {
+        if (!loading.remove(job)) {
+            return; // already finished by stop()
+        }
+
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            plugin.getLogger().severe("Failed to load mine paste: " + cause.getMessage());
+            finish(job, false);
+            return;
+        }
+
+        // Hold the chunks until the paste is done
+        List<Chunk> chunks = new ArrayList<>(futures.size());
+        for (CompletableFuture<Chunk> future : futures) {
+            Chunk chunk = future.join();
+            chunk.addPluginChunkTicket(plugin);
+            chunks.add(chunk);
+        }
+        job.onChunksReady(chunks, clipboard);
+        ready.addLast(job);
+    }
+
+    /**
+     * Paste queued schematics until this tick's budget is spent.
+     */
+    private void tick() {
+        if (current == null && ready.isEmpty()) {
+            return;
+        }
+
+        long budgetNanos = (long) (plugin.getConfigManager().getPasteTickBudgetMs() * 1_000_000L);
+        long deadline = System.nanoTime() + Math.max(1_000_000L, budgetNanos);
+
+        while (System.nanoTime() < deadline) {
+            if (current == null) {
+                current = ready.pollFirst();
+                if (current == null) {
+                    break;
+                }
+            }
+
+            SchematicPasteJob job = current;
+            boolean done;
+            try {
+                done = job.run(deadline);
+            } catch (Exception e) {
+                plugin.getLogger().severe("Failed to paste schematic: " + e.getMessage());
+                current = null;
+                finish(job, false);
+                continue;
+            }
+
+            if (!done) {
+                break;
+            }
+            current = null;
+            finish(job, true);
+        }
+    }
+
+    private void finish(SchematicPasteJob job, boolean success) {
+        if (!success) {
+            // Clear the partial paste while its chunks are still held, before the mine is deleted
+            try {
+                job.rollback();
+            } catch (Exception e) {
+                plugin.getLogger().severe("Failed to clear partial paste for " + job.getMine().getOwnerName() + ": " + e.getMessage());
+            }
+        }
+        job.releaseChunks(plugin);
+
+        if (success) {
+            schematicManager.applyPastedBounds(job.getMine(), job.getSchematic());
+
+            completedPastes++;
+            lastCreationMs = job.getElapsedMs();
+            lastChunkWaitMs = job.getChunkWaitMs();
+            lastPasteMs = job.getPasteMs();
+            maxSliceMs = Math.max(maxSliceMs, job.getMaxSliceMs());
+
+            plugin.getLogger().info(String.format("Pasted %s for %s - %d blocks (%.1f ms total, %.1f ms chunk load, %.1f ms pasting, %.1f ms max slice)",
+                    job.getSchematic().getName(), job.getMine().getOwnerName(), job.getBlocksPlaced(),
+                    lastCreationMs, lastChunkWaitMs, lastPasteMs, job.getMaxSliceMs()));
+        }
+
+        job.complete(success);
+    }
+
+    /**
+     * Get the number of pastes waiting for chunks, queued or running.
+     */
+    public int getPendingCount() {
+        return loading.size() + ready.size() + (current != null ? 1 : 0);
+    }
+
+    /**
+     * Get the paste currently being applied, or null.
+     */
+    public SchematicPasteJob getCurrentJob() {
+        return current;
+    }
+
+    public long getCompletedPastes() {
+        return completedPastes;
+    }
+
+    /**
+     * Get the time from request to finished paste for the last mine created, in ms.
+     */
+    public double getLastCreationMs() {
+        return lastCreationMs;
+    }
+
+    public double getLastChunkWaitMs() {
+        return lastChunkWaitMs;
+    }
+
+    public double getLastPasteMs() {
+        return lastPasteMs;
+    }
+
+    /**
+     * Get the longest main-thread slice spent pasting, in ms.
+     */
+    public double getMaxSliceMs() {
+        return maxSliceMs;
+    }
+}